@@ -0,0 +1,51 @@
+package shop.buzzle.buzzle.quiz.application;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QuizParserBenchmark {
+
+    private final String bracketFormat =
+            "[문제: 대한민국의 수도는 어디인가요? , 1. 부산 , 2. 서울 , 3. 대구 , 4. 인천 , 정답: 2]";
+
+    private final String newlineFormat = """
+            문제: 물은 섭씨 몇 도에서 끓나요?
+            1. 80도
+            2. 90도
+            3. 100도
+            4. 110도
+            정답: 3
+            """;
+
+    private final String fullWidthFormat = """
+            문제： 태양계에서 가장 큰 행성은?
+            １） 지구
+            ２） 화성
+            ３） 목성
+            ４） 토성
+            정답： ３번
+            """;
+
+    @Benchmark
+    public QuizParseResult bracketFormat() {
+        return QuizParser.parse(bracketFormat);
+    }
+
+    @Benchmark
+    public QuizParseResult newlineFormat() {
+        return QuizParser.parse(newlineFormat);
+    }
+
+    @Benchmark
+    public QuizParseResult fullWidthFormat() {
+        return QuizParser.parse(fullWidthFormat);
+    }
+}
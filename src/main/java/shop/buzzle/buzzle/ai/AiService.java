@@ -1,5 +1,6 @@
 package shop.buzzle.buzzle.ai;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.ai.chat.ChatClient;
 import org.springframework.ai.chat.ChatResponse;
@@ -13,15 +14,16 @@ import shop.buzzle.buzzle.ai.dto.AiResponseDto;
 @RequiredArgsConstructor
 public class AiService {
 
+    private static final String MODEL = "gpt-4o";
+
     private final ChatClient chatClient;
+    private final LlmMetrics llmMetrics;
 
     // AI에게 조언 구하기
     @Transactional
     public AiResponseDto askForAdvice(){
+        // 타임아웃, 헤징, 빈 응답 처리는 ResilientChatClient 에서 담당
         ChatResponse response = callChat();
-        if (response == null) {
-            response = callChat();
-        }
 
         return AiResponseDto.builder()
                 .answer(response.getResult().getOutput().getContent()).build();
@@ -30,15 +32,24 @@ public class AiService {
 
     // AI 응답 메서드
     private ChatResponse callChat() {
-        return chatClient.call(
-                new Prompt(
-                        ("너 gpt 버전 몇이야? 3.5야 4이야. 4라면 4o야 아니면 mini야?"
-                        ),
-                        OpenAiChatOptions.builder()
-                                .withTemperature(0.4F)
-                                .withFrequencyPenalty(0.7F)
-                                .withModel("gpt-4o")
-                                .build()
-                ));
+        Timer.Sample sample = llmMetrics.startCall();
+        boolean success = false;
+        try {
+            ChatResponse response = chatClient.call(
+                    new Prompt(
+                            ("너 gpt 버전 몇이야? 3.5야 4이야. 4라면 4o야 아니면 mini야?"
+                            ),
+                            OpenAiChatOptions.builder()
+                                    .withTemperature(0.4F)
+                                    .withFrequencyPenalty(0.7F)
+                                    .withModel(MODEL)
+                                    .build()
+                    ));
+            llmMetrics.recordUsage(LlmMetrics.NO_CATEGORY, MODEL, response);
+            success = true;
+            return response;
+        } finally {
+            llmMetrics.recordCall(sample, "advice", LlmMetrics.NO_CATEGORY, MODEL, success);
+        }
     }
 }
@@ -0,0 +1,167 @@
+package shop.buzzle.buzzle.ai;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * LLM 호출 서킷 브레이커.
+ * 최근 window-size 번의 호출 중 실패(타임아웃 포함) 비율이 임계치를 넘으면 OPEN 으로 전환해 호출을 막고,
+ * open-duration 이 지나면 HALF_OPEN 에서 한 번의 시험 호출 결과로 CLOSED 또는 OPEN 을 결정한다.
+ */
+@Slf4j
+@Component
+public class ChatCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    @Value("${ai.chat.breaker.window-size:20}")
+    private int windowSize;
+
+    @Value("${ai.chat.breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${ai.chat.breaker.failure-rate-threshold:0.5}")
+    private double failureRateThreshold;
+
+    @Value("${ai.chat.breaker.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    // 최근 호출 결과 (true = 실패) 링 버퍼
+    private boolean[] outcomes;
+    private int outcomeCount;
+    private int outcomeCursor;
+    private int failureCount;
+
+    private final Map<State, AtomicLong> transitions = new EnumMap<>(State.class);
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ChatCircuitBreaker() {
+        for (State s : State.values()) {
+            transitions.put(s, new AtomicLong());
+        }
+    }
+
+    /**
+     * 호출 가능 여부만 확인한다. 시험 호출 슬롯을 차지하지 않는다.
+     */
+    public synchronized boolean isCallPermitted() {
+        return state == State.CLOSED
+                || (state == State.OPEN && openElapsed())
+                || (state == State.HALF_OPEN && !trialInFlight);
+    }
+
+    /**
+     * 호출을 시작해도 되는지 확인하고, HALF_OPEN 이면 시험 호출 슬롯을 차지한다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && openElapsed()) {
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && !trialInFlight) {
+            trialInFlight = true;
+            return true;
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+            resetWindow();
+            transitionTo(State.CLOSED);
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+            open();
+            return;
+        }
+        if (state != State.CLOSED) {
+            return;
+        }
+        record(true);
+        if (outcomeCount >= minimumCalls && (double) failureCount / outcomeCount >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * 결과를 알 수 없이 끝난 호출(호출자가 취소한 스트리밍 등). 기록하지 않고 시험 호출 슬롯만 돌려준다.
+     */
+    public synchronized void onCancel() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public long transitionCount(State target) {
+        return transitions.get(target).get();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    private void record(boolean failed) {
+        if (outcomes == null) {
+            outcomes = new boolean[windowSize];
+        }
+        if (outcomeCount == windowSize) {
+            if (outcomes[outcomeCursor]) {
+                failureCount--;
+            }
+        } else {
+            outcomeCount++;
+        }
+        outcomes[outcomeCursor] = failed;
+        if (failed) {
+            failureCount++;
+        }
+        outcomeCursor = (outcomeCursor + 1) % windowSize;
+    }
+
+    private void open() {
+        openedAt = System.currentTimeMillis();
+        resetWindow();
+        transitionTo(State.OPEN);
+    }
+
+    private void resetWindow() {
+        outcomeCount = 0;
+        outcomeCursor = 0;
+        failureCount = 0;
+    }
+
+    private boolean openElapsed() {
+        return System.currentTimeMillis() - openedAt >= openDurationMs;
+    }
+
+    private void transitionTo(State target) {
+        if (state == target) {
+            return;
+        }
+        log.warn("🔌 [AI_CIRCUIT_{}] {} -> {}", target, state, target);
+        state = target;
+        transitions.get(target).incrementAndGet();
+    }
+}
@@ -0,0 +1,133 @@
+package shop.buzzle.buzzle.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.stereotype.Component;
+
+/**
+ * LLM 호출 지표.
+ * - buzzle.llm.call (timer): 호출 한 번의 소요 시간. source(quiz, quiz-stream, advice), category, model, outcome 태그
+ * - buzzle.quiz.parse (counter): 파싱 결과. outcome 은 success 또는 실패 사유
+ * - buzzle.quiz.parse.retries (counter): 형식 오류로 다시 요청한 횟수
+ * - buzzle.llm.tokens, buzzle.llm.tokens.per.call (gauge): category, model 별 누적 토큰 수와 호출당 평균
+ */
+@Component
+@RequiredArgsConstructor
+public class LlmMetrics {
+
+    public static final String NO_CATEGORY = "NONE";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, TokenUsage> tokenUsages = new ConcurrentHashMap<>();
+
+    public Timer.Sample startCall() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordCall(Timer.Sample sample, String source, String category, String model, boolean success) {
+        sample.stop(Timer.builder("buzzle.llm.call")
+                .description("LLM 호출 시간")
+                .tag("source", source)
+                .tag("category", category)
+                .tag("model", model)
+                .tag("outcome", success ? "success" : "failure")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+    }
+
+    public void recordParse(String category, String outcome) {
+        Counter.builder("buzzle.quiz.parse")
+                .description("퀴즈 파싱 결과")
+                .tag("category", category)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordParseRetry(String category) {
+        Counter.builder("buzzle.quiz.parse.retries")
+                .description("파싱 실패로 다시 요청한 횟수")
+                .tag("category", category)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // 스트리밍 응답처럼 사용량 정보가 없으면 호출 수만 센다
+    public void recordUsage(String category, String model, ChatResponse response) {
+        TokenUsage usage = tokenUsages.computeIfAbsent(category + "|" + model, key -> register(category, model));
+        usage.calls.incrementAndGet();
+
+        Usage metadata = response != null && response.getMetadata() != null ? response.getMetadata().getUsage() : null;
+        if (metadata == null) {
+            return;
+        }
+        usage.promptTokens.addAndGet(valueOf(metadata.getPromptTokens()));
+        usage.generationTokens.addAndGet(valueOf(metadata.getGenerationTokens()));
+    }
+
+    public List<TokenUsageStats> tokenUsage() {
+        List<TokenUsageStats> stats = new ArrayList<>(tokenUsages.size());
+        tokenUsages.values().forEach(usage -> stats.add(new TokenUsageStats(
+                usage.category,
+                usage.model,
+                usage.calls.get(),
+                usage.promptTokens.get(),
+                usage.generationTokens.get()
+        )));
+        return stats;
+    }
+
+    private TokenUsage register(String category, String model) {
+        TokenUsage usage = new TokenUsage(category, model);
+        Gauge.builder("buzzle.llm.tokens", usage, u -> u.promptTokens.get())
+                .description("누적 토큰 사용량")
+                .tags("category", category, "model", model, "type", "prompt")
+                .register(meterRegistry);
+        Gauge.builder("buzzle.llm.tokens", usage, u -> u.generationTokens.get())
+                .description("누적 토큰 사용량")
+                .tags("category", category, "model", model, "type", "generation")
+                .register(meterRegistry);
+        Gauge.builder("buzzle.llm.tokens.per.call", usage, TokenUsage::perCall)
+                .description("호출당 평균 토큰 사용량")
+                .tags("category", category, "model", model)
+                .register(meterRegistry);
+        return usage;
+    }
+
+    private static long valueOf(Long tokens) {
+        return tokens != null ? tokens : 0;
+    }
+
+    public record TokenUsageStats(String category, String model, long calls, long promptTokens,
+                                  long generationTokens) {
+    }
+
+    private static class TokenUsage {
+        private final String category;
+        private final String model;
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong promptTokens = new AtomicLong();
+        private final AtomicLong generationTokens = new AtomicLong();
+
+        private TokenUsage(String category, String model) {
+            this.category = category;
+            this.model = model;
+        }
+
+        private double perCall() {
+            long count = calls.get();
+            return count == 0 ? 0 : (double) (promptTokens.get() + generationTokens.get()) / count;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package shop.buzzle.buzzle.ai;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.ChatClient;
+import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.Generation;
+import org.springframework.ai.chat.StreamingChatClient;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * OpenAI 없이 게임 흐름을 돌려보기 위한 로컬 ChatClient (offline 프로필).
+ * 응답 지연은 설정한 중앙값/p99 를 따르는 로그정규분포에서 뽑고, 설정한 비율로 실패와 장시간 멈춤을 흉내 낸다.
+ * 퀴즈는 한 줄 형식("[문제: .., 1. .., 정답: 3]")과 줄바꿈 형식을 섞어서 돌려준다.
+ */
+@Slf4j
+@Profile("offline")
+@Component("chatDelegate")
+public class OfflineChatClient implements ChatClient, StreamingChatClient {
+
+    private static final Pattern REQUESTED_COUNT = Pattern.compile("퀴즈를\\s*(\\d+)\\s*개");
+    private static final String BLOCK_DELIMITER = "###";
+    private static final double Z_99 = 2.326;
+
+    private static final List<CannedQuiz> CANNED_QUIZZES = List.of(
+            new CannedQuiz("조선을 건국한 왕은 누구인가요?", "세종", "태조", "태종", "정조", 2),
+            new CannedQuiz("물의 화학식은 무엇인가요?", "CO2", "O2", "H2O", "NaCl", 3),
+            new CannedQuiz("대한민국의 수도는 어디인가요?", "서울", "부산", "대전", "광주", 1),
+            new CannedQuiz("축구 경기에서 한 팀의 선수는 몇 명인가요?", "9명", "10명", "12명", "11명", 4),
+            new CannedQuiz("태양계에서 가장 큰 행성은 무엇인가요?", "토성", "목성", "해왕성", "지구", 2),
+            new CannedQuiz("훈민정음을 반포한 왕은 누구인가요?", "세종", "세조", "성종", "영조", 1),
+            new CannedQuiz("1,000원짜리 지폐에 그려진 인물은 누구인가요?", "이이", "이황", "세종", "신사임당", 2),
+            new CannedQuiz("빛의 삼원색이 아닌 것은 무엇인가요?", "빨강", "초록", "노랑", "파랑", 3)
+    );
+
+    @Value("${ai.offline.latency-median-ms:800}")
+    private long latencyMedianMs;
+
+    @Value("${ai.offline.latency-p99-ms:3000}")
+    private long latencyP99Ms;
+
+    @Value("${ai.offline.error-rate:0.0}")
+    private double errorRate;
+
+    // 응답이 stall-ms 동안 멈추는 비율 (OpenAI 의 30초 이상 지연 재현용)
+    @Value("${ai.offline.stall-rate:0.0}")
+    private double stallRate;
+
+    @Value("${ai.offline.stall-ms:30000}")
+    private long stallMs;
+
+    // 한 줄 형식으로 응답하는 비율 (나머지는 줄바꿈 형식)
+    @Value("${ai.offline.inline-format-ratio:0.5}")
+    private double inlineFormatRatio;
+
+    @Value("${ai.offline.stream-chunk-chars:16}")
+    private int streamChunkChars;
+
+    @Value("${ai.offline.seed:0}")
+    private long seed;
+
+    private Random random;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        long latency = sampleLatencyMs();
+        boolean fail = chance(errorRate);
+        sleep(latency);
+        if (fail) {
+            throw new IllegalStateException("offline chat client: injected failure");
+        }
+        return new ChatResponse(List.of(new Generation(render(nextQuiz(), chance(inlineFormatRatio)))));
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        return Flux.defer(() -> {
+            int count = requestedCount(prompt);
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                text.append(render(nextQuiz(), false)).append('\n').append(BLOCK_DELIMITER).append('\n');
+            }
+
+            List<String> chunks = new ArrayList<>();
+            for (int start = 0; start < text.length(); start += streamChunkChars) {
+                chunks.add(text.substring(start, Math.min(text.length(), start + streamChunkChars)));
+            }
+
+            // 첫 토큰까지의 지연 이후, 전체 응답 시간(퀴즈 개수 x 단건 지연)에 걸쳐 조각을 나눠 보낸다
+            long firstTokenMs = sampleLatencyMs();
+            long perChunkMs = Math.max(1, firstTokenMs * count / Math.max(1, chunks.size()));
+            boolean fail = chance(errorRate);
+
+            Flux<ChatResponse> responses = Flux.fromIterable(chunks)
+                    .delayElements(Duration.ofMillis(perChunkMs))
+                    .map(chunk -> new ChatResponse(List.of(new Generation(chunk))));
+            if (fail) {
+                responses = responses.take(chunks.size() / 2)
+                        .concatWith(Mono.error(new IllegalStateException("offline chat client: injected stream failure")));
+            }
+            return Mono.delay(Duration.ofMillis(firstTokenMs)).thenMany(responses);
+        });
+    }
+
+    private CannedQuiz nextQuiz() {
+        long n = sequence.incrementAndGet();
+        CannedQuiz base = CANNED_QUIZZES.get((int) (n % CANNED_QUIZZES.size()));
+        // 퀴즈 뱅크의 중복 제거에 걸리지 않도록 문제마다 번호를 붙인다
+        return base.numbered(n);
+    }
+
+    private static String render(CannedQuiz quiz, boolean inline) {
+        if (inline) {
+            return "[문제: " + quiz.question() + ", 1. " + quiz.option1() + ", 2. " + quiz.option2()
+                    + ", 3. " + quiz.option3() + ", 4. " + quiz.option4() + ", 정답: " + quiz.answer() + "]";
+        }
+        return "문제: " + quiz.question() + "\n1. " + quiz.option1() + "\n2. " + quiz.option2()
+                + "\n3. " + quiz.option3() + "\n4. " + quiz.option4() + "\n정답: " + quiz.answer();
+    }
+
+    private static int requestedCount(Prompt prompt) {
+        Matcher matcher = REQUESTED_COUNT.matcher(prompt.getContents());
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : 1;
+    }
+
+    private long sampleLatencyMs() {
+        if (chance(stallRate)) {
+            return stallMs;
+        }
+        double mu = Math.log(Math.max(1, latencyMedianMs));
+        double sigma = Math.max(0, (Math.log(Math.max(latencyMedianMs, latencyP99Ms)) - mu) / Z_99);
+        return Math.round(Math.exp(mu + sigma * random().nextGaussian()));
+    }
+
+    private boolean chance(double rate) {
+        return rate > 0 && random().nextDouble() < rate;
+    }
+
+    private synchronized Random random() {
+        if (random == null) {
+            random = seed != 0 ? new Random(seed) : new Random();
+        }
+        return random;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("offline chat client: interrupted", e);
+        }
+    }
+
+    private record CannedQuiz(String question, String option1, String option2, String option3, String option4,
+                              int answer) {
+
+        private CannedQuiz numbered(long n) {
+            return new CannedQuiz(question + " (#" + n + ")", option1, option2, option3, option4, answer);
+        }
+    }
+}
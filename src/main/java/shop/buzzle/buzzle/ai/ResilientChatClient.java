@@ -0,0 +1,249 @@
+package shop.buzzle.buzzle.ai;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.ChatClient;
+import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import shop.buzzle.buzzle.ai.exception.AiUnavailableException;
+
+/**
+ * OpenAI 호출에 호출 단위 타임아웃, 헤징(hedged request), 서킷 브레이커를 적용한 ChatClient.
+ * 첫 요청이 최근 응답 시간의 p95 안에 끝나지 않으면 같은 요청을 한 번 더 보내고 먼저 끝난 응답을 사용한다.
+ * 응답 시간 표본이 쌓이기 전에는 p95 를 알 수 없으므로 헤징하지 않는다.
+ * ChatClient 를 주입받는 곳은 모두 이 구현을 사용하며, 실제 호출은 chatDelegate 빈(OpenAI 또는 오프라인 구현)에 위임한다.
+ */
+@Slf4j
+@Primary
+@Component
+public class ResilientChatClient implements ChatClient {
+
+    private static final int LATENCY_SAMPLES = 128;
+    private static final int MIN_SAMPLES_FOR_PERCENTILE = 20;
+    private static final int PRIMARY = 1;
+    private static final int HEDGE = 2;
+
+    private final ChatClient delegate;
+    private final ChatCircuitBreaker circuitBreaker;
+
+    @Value("${ai.chat.call-timeout-ms:10000}")
+    private long callTimeoutMs;
+
+    @Value("${ai.chat.max-concurrency:32}")
+    private int maxConcurrency;
+
+    @Value("${ai.chat.hedge.enabled:true}")
+    private boolean hedgeEnabled;
+
+    @Value("${ai.chat.hedge.percentile:0.95}")
+    private double hedgePercentile;
+
+    // p95 가 너무 짧을 때 사용할 최소 헤징 지연
+    @Value("${ai.chat.hedge.min-delay-ms:1500}")
+    private long hedgeMinDelayMs;
+
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int latencyCount;
+    private int latencyCursor;
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong successes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong hedged = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+
+    private ExecutorService executor;
+
+    public ResilientChatClient(@Qualifier("chatDelegate") ChatClient delegate, ChatCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "ai-chat-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new AiUnavailableException("AI 호출이 일시적으로 차단되었습니다.");
+        }
+        calls.incrementAndGet();
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(callTimeoutMs);
+        HedgedCall hedgedCall = new HedgedCall(prompt);
+
+        try {
+            hedgedCall.launch(false);
+            ChatResponse response;
+            long hedgeDelay = hedgeDelayNanos();
+            if (hedgeEnabled && hedgeDelay < deadline - startedAt) {
+                try {
+                    response = hedgedCall.result.get(hedgeDelay, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    hedged.incrementAndGet();
+                    hedgedCall.launch(true);
+                    response = hedgedCall.result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                }
+            } else {
+                response = hedgedCall.result.get(callTimeoutMs, TimeUnit.MILLISECONDS);
+            }
+
+            if (response == null || response.getResult() == null) {
+                throw new ExecutionException(new IllegalStateException("빈 응답"));
+            }
+
+            if (hedgedCall.hedgeWon()) {
+                hedgeWins.incrementAndGet();
+            }
+            recordLatency(System.nanoTime() - startedAt);
+            successes.incrementAndGet();
+            circuitBreaker.onSuccess();
+            return response;
+        } catch (TimeoutException e) {
+            timeouts.incrementAndGet();
+            circuitBreaker.onFailure();
+            log.warn("⏱️ [AI_CALL_TIMEOUT] Timeout: {}ms, Hedged: {}", callTimeoutMs, hedgedCall.attempts.size() > 1);
+            throw new AiUnavailableException("AI 응답 시간이 초과되었습니다.", e);
+        } catch (ExecutionException e) {
+            failures.incrementAndGet();
+            circuitBreaker.onFailure();
+            throw new AiUnavailableException("AI 호출에 실패했습니다: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onFailure();
+            throw new AiUnavailableException("AI 호출이 중단되었습니다.", e);
+        } finally {
+            hedgedCall.cancel();
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(
+                circuitBreaker.state(),
+                calls.get(),
+                successes.get(),
+                failures.get(),
+                timeouts.get(),
+                circuitBreaker.rejectedCount(),
+                hedged.get(),
+                hedgeWins.get(),
+                TimeUnit.NANOSECONDS.toMillis(percentileNanos(hedgePercentile)),
+                circuitBreaker.transitionCount(ChatCircuitBreaker.State.OPEN),
+                circuitBreaker.transitionCount(ChatCircuitBreaker.State.HALF_OPEN),
+                circuitBreaker.transitionCount(ChatCircuitBreaker.State.CLOSED)
+        );
+    }
+
+    // 표본이 부족하면 헤징하지 않도록 Long.MAX_VALUE
+    private long hedgeDelayNanos() {
+        long percentile = percentileNanos(hedgePercentile);
+        if (percentile == 0) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(TimeUnit.MILLISECONDS.toNanos(hedgeMinDelayMs), percentile);
+    }
+
+    private synchronized void recordLatency(long nanos) {
+        latencies[latencyCursor] = nanos;
+        latencyCursor = (latencyCursor + 1) % LATENCY_SAMPLES;
+        latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+    }
+
+    // 표본이 부족하면 0
+    private synchronized long percentileNanos(double percentile) {
+        if (latencyCount < MIN_SAMPLES_FOR_PERCENTILE) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * latencyCount) - 1;
+        return sorted[Math.max(0, Math.min(index, latencyCount - 1))];
+    }
+
+    /**
+     * 한 번의 call 에 대해 보낸 요청들(최초 요청 + 헤지 요청). 먼저 성공한 응답으로 result 를 완료하고,
+     * 모든 요청이 실패했을 때만 실패로 완료한다.
+     */
+    private class HedgedCall {
+        private final Prompt prompt;
+        private final CompletableFuture<ChatResponse> result = new CompletableFuture<>();
+        private final List<Future<?>> attempts = new ArrayList<>(2);
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicInteger winner = new AtomicInteger();
+
+        private HedgedCall(Prompt prompt) {
+            this.prompt = prompt;
+        }
+
+        private void launch(boolean hedge) {
+            pending.incrementAndGet();
+            attempts.add(executor.submit(() -> {
+                try {
+                    ChatResponse response = delegate.call(prompt);
+                    if (winner.compareAndSet(0, hedge ? HEDGE : PRIMARY)) {
+                        result.complete(response);
+                    }
+                } catch (Exception e) {
+                    if (pending.decrementAndGet() == 0) {
+                        result.completeExceptionally(e);
+                    }
+                }
+            }));
+        }
+
+        private boolean hedgeWon() {
+            return winner.get() == HEDGE;
+        }
+
+        private void cancel() {
+            attempts.forEach(attempt -> attempt.cancel(true));
+        }
+    }
+
+    public record Stats(
+            ChatCircuitBreaker.State state,
+            long calls,
+            long successes,
+            long failures,
+            long timeouts,
+            long rejected,
+            long hedged,
+            long hedgeWins,
+            long latencyP95Ms,
+            long openedCount,
+            long halfOpenedCount,
+            long closedCount
+    ) {
+    }
+}
@@ -0,0 +1,12 @@
+package shop.buzzle.buzzle.ai.exception;
+
+public class AiUnavailableException extends RuntimeException {
+
+    public AiUnavailableException(String message) {
+        super(message);
+    }
+
+    public AiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,33 @@
+package shop.buzzle.buzzle.game.api;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import shop.buzzle.buzzle.game.application.GameDrainCoordinator;
+
+/**
+ * GET /actuator/drain : 정리 진행 상황 (남은 게임 수, 인계한 게임 수)
+ * POST /actuator/drain : 정리를 시작한다. 끝날 때까지 기다리지 않고 현재 상태를 반환한다
+ * 인증이 없으므로 관리 포트(management.server.port, 기본 127.0.0.1:8081)에만 열린다
+ */
+@Component
+@Endpoint(id = "drain")
+@RequiredArgsConstructor
+public class GameDrainEndpoint {
+
+    private final GameDrainCoordinator drainCoordinator;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return drainCoordinator.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> start() {
+        drainCoordinator.startDrain();
+        return drainCoordinator.status();
+    }
+}
@@ -0,0 +1,29 @@
+package shop.buzzle.buzzle.game.api;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+import shop.buzzle.buzzle.game.journal.GameJournal;
+import shop.buzzle.buzzle.game.journal.JournalRecord;
+
+/**
+ * /actuator/journal/{roomId} : 보관 중인 저널에서 한 방의 기록(문제, 답안, 답안 시간, 시간 종료, 결과)을 순서대로 보여 준다.
+ * 공정성 문의가 오면 이 기록으로 게임을 다시 따라간다. 기록이 없으면 404
+ * 플레이어 이메일과 답안이 그대로 보이므로 관리 포트(management.server.port)에만 열린다
+ */
+@Component
+@Endpoint(id = "journal")
+@RequiredArgsConstructor
+public class GameJournalEndpoint {
+
+    private final GameJournal journal;
+
+    @ReadOperation
+    public List<JournalRecord> replay(@Selector String roomId) {
+        List<JournalRecord> records = journal.replay(roomId);
+        return records.isEmpty() ? null : records;
+    }
+}
@@ -0,0 +1,44 @@
+package shop.buzzle.buzzle.game.api;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+import shop.buzzle.buzzle.game.application.GameClock;
+import shop.buzzle.buzzle.game.application.GameResultWriter;
+import shop.buzzle.buzzle.game.application.GameTelemetry;
+import shop.buzzle.buzzle.game.application.RoomExecutor;
+
+/**
+ * /actuator/games : 게임 방별 지연 시간 요약과 메일박스, 타이머, 결과 반영 대기 현황
+ * /actuator/games/{roomId} : 한 방의 지연 시간 분포와 플레이어별 답안 시간 (ms). 플레이어는 이메일이 아닌 방 안 번호로 보여 준다
+ */
+@Component
+@Endpoint(id = "games")
+@RequiredArgsConstructor
+public class GameTelemetryEndpoint {
+
+    private final GameTelemetry telemetry;
+    private final RoomExecutor roomExecutor;
+    private final GameClock gameClock;
+    private final GameResultWriter gameResultWriter;
+
+    @ReadOperation
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("activeMailboxes", roomExecutor.activeRooms());
+        summary.put("pendingTimers", gameClock.pendingCount());
+        summary.put("pendingResults", gameResultWriter.pendingCount());
+        summary.put("rooms", telemetry.rooms());
+        return summary;
+    }
+
+    // 기록이 없거나 보관 시간이 지난 방이면 404
+    @ReadOperation
+    public GameTelemetry.RoomStats room(@Selector String roomId) {
+        return telemetry.roomStats(roomId);
+    }
+}
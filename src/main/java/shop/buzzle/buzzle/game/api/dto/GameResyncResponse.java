@@ -0,0 +1,35 @@
+package shop.buzzle.buzzle.game.api.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재접속한 플레이어 한 명에게만 보내는 현재 게임 상태.
+ * phase 가 QUESTION 이면 문제와 남은 시간(ms)을, LOADING 이면 다음 문제를 기다리는 중임을 뜻한다.
+ * seq 는 이 상태가 반영된 마지막 BATCH 순번으로, 클라이언트는 seq 이하의 BATCH 를 버리면 된다.
+ */
+public record GameResyncResponse(
+        String type,
+        String phase,
+        long seq,
+        int questionIndex,
+        int totalQuestions,
+        String question,
+        List<String> options,
+        long remainingMs,
+        long serverTime,
+        Map<String, Integer> scores
+) {
+    public static GameResyncResponse question(long seq, int questionIndex, int totalQuestions, String question,
+                                              List<String> options, long deadline, Map<String, Integer> scores) {
+        long now = System.currentTimeMillis();
+        return new GameResyncResponse("RESYNC", "QUESTION", seq, questionIndex, totalQuestions, question, options,
+                Math.max(0, deadline - now), now, scores);
+    }
+
+    public static GameResyncResponse loading(long seq, int questionIndex, int totalQuestions,
+                                             Map<String, Integer> scores) {
+        return new GameResyncResponse("RESYNC", "LOADING", seq, questionIndex, totalQuestions, null, List.of(),
+                0, System.currentTimeMillis(), scores);
+    }
+}
@@ -0,0 +1,16 @@
+package shop.buzzle.buzzle.game.api.dto;
+
+import java.util.List;
+
+/**
+ * 상태 변화 한 번에서 나온 이벤트들을 묶은 프레임. seq 는 방(destination)마다 1 부터 증가한다.
+ */
+public record WebSocketBatchResponse(
+        String type,
+        long seq,
+        List<Object> events
+) {
+    public static WebSocketBatchResponse of(long seq, List<Object> events) {
+        return new WebSocketBatchResponse("BATCH", seq, events);
+    }
+}
@@ -0,0 +1,29 @@
+package shop.buzzle.buzzle.game.application;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 서버가 배포 전 정리(drain) 중인지. 정리 중에는 새 방, 매칭, 게임 시작을 받지 않고 진행 중인 게임만 마무리한다.
+ * 시작과 인계는 GameDrainCoordinator 가 맡는다.
+ */
+@Component
+public class DrainState {
+
+    private volatile long drainStartedAt;
+
+    public boolean isDraining() {
+        return drainStartedAt != 0;
+    }
+
+    public long drainStartedAt() {
+        return drainStartedAt;
+    }
+
+    synchronized boolean begin() {
+        if (isDraining()) {
+            return false;
+        }
+        drainStartedAt = System.currentTimeMillis();
+        return true;
+    }
+}
@@ -0,0 +1,17 @@
+package shop.buzzle.buzzle.game.application;
+
+/**
+ * 서버를 내리기 전에 정리할 게임을 가진 서비스. GameDrainCoordinator 가 모든 구현을 차례로 정리한다.
+ */
+public interface DrainableGames {
+
+    String kind();
+
+    int activeGames();
+
+    /**
+     * 아직 끝나지 않은 게임을 GameHandoffStore 에 저장하고 이 서버에서는 정리한다. 저장한 게임 수를 반환한다.
+     * 방 메일박스에서 저장하므로 반환할 때는 모든 방의 저장이 끝나 있다.
+     */
+    int handOff();
+}
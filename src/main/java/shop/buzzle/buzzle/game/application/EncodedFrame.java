@@ -0,0 +1,54 @@
+package shop.buzzle.buzzle.game.application;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.util.RawValue;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 한 번 JSON 으로 직렬화해 둔 프레임. 여러 번 보내도 다시 직렬화하지 않고 같은 바이트를 쓴다.
+ * BATCH 프레임 안에 들어갈 때는 JSON 그대로 끼워 넣는다.
+ */
+public final class EncodedFrame {
+
+    private final byte[] json;
+
+    // 필드를 덧붙일 위치 (덧붙일 객체를 닫는 중괄호들 바로 앞)
+    private final int insertAt;
+
+    private EncodedFrame(byte[] json, int insertAt) {
+        this.json = json;
+        this.insertAt = insertAt;
+    }
+
+    /**
+     * closingBraces: 필드를 덧붙일 객체가 끝에서 몇 번째 닫는 중괄호인지 (최상위 객체면 1, 마지막 필드의 객체면 2)
+     */
+    static EncodedFrame of(byte[] json, int closingBraces) {
+        return new EncodedFrame(json, json.length - closingBraces);
+    }
+
+    public byte[] bytes() {
+        return json;
+    }
+
+    /**
+     * 숫자 필드를 덧붙인 새 프레임을 만든다. 다시 직렬화하지 않고 바이트만 이어 붙인다.
+     */
+    public EncodedFrame withFields(Map<String, Long> fields) {
+        StringBuilder extra = new StringBuilder();
+        fields.forEach((name, value) -> extra.append(",\"").append(name).append("\":").append(value));
+        byte[] extraBytes = extra.toString().getBytes(StandardCharsets.UTF_8);
+
+        byte[] merged = new byte[json.length + extraBytes.length];
+        System.arraycopy(json, 0, merged, 0, insertAt);
+        System.arraycopy(extraBytes, 0, merged, insertAt, extraBytes.length);
+        System.arraycopy(json, insertAt, merged, insertAt + extraBytes.length, json.length - insertAt);
+        return new EncodedFrame(merged, insertAt + extraBytes.length);
+    }
+
+    @JsonValue
+    public RawValue raw() {
+        return new RawValue(new String(json, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,369 @@
+package shop.buzzle.buzzle.game.application;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 게임 방이 함께 쓰는 타이머 (hashed timing wheel).
+ * 예약과 취소는 O(1) 이고, 틱 스레드 하나가 만료된 작업을 골라 작업 스레드로 넘긴다.
+ * 방 단위로 예약을 묶어 두므로 방이 끝나거나 문제가 넘어갈 때 cancelRoom 으로 한 번에 취소할 수 있다.
+ */
+@Slf4j
+@Component
+public class GameClock {
+
+    @Value("${game.clock.tick-ms:100}")
+    private long tickMs;
+
+    @Value("${game.clock.wheel-size:512}")
+    private int wheelSize;
+
+    @Value("${game.clock.workers:4}")
+    private int workers;
+
+    private Bucket[] wheel;
+    private int mask;
+    private long tickNanos;
+    private long startedAt;
+
+    // 틱 스레드로 넘기기 전의 예약/취소 요청
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final Map<String, Room> rooms = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private Thread tickThread;
+    private ExecutorService worker;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void init() {
+        int size = Integer.highestOneBit(Math.max(2, wheelSize) * 2 - 1);
+        wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        mask = size - 1;
+        tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        worker = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "game-clock-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        startedAt = System.nanoTime();
+        running = true;
+        tickThread = new Thread(this::run, "game-clock");
+        tickThread.setDaemon(true);
+        tickThread.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        tickThread.interrupt();
+        worker.shutdownNow();
+    }
+
+    /**
+     * delayMs 뒤에 task 를 실행한다. 실행 시각은 틱 단위(game.clock.tick-ms)로 올림된다.
+     */
+    public Handle schedule(String roomId, long delayMs, Runnable task) {
+        return scheduleAt(roomId, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMs)), task);
+    }
+
+    /**
+     * 1초마다 onTick(남은 초)을 호출하고(seconds, seconds-1, ..., 1), seconds 초가 지나면 onExpire 를 호출한다.
+     * 초마다 예약을 새로 만들지 않고 하나의 카운트다운이 다음 초에 자신을 다시 예약하며, 시작 시각 기준으로 예약해 오차가 쌓이지 않는다.
+     */
+    public Handle countdown(String roomId, int seconds, IntConsumer onTick, Runnable onExpire) {
+        Countdown countdown = new Countdown(roomId, seconds, onTick, onExpire);
+        countdown.arm();
+        return countdown;
+    }
+
+    /**
+     * 방에 걸린 예약을 모두 취소하고 취소한 개수를 반환한다.
+     */
+    public int cancelRoom(String roomId) {
+        Room room = rooms.remove(roomId);
+        return room != null ? room.cancelAll() : 0;
+    }
+
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    private Timeout scheduleAt(String roomId, long deadline, Runnable task) {
+        return scheduleAt(roomId, deadline, task, null);
+    }
+
+    private Timeout scheduleAt(String roomId, long deadline, Runnable task, Countdown owner) {
+        Timeout timeout = new Timeout(roomId, deadline, task, owner);
+        rooms.computeIfAbsent(roomId, id -> new Room()).add(timeout);
+        pending.incrementAndGet();
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            long tickDeadline = startedAt + (tick + 1) * tickNanos;
+            long sleep = tickDeadline - System.nanoTime();
+            if (sleep > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleep);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                }
+            }
+
+            try {
+                removeCancelled();
+                transferScheduled(tick);
+                expire(wheel[(int) (tick & mask)], tickDeadline);
+            } catch (Exception e) {
+                log.error("❌ [GAME_CLOCK_ERROR] {}", e.getMessage(), e);
+            }
+            tick++;
+        }
+    }
+
+    private void transferScheduled(long currentTick) {
+        Timeout timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            if (timeout.state.get() != Timeout.WAITING) {
+                continue;
+            }
+            long deadlineTick = Math.max(currentTick, ceilDiv(timeout.deadline - startedAt, tickNanos) - 1);
+            timeout.remainingRounds = (deadlineTick - currentTick) / wheel.length;
+            wheel[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void expire(Bucket bucket, long tickDeadline) {
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.remainingRounds <= 0 && timeout.deadline <= tickDeadline) {
+                bucket.remove(timeout);
+                if (timeout.state.compareAndSet(Timeout.WAITING, Timeout.EXPIRED)) {
+                    pending.decrementAndGet();
+                    timeout.detachFromRoom();
+                    worker.execute(timeout::runTask);
+                }
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return value <= 0 ? 0 : (value + divisor - 1) / divisor;
+    }
+
+    public interface Handle {
+        void cancel();
+
+        boolean isCancelled();
+    }
+
+    private final class Timeout implements Handle {
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final String roomId;
+        private final long deadline;
+        private final Runnable task;
+        private final Countdown owner;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        // 틱 스레드에서만 접근
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(String roomId, long deadline, Runnable task, Countdown owner) {
+            this.roomId = roomId;
+            this.deadline = deadline;
+            this.task = task;
+            this.owner = owner;
+        }
+
+        @Override
+        public void cancel() {
+            // 카운트다운의 한 초 예약이 취소되면 카운트다운 전체를 멈춘다
+            if (owner != null) {
+                owner.cancelledByUser = true;
+            }
+            if (state.compareAndSet(WAITING, CANCELLED)) {
+                pending.decrementAndGet();
+                detachFromRoom();
+                cancelled.add(this);
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        private void detachFromRoom() {
+            Room room = rooms.get(roomId);
+            if (room != null) {
+                room.remove(this);
+            }
+        }
+
+        private void runTask() {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("❌ [GAME_CLOCK_TASK_ERROR] Room: {}, Error: {}", roomId, e.getMessage(), e);
+            }
+        }
+    }
+
+    private final class Countdown implements Handle {
+        private final String roomId;
+        private final int seconds;
+        private final IntConsumer onTick;
+        private final Runnable onExpire;
+        private final long startedAt = System.nanoTime();
+        private volatile int elapsed;
+        private volatile Timeout current;
+        private volatile boolean cancelledByUser;
+
+        private Countdown(String roomId, int seconds, IntConsumer onTick, Runnable onExpire) {
+            this.roomId = roomId;
+            this.seconds = seconds;
+            this.onTick = onTick;
+            this.onExpire = onExpire;
+        }
+
+        private void arm() {
+            long deadline = startedAt + TimeUnit.SECONDS.toNanos(elapsed);
+            current = scheduleAt(roomId, deadline, this::fire, this);
+            // 다시 예약하는 사이에 취소된 경우
+            if (cancelledByUser) {
+                current.cancel();
+            }
+        }
+
+        private void fire() {
+            if (cancelledByUser) {
+                return;
+            }
+            if (elapsed >= seconds) {
+                onExpire.run();
+                return;
+            }
+            onTick.accept(seconds - elapsed);
+            elapsed++;
+            arm();
+        }
+
+        @Override
+        public void cancel() {
+            cancelledByUser = true;
+            Timeout timeout = current;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelledByUser;
+        }
+    }
+
+    // 버킷은 틱 스레드에서만 접근하는 이중 연결 리스트
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    // 방에 걸린 예약 목록
+    private static final class Room {
+        private final Map<Timeout, Boolean> timeouts = new ConcurrentHashMap<>();
+
+        private void add(Timeout timeout) {
+            timeouts.put(timeout, Boolean.TRUE);
+        }
+
+        private void remove(Timeout timeout) {
+            timeouts.remove(timeout);
+        }
+
+        private int cancelAll() {
+            int count = 0;
+            for (Timeout timeout : timeouts.keySet()) {
+                if (!timeout.isCancelled()) {
+                    timeout.cancel();
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package shop.buzzle.buzzle.game.application;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배포 전에 서버를 비운다. /actuator/drain 으로 시작하거나, 서버가 내려갈 때 자동으로 시작한다.
+ * 1. 새 방, 매칭, 게임 시작을 막고 readiness 를 REFUSING_TRAFFIC 으로 바꾼다.
+ * 2. 진행 중인 게임이 game.drain.timeout-ms 안에 끝나기를 기다린다.
+ * 3. 그래도 남은 게임은 GameHandoffStore 에 저장한다. 플레이어가 다시 연결하면 방을 가진 서버가 이어서 진행한다.
+ *    1:1 게임은 아무 서버나 이어받지만, 친구 초대 방은 방 ID 의 샤드를 가진 서버(RoomOwnership)만 이어받는다.
+ *    그 서버는 정리한 바로 이 서버이므로, 같은 cluster.node-id 로 다시 떠야 게임이 이어진다.
+ *    multiroom.registry.mode 가 local 이면 인계는 메모리에만 남으므로, 다시 뜬 서버가 저널에서 같은 게임을 되살린다.
+ * 서버가 내려갈 때는 ContextClosedEvent 에서 시작해 끝날 때까지 기다린다. 이 이벤트는 웹 서버, STOMP 브로커,
+ * WebSocket 세션 핸들러 같은 SmartLifecycle 빈이 멈추기 전에 오므로, 기다리는 동안 세션이 열려 있고 게임 메시지가 계속 오간다.
+ * 배포 도구의 종료 유예 시간(terminationGracePeriodSeconds 등)은 game.drain.timeout-ms 보다 길게 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameDrainCoordinator {
+
+    private static final long POLL_INTERVAL_MS = 500;
+
+    private final DrainState drainState;
+    private final List<DrainableGames> games;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplicationContext applicationContext;
+
+    @Value("${game.drain.timeout-ms:60000}")
+    private long drainTimeoutMs;
+
+    private volatile CompletableFuture<Void> drain;
+    private final Map<String, Integer> handedOff = new LinkedHashMap<>();
+
+    /**
+     * 정리를 시작한다. 이미 시작했으면 진행 중인 정리를 그대로 반환한다.
+     */
+    public synchronized CompletableFuture<Void> startDrain() {
+        if (drain != null) {
+            return drain;
+        }
+        drainState.begin();
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        log.info("🚧 [DRAIN_STARTED] Active games: {}, Timeout: {}ms", activeGames(), drainTimeoutMs);
+
+        drain = CompletableFuture.runAsync(this::drain, runnable -> {
+            Thread thread = new Thread(runnable, "game-drain");
+            thread.setDaemon(true);
+            thread.start();
+        });
+        return drain;
+    }
+
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("draining", drainState.isDraining());
+        status.put("startedAt", drainState.drainStartedAt());
+        status.put("finished", drain != null && drain.isDone());
+        status.put("activeGames", activeGames());
+        synchronized (handedOff) {
+            status.put("handedOff", new LinkedHashMap<>(handedOff));
+        }
+        return status;
+    }
+
+    private void drain() {
+        long deadline = drainState.drainStartedAt() + drainTimeoutMs;
+        try {
+            while (activeGames() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(POLL_INTERVAL_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (DrainableGames service : games) {
+            if (service.activeGames() == 0) {
+                continue;
+            }
+            try {
+                int count = service.handOff();
+                synchronized (handedOff) {
+                    handedOff.merge(service.kind(), count, Integer::sum);
+                }
+                log.info("📦 [GAMES_HANDED_OFF] Kind: {}, Games: {}", service.kind(), count);
+            } catch (Exception e) {
+                log.error("❌ [HANDOFF_FAILED] Kind: {}, Error: {}", service.kind(), e.getMessage(), e);
+            }
+        }
+        log.info("✅ [DRAIN_FINISHED] Remaining games: {}", activeGames());
+    }
+
+    private int activeGames() {
+        return games.stream().mapToInt(DrainableGames::activeGames).sum();
+    }
+
+    // 관리 서버(management.server.port) 같은 자식 컨텍스트가 닫힐 때도 이벤트가 올라오므로 이 컨텍스트일 때만 정리한다
+    @EventListener
+    public void onContextClosed(ContextClosedEvent event) {
+        if (event.getApplicationContext() != applicationContext) {
+            return;
+        }
+        startDrain().join();
+    }
+}
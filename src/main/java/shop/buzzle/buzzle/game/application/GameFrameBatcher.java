@@ -0,0 +1,125 @@
+package shop.buzzle.buzzle.game.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import shop.buzzle.buzzle.game.api.dto.WebSocketBatchResponse;
+
+/**
+ * 게임 상태 변화 한 번(정답 처리, 시간 종료, 문제 전송 등)에서 나온 프레임을 하나의 BATCH 프레임으로 묶어 보낸다.
+ * 직렬화와 브로커 전달이 상태 변화마다 한 번으로 줄어든다.
+ * game.frames.coalesce=false(기본값)이면 기존 클라이언트를 위해 프레임을 하나씩 그대로 보낸다.
+ * EncodedFrame 은 메시지 컨버터를 거치지 않고 미리 직렬화한 바이트 그대로 보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameFrameBatcher {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${game.frames.coalesce:false}")
+    private boolean coalesce;
+
+    private final Map<String, AtomicLong> sequences = new ConcurrentHashMap<>();
+
+    // 상태 변화는 방 메일박스의 한 작업 안에서 끝나므로 스레드마다 현재 묶음을 둔다
+    private final ThreadLocal<Batch> current = new ThreadLocal<>();
+
+    /**
+     * change 안에서 send 한 프레임을 destination 별로 모아 change 가 끝나면 한 번에 보낸다. 중첩되면 바깥 묶음에 합친다.
+     */
+    public void transition(Runnable change) {
+        if (!coalesce || current.get() != null) {
+            change.run();
+            return;
+        }
+
+        Batch batch = new Batch();
+        current.set(batch);
+        try {
+            change.run();
+        } finally {
+            current.remove();
+            batch.flush();
+        }
+    }
+
+    public void send(String destination, Object payload) {
+        Batch batch = current.get();
+        if (batch != null) {
+            batch.add(destination, payload);
+        } else if (payload instanceof EncodedFrame frame) {
+            sendEncoded(destination, frame);
+        } else {
+            messagingTemplate.convertAndSend(destination, payload);
+        }
+    }
+
+    public EncodedFrame encode(Object payload) {
+        return encode(payload, 1);
+    }
+
+    /**
+     * payload 를 직렬화해 둔다. closingBraces 는 EncodedFrame.withFields 로 필드를 덧붙일 객체의 위치.
+     */
+    public EncodedFrame encode(Object payload, int closingBraces) {
+        try {
+            return EncodedFrame.of(objectMapper.writeValueAsBytes(payload), closingBraces);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("프레임 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private void sendEncoded(String destination, EncodedFrame frame) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(frame.bytes(), accessor.getMessageHeaders()));
+    }
+
+    public long lastSequence(String destination) {
+        AtomicLong sequence = sequences.get(destination);
+        return sequence != null ? sequence.get() : 0;
+    }
+
+    // 게임이 끝난 방의 순번을 정리한다. 묶는 중이면 보낸 뒤에 정리한다
+    public void forget(String destination) {
+        Batch batch = current.get();
+        if (batch != null) {
+            batch.forgotten.add(destination);
+            return;
+        }
+        sequences.remove(destination);
+    }
+
+    private final class Batch {
+        private final Map<String, List<Object>> events = new LinkedHashMap<>();
+        private final List<String> forgotten = new ArrayList<>(1);
+
+        private void add(String destination, Object payload) {
+            events.computeIfAbsent(destination, key -> new ArrayList<>(4)).add(payload);
+        }
+
+        private void flush() {
+            events.forEach((destination, payloads) -> {
+                long seq = sequences.computeIfAbsent(destination, key -> new AtomicLong()).incrementAndGet();
+                messagingTemplate.convertAndSend(destination, WebSocketBatchResponse.of(seq, payloads));
+            });
+            forgotten.forEach(sequences::remove);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package shop.buzzle.buzzle.game.application;
+
+import java.util.List;
+import java.util.Map;
+import shop.buzzle.buzzle.quiz.domain.QuizCategory;
+import shop.buzzle.buzzle.websocket.api.dto.Question;
+
+/**
+ * 서버를 내리면서 다른 서버에 넘기는 게임 진행 상태.
+ * phase 가 QUESTION 이면 currentQuestionIndex 문제를 내는 중이고 remainingMs 만큼 시간이 남아 있다.
+ * LOADING 이면 currentQuestionIndex 문제를 아직 보내지 않았다.
+ * scores 는 순위 순서이고, room 과 category 는 친구 초대 방만 채운다.
+ */
+public record GameHandoff(
+        String roomId,
+        List<Question> questions,
+        int totalQuestions,
+        boolean generationComplete,
+        int currentQuestionIndex,
+        Map<String, Integer> scores,
+        List<String> playerEmails,
+        Phase phase,
+        long remainingMs,
+        long savedAt,
+        QuizCategory category,
+        Room room
+) {
+
+    public enum Phase {
+        QUESTION,
+        LOADING
+    }
+
+    public record Room(String inviteCode, String hostEmail, int maxPlayers, int quizCount) {
+    }
+
+    public GameHandoff withRoom(QuizCategory category, Room room) {
+        return new GameHandoff(roomId, questions, totalQuestions, generationComplete, currentQuestionIndex, scores,
+                playerEmails, phase, remainingMs, savedAt, category, room);
+    }
+
+    // 아직 생성되지 않은 문제 수
+    public int missingQuestions() {
+        return generationComplete ? 0 : Math.max(0, totalQuestions - questions.size());
+    }
+}
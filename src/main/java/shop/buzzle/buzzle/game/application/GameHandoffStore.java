@@ -0,0 +1,81 @@
+package shop.buzzle.buzzle.game.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import shop.buzzle.buzzle.multiroom.domain.registry.RoomStore;
+
+/**
+ * 인계한 게임을 RoomStore 의 handoff:{kind}:{roomId} 키에 JSON 으로 둔다.
+ * SHARED 모드에서는 모든 서버가 보는 DB 에, LOCAL 모드에서는 프로세스 안에 둔다. LOCAL 모드의 인계는 서버와 함께 사라지므로 GameJournalRecovery 가 저널에서 되살린다.
+ * 이어받는 서버는 take 로 읽은 버전 그대로 지우면서 꺼내므로 한 게임을 두 서버가 이어받지 않는다.
+ * game.drain.handoff-ttl-ms 보다 오래된 인계는 플레이어가 이미 떠났다고 보고 버린다. 아무도 꺼내 가지 않은 인계는 같은 시간이 지나면 저장소에서 만료된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameHandoffStore {
+
+    private static final String KEY_PREFIX = "handoff:";
+
+    private final RoomStore roomStore;
+    private final ObjectMapper objectMapper;
+
+    @Value("${game.drain.handoff-ttl-ms:600000}")
+    private long handoffTtlMs;
+
+    public void save(String kind, GameHandoff handoff) {
+        String key = key(kind, handoff.roomId());
+        String value = write(handoff);
+        // 같은 방의 예전 인계가 남아 있으면 덮어쓴다
+        while (!roomStore.putIfAbsent(key, value, handoffTtlMs)) {
+            RoomStore.Entry current = roomStore.get(key);
+            if (current != null && roomStore.compareAndSet(key, current.version(), value, handoffTtlMs)) {
+                return;
+            }
+        }
+    }
+
+    // 없거나 오래된 인계면 null
+    public GameHandoff take(String kind, String roomId) {
+        String key = key(kind, roomId);
+        RoomStore.Entry entry = roomStore.get(key);
+        if (entry == null) {
+            return null;
+        }
+        // 읽은 버전 그대로 먼저 지운 서버만 이어받는다. 그 사이 save 로 덮어쓴 인계는 지우지 않는다
+        if (!roomStore.removeIfVersion(key, entry.version())) {
+            return null;
+        }
+
+        GameHandoff handoff = read(entry.value());
+        if (System.currentTimeMillis() - handoff.savedAt() > handoffTtlMs) {
+            log.info("🗑️ [HANDOFF_EXPIRED] Kind: {}, Room: {}", kind, roomId);
+            return null;
+        }
+        return handoff;
+    }
+
+    private String key(String kind, String roomId) {
+        return KEY_PREFIX + kind + ":" + roomId;
+    }
+
+    private String write(GameHandoff handoff) {
+        try {
+            return objectMapper.writeValueAsString(handoff);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게임 인계 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private GameHandoff read(String value) {
+        try {
+            return objectMapper.readValue(value, GameHandoff.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게임 인계 역직렬화에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package shop.buzzle.buzzle.game.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.buzzle.buzzle.game.journal.GameJournal;
+import shop.buzzle.buzzle.game.journal.JournalEvent;
+import shop.buzzle.buzzle.game.journal.JournalRecord;
+
+/**
+ * 게임 결과(우승자 점수)를 큐에 넣어 두고 별도 스레드에서 모아서 반영한다.
+ * 게임 종료 처리는 DB 를 기다리지 않고, 한꺼번에 끝난 방들의 결과는 이메일별로 합쳐
+ * UPDATE member SET streak = streak + ? 배치 한 번으로 반영한다. 배치는 트랜잭션 하나로 반영하므로 일부만 반영되지 않는다.
+ * 배치가 실패하면 결과를 하나씩 다시 반영해 실패한 결과만 골라내고, 그 결과는 game.result.max-attempts 번까지 재시도한 뒤 포기한다.
+ * 큐에 넣기 전에 결과를 GameJournal 에 RESULT_RECORDED 로 남기고, 반영한 뒤 RESULT_APPLIED 를 남긴다.
+ * 서버가 죽거나 반영을 포기한 결과는 다음 시작 때 GameJournalRecovery 가 recover 로 다시 큐에 넣는다.
+ * 반영한 결과 ID 는 같은 트랜잭션에서 applied_game_result 에 넣으므로, RESULT_APPLIED 를 남기기 전에 죽어도 두 번 더하지 않는다.
+ * - buzzle.game.results.recorded, applied (counter): 기록한 결과 수와 DB 에 반영한 결과 수
+ * - buzzle.game.results.recovered (counter): 시작할 때 저널에서 다시 큐에 넣은 결과 수
+ * - buzzle.game.results.failed (counter): 반영에 실패한 배치 수
+ * - buzzle.game.results.dead.lettered (counter): 재시도 끝에 반영을 포기한 결과 수
+ * - buzzle.game.results.pending (gauge): 반영 대기 중인 결과 수
+ * - buzzle.game.results.flush (timer): 배치 하나를 반영하는 데 걸린 시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameResultWriter {
+
+    private static final String UPDATE_STREAK = "UPDATE member SET streak = streak + ? WHERE email = ?";
+    private static final String SELECT_APPLIED = "SELECT result_id FROM applied_game_result WHERE result_id IN (%s)";
+    private static final String INSERT_APPLIED = "INSERT INTO applied_game_result (result_id, applied_at) VALUES (?, ?)";
+    private static final String DELETE_APPLIED = "DELETE FROM applied_game_result WHERE applied_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final GameJournal journal;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${game.result.batch-size:500}")
+    private int batchSize;
+
+    // 결과가 하나라도 있으면 이 시간만큼 더 모았다가 반영한다
+    @Value("${game.result.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${game.result.retry-backoff-ms:1000}")
+    private long retryBackoffMs;
+
+    @Value("${game.result.max-attempts:5}")
+    private int maxAttempts;
+
+    // 저널 세그먼트는 마지막으로 쓴 시각부터 보관 기간을 세므로, 반영 기록은 저널 보관 기간(3일)보다 넉넉히 둔다
+    @Value("${game.result.applied-retention-ms:604800000}")
+    private long appliedRetentionMs;
+
+    private final BlockingQueue<GameResult> queue = new LinkedBlockingQueue<>();
+
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private Counter recorded;
+    private Counter applied;
+    private Counter recovered;
+    private Counter failed;
+    private Counter deadLettered;
+    private Timer flushTimer;
+
+    @PostConstruct
+    public void init() {
+        recorded = Counter.builder("buzzle.game.results.recorded")
+                .description("큐에 넣은 게임 결과 수")
+                .register(meterRegistry);
+        applied = Counter.builder("buzzle.game.results.applied")
+                .description("DB 에 반영한 게임 결과 수")
+                .register(meterRegistry);
+        recovered = Counter.builder("buzzle.game.results.recovered")
+                .description("저널에서 다시 큐에 넣은 게임 결과 수")
+                .register(meterRegistry);
+        failed = Counter.builder("buzzle.game.results.failed")
+                .description("반영에 실패한 배치 수")
+                .register(meterRegistry);
+        deadLettered = Counter.builder("buzzle.game.results.dead.lettered")
+                .description("재시도 끝에 반영을 포기한 게임 결과 수")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("buzzle.game.results.flush")
+                .description("결과 배치 반영 시간")
+                .register(meterRegistry);
+        Gauge.builder("buzzle.game.results.pending", queue, BlockingQueue::size)
+                .description("반영 대기 중인 게임 결과 수")
+                .register(meterRegistry);
+
+        running = true;
+        writerThread = new Thread(this::run, "game-result-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+
+        // 종료 전에 남은 결과를 반영한다
+        List<GameResult> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty() && !flush(remaining)) {
+            log.error("❌ [GAME_RESULT_NOT_APPLIED] {} results were not applied on shutdown, replaying from journal on next start",
+                    remaining.size());
+        }
+    }
+
+    /**
+     * 게임 결과를 저널에 남기고 큐에 넣는다. kind 와 roomId 는 저널 레코드를 방별로 찾을 때 쓴다.
+     */
+    public void record(String kind, String roomId, String email, int score) {
+        String resultId = UUID.randomUUID().toString();
+        journal.append(kind, roomId, JournalEvent.RESULT_RECORDED,
+                Map.of("resultId", resultId, "email", email, "score", score));
+        queue.add(new GameResult(resultId, kind, roomId, email, score, 0));
+        recorded.increment();
+    }
+
+    /**
+     * 이전 실행에서 기록했지만 RESULT_APPLIED 가 없는 결과를 다시 큐에 넣는다. 다시 넣은 결과 수를 돌려준다.
+     */
+    public int recover(List<JournalRecord> records) {
+        Map<String, GameResult> unapplied = new LinkedHashMap<>();
+        for (JournalRecord record : records) {
+            String resultId = record.data().path("resultId").asText();
+            if (record.event() == JournalEvent.RESULT_RECORDED) {
+                unapplied.put(resultId, new GameResult(resultId, record.kind(), record.roomId(),
+                        record.data().path("email").asText(), record.data().path("score").asInt(), 0));
+            } else if (record.event() == JournalEvent.RESULT_APPLIED) {
+                unapplied.remove(resultId);
+            }
+        }
+        queue.addAll(unapplied.values());
+        recovered.increment(unapplied.size());
+        return unapplied.size();
+    }
+
+    // 오래된 반영 기록을 지운다. 그때쯤이면 그 결과를 담은 저널 세그먼트도 지워졌다
+    @Scheduled(fixedDelayString = "${game.result.purge-interval-ms:3600000}",
+            initialDelayString = "${game.result.purge-interval-ms:3600000}")
+    public void purgeApplied() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(appliedRetentionMs));
+        int deleted = jdbcTemplate.update(DELETE_APPLIED, Timestamp.valueOf(cutoff));
+        if (deleted > 0) {
+            log.info("🗑️ [GAME_RESULT_APPLIED_PURGED] Rows: {}", deleted);
+        }
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<GameResult> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                GameResult first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 잠깐 더 모아서 같이 반영한다
+                Thread.sleep(flushIntervalMs);
+                queue.drainTo(batch, batchSize - 1);
+
+                if (!flush(batch)) {
+                    List<GameResult> retry = isolateFailures(batch);
+                    // 대기 중에 깨어나도 두 번 넣지 않도록 먼저 비운다
+                    batch.clear();
+                    requeueOrDeadLetter(retry);
+                    if (!retry.isEmpty()) {
+                        Thread.sleep(retryBackoffMs);
+                    }
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                queue.addAll(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    // 한 결과 때문에 배치 전체가 실패했을 수 있으므로 하나씩 다시 반영해 보고, 그래도 실패한 결과만 돌려준다
+    private List<GameResult> isolateFailures(List<GameResult> batch) {
+        if (batch.size() == 1) {
+            return List.copyOf(batch);
+        }
+        List<GameResult> failures = new ArrayList<>();
+        for (GameResult result : batch) {
+            if (!flush(List.of(result))) {
+                failures.add(result);
+            }
+        }
+        return failures;
+    }
+
+    private void requeueOrDeadLetter(List<GameResult> results) {
+        for (GameResult result : results) {
+            GameResult retried = result.retried();
+            if (retried.attempts() < maxAttempts) {
+                queue.add(retried);
+                continue;
+            }
+            deadLettered.increment();
+            // RESULT_APPLIED 를 남기지 않았으므로 다음 시작 때 저널에서 다시 시도한다
+            log.error("❌ [GAME_RESULT_DEAD_LETTERED] Result: {}, Email: {}, Score: {}, Attempts: {}",
+                    result.resultId(), result.email(), result.score(), retried.attempts());
+        }
+    }
+
+    private boolean flush(List<GameResult> results) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            // 배치 안의 UPDATE 와 반영 기록은 모두 반영되거나 모두 취소된다. 다시 시도해도 streak 가 두 번 더해지지 않는다
+            transactionTemplate.executeWithoutResult(status -> apply(results));
+            for (GameResult result : results) {
+                journal.append(result.kind(), result.roomId(), JournalEvent.RESULT_APPLIED,
+                        Map.of("resultId", result.resultId()));
+            }
+            applied.increment(results.size());
+            return true;
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("⚠️ [GAME_RESULT_FLUSH_FAILED] Results: {}, Error: {}", results.size(), e.getMessage());
+            return false;
+        } finally {
+            sample.stop(flushTimer);
+        }
+    }
+
+    // 트랜잭션 안에서 호출한다
+    private void apply(List<GameResult> results) {
+        Set<String> alreadyApplied = alreadyApplied(results);
+
+        // 이미 반영한 결과는 건너뛰고, 같은 플레이어의 결과는 하나로 합친다
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        List<Object[]> appliedArgs = new ArrayList<>(results.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (GameResult result : results) {
+            if (alreadyApplied.contains(result.resultId())) {
+                continue;
+            }
+            scores.merge(result.email(), result.score(), Integer::sum);
+            appliedArgs.add(new Object[]{result.resultId(), now});
+        }
+        if (scores.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> streakArgs = new ArrayList<>(scores.size());
+        scores.forEach((email, score) -> streakArgs.add(new Object[]{score, email}));
+        jdbcTemplate.batchUpdate(UPDATE_STREAK, streakArgs);
+        jdbcTemplate.batchUpdate(INSERT_APPLIED, appliedArgs);
+    }
+
+    private Set<String> alreadyApplied(List<GameResult> results) {
+        Set<String> resultIds = new LinkedHashSet<>();
+        for (GameResult result : results) {
+            resultIds.add(result.resultId());
+        }
+        String placeholders = String.join(", ", Collections.nCopies(resultIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(SELECT_APPLIED.formatted(placeholders), String.class,
+                resultIds.toArray()));
+    }
+
+    private record GameResult(String resultId, String kind, String roomId, String email, int score, int attempts) {
+
+        private GameResult retried() {
+            return new GameResult(resultId, kind, roomId, email, score, attempts + 1);
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package shop.buzzle.buzzle.game.application;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import lombok.Getter;
@@ -12,27 +12,84 @@ import shop.buzzle.buzzle.websocket.api.dto.Question;
 @Getter
 public class GameSession {
     private final List<Question> questions;
-    private int currentQuestionIndex = 0;
-    private boolean finished = false;
-    private final Map<String, Integer> scores = new HashMap<>();
+    private volatile int totalQuestions;
+    private volatile boolean generationComplete;
+    private volatile int currentQuestionIndex = 0;
+    private volatile boolean finished = false;
+    private volatile long questionDeadline; // 현재 문제의 마감 시각 (epoch ms)
+    private volatile long questionSentAt; // 현재 문제를 처음 보낸 시각 (System.nanoTime)
+    private final ScoreBoard scoreBoard = new ScoreBoard();
+    private final PlayerDirectory players = new PlayerDirectory();
+    // 문제 번호별로 한 번만 직렬화한 QUESTION 프레임
+    private final Map<Integer, EncodedFrame> questionFrames = new ConcurrentHashMap<>();
 
     private final AtomicBoolean correctAnswered = new AtomicBoolean(false); // ✅ 오직 1명만 정답 인정
     private final AtomicBoolean transitionLock = new AtomicBoolean(false);  // ✅ 문제 전환 중복 방지
     private final AtomicBoolean timerRunning = new AtomicBoolean(false);    // ✅ 타이머 중복 방지
+    private final AtomicBoolean waitingForQuestion = new AtomicBoolean(false); // ✅ 다음 문제 생성 대기 중
 
     public GameSession(List<Question> questions) {
-        this.questions = questions;
+        this.questions = new CopyOnWriteArrayList<>(questions);
+        this.totalQuestions = questions.size();
+        this.generationComplete = true;
+    }
+
+    // 문제가 생성되는 대로 appendQuestion 으로 채워지는 세션
+    public GameSession(int expectedQuestions) {
+        this.questions = new CopyOnWriteArrayList<>();
+        this.totalQuestions = expectedQuestions;
     }
 
     public Question getCurrentQuestion() {
+        if (!isCurrentQuestionReady()) {
+            return null;
+        }
         return questions.get(currentQuestionIndex);
     }
 
+    public boolean isCurrentQuestionReady() {
+        return currentQuestionIndex < questions.size();
+    }
+
+    /**
+     * 생성이 끝난 문제를 추가한다. 현재 문제를 기다리던 중이었다면 true 를 반환하며, 호출한 쪽이 문제를 전송해야 한다.
+     */
+    public boolean appendQuestion(Question question) {
+        questions.add(question);
+        return isCurrentQuestionReady() && waitingForQuestion.compareAndSet(true, false);
+    }
+
+    /**
+     * 문제 생성이 끝났음을 표시하고 실제로 만들어진 개수로 전체 문제 수를 맞춘다.
+     * 현재 문제를 기다리던 중이었다면 true 를 반환하며, 호출한 쪽이 다음 진행(전송 또는 종료)을 맡는다.
+     */
+    public boolean completeGeneration() {
+        totalQuestions = questions.size();
+        generationComplete = true;
+        return waitingForQuestion.compareAndSet(true, false);
+    }
+
+    /**
+     * 현재 문제가 아직 생성되지 않았으면 대기 상태로 표시하고 false 를 반환한다.
+     * 표시한 직후 문제가 도착했거나 생성이 끝났다면 직접 이어서 진행하도록 true 를 반환한다.
+     */
+    public boolean awaitCurrentQuestion() {
+        if (isCurrentQuestionReady()) {
+            return true;
+        }
+        waitingForQuestion.set(true);
+        return (isCurrentQuestionReady() || generationComplete) && waitingForQuestion.compareAndSet(true, false);
+    }
+
+    public void finish() {
+        finished = true;
+    }
+
     public boolean tryAnswerCorrect(String username, int selectedIndex) {
         if (finished || correctAnswered.get()) return false;
 
         Question current = getCurrentQuestion();
-        if (!current.isCorrectIndex(selectedIndex)) return false;
+        if (current == null || !current.isCorrectIndex(selectedIndex)) return false;
 
         // 오직 한 명만 정답자 인정
         if (correctAnswered.compareAndSet(false, true)) {
@@ -47,7 +104,7 @@ public class GameSession {
             currentQuestionIndex++;
             correctAnswered.set(false);
             timerRunning.set(false);
-            if (currentQuestionIndex >= questions.size()) {
+            if (currentQuestionIndex >= totalQuestions) {
                 finished = true;
             }
             transitionLock.set(false);
@@ -60,6 +117,14 @@ public class GameSession {
         return timerRunning.compareAndSet(false, true);
     }
 
+    public void startDeadline(long deadline) {
+        this.questionDeadline = deadline;
+    }
+
+    public void markQuestionSent(long sentAt) {
+        this.questionSentAt = sentAt;
+    }
+
     public void stopTimer() {
         timerRunning.set(false);
     }
@@ -68,29 +133,62 @@ public class GameSession {
         return timerRunning.get();
     }
 
-    public int getTotalQuestions() {
-        return questions.size();
+    public void addCorrectAnswer(String username) {
+        scoreBoard.add(username, 1);
     }
 
-    public void addCorrectAnswer(String username) {
-        scores.put(username, scores.getOrDefault(username, 0) + 1);
+    // 점수가 바뀔 때마다 새로 만들어지는 불변 순위표. 락 없이 읽는다
+    public ScoreBoard.Standings getStandings() {
+        return scoreBoard.standings();
     }
 
     public String getWinner() {
-        return scores.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
+        return scoreBoard.standings().leader();
     }
 
     public String getCurrentLeader() {
-        return scores.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
+        return scoreBoard.standings().leader();
+    }
+
+    /**
+     * 다른 서버로 넘길 진행 상태. 타이머가 돌고 있으면 남은 시간과 함께 QUESTION 단계로 저장한다.
+     */
+    public GameHandoff toHandoff(String roomId, long now) {
+        boolean asking = timerRunning.get() && isCurrentQuestionReady();
+        return new GameHandoff(
+                roomId,
+                List.copyOf(questions),
+                totalQuestions,
+                generationComplete,
+                currentQuestionIndex,
+                getCurrentScores(),
+                players.emails(),
+                asking ? GameHandoff.Phase.QUESTION : GameHandoff.Phase.LOADING,
+                asking ? Math.max(0, questionDeadline - now) : 0,
+                now,
+                null,
+                null
+        );
+    }
+
+    /**
+     * 넘겨받은 진행 상태로 되돌린다. 문제 전송과 타이머는 호출한 쪽이 다시 시작한다.
+     */
+    public void restore(GameHandoff handoff) {
+        questions.addAll(handoff.questions());
+        totalQuestions = handoff.totalQuestions();
+        generationComplete = handoff.generationComplete();
+        currentQuestionIndex = handoff.currentQuestionIndex();
+        finished = currentQuestionIndex >= totalQuestions;
+        // 순위 순서대로 더해서 동점자 순서를 유지한다
+        handoff.scores().forEach((email, score) -> {
+            if (score > 0) {
+                scoreBoard.add(email, score);
+            }
+        });
     }
 
     public Map<String, Integer> getCurrentScores() {
-        return new HashMap<>(scores);
+        return scoreBoard.standings().scores();
     }
 }
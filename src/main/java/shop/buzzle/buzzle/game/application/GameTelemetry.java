@@ -0,0 +1,279 @@
+package shop.buzzle.buzzle.game.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 중인 게임의 지연 시간 지표.
+ * - buzzle.game.answer.broadcast (timer): 답안이 도착한 뒤 ANSWER 결과를 방에 보내기까지
+ * - buzzle.game.room.queue.wait (timer): 방 작업이 메일박스에서 실행을 기다린 시간 (예전 방 락 대기 시간에 해당)
+ * - buzzle.game.question.dispatch.jitter (timer): 다음 문제가 예약한 시각보다 늦게 보내진 시간
+ * - buzzle.game.answer.time (timer): 문제를 보낸 뒤 플레이어의 답안이 도착하기까지
+ * 방별, 플레이어별 값은 지표 태그로 두지 않고 /actuator/games 에서 조회한다. 끝난 방은 game.telemetry.retention-ms 동안 남긴다.
+ * 플레이어는 이메일 대신 방 안에서 처음 답한 순서대로 붙인 player-1, player-2 … 로 내보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GameTelemetry {
+
+    public static final String ANSWER_BROADCAST = "answerBroadcast";
+    public static final String QUEUE_WAIT = "queueWait";
+    public static final String DISPATCH_JITTER = "dispatchJitter";
+    public static final String ANSWER_TIME = "answerTime";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${game.telemetry.retention-ms:600000}")
+    private long retentionMs;
+
+    private final Map<String, RoomLatency> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong();
+
+    private Timer answerBroadcast;
+    private Timer queueWait;
+    private Timer dispatchJitter;
+    private Timer answerTime;
+
+    @PostConstruct
+    public void init() {
+        answerBroadcast = timer("buzzle.game.answer.broadcast", "답안 도착부터 결과 전송까지 걸린 시간");
+        queueWait = timer("buzzle.game.room.queue.wait", "방 작업이 메일박스에서 기다린 시간");
+        dispatchJitter = timer("buzzle.game.question.dispatch.jitter", "다음 문제가 예약 시각보다 늦게 전송된 시간");
+        answerTime = timer("buzzle.game.answer.time", "문제 전송부터 답안 도착까지 걸린 시간");
+    }
+
+    public void recordAnswerBroadcast(String roomId, long nanos) {
+        answerBroadcast.record(nanos, TimeUnit.NANOSECONDS);
+        room(roomId).answerBroadcast.record(nanos);
+    }
+
+    public void recordQueueWait(String roomId, long nanos) {
+        queueWait.record(nanos, TimeUnit.NANOSECONDS);
+        room(roomId).queueWait.record(nanos);
+    }
+
+    // 예정보다 일찍 실행된 경우는 0 으로 기록한다
+    public void recordDispatchJitter(String roomId, long lateNanos) {
+        long nanos = Math.max(0, lateNanos);
+        dispatchJitter.record(nanos, TimeUnit.NANOSECONDS);
+        room(roomId).dispatchJitter.record(nanos);
+    }
+
+    public void recordAnswerTime(String roomId, String email, long nanos) {
+        answerTime.record(nanos, TimeUnit.NANOSECONDS);
+        RoomLatency room = room(roomId);
+        room.answerTime.record(nanos);
+        room.players.computeIfAbsent(email, e -> new PlayerLatency(room.playerCount.incrementAndGet()))
+                .histogram.record(nanos);
+    }
+
+    public void finishRoom(String roomId) {
+        RoomLatency room = rooms.get(roomId);
+        if (room != null) {
+            room.finishedAt = System.currentTimeMillis();
+        }
+        sweep();
+    }
+
+    public List<RoomSummary> rooms() {
+        sweep();
+        List<RoomSummary> summaries = new ArrayList<>(rooms.size());
+        rooms.forEach((roomId, room) -> summaries.add(new RoomSummary(
+                roomId,
+                room.finishedAt != 0,
+                room.answerBroadcast.snapshot(),
+                room.queueWait.snapshot()
+        )));
+        return summaries;
+    }
+
+    public RoomStats roomStats(String roomId) {
+        RoomLatency room = rooms.get(roomId);
+        if (room == null) {
+            return null;
+        }
+        Map<String, LatencyStats> latencies = new LinkedHashMap<>();
+        latencies.put(ANSWER_BROADCAST, room.answerBroadcast.snapshot());
+        latencies.put(QUEUE_WAIT, room.queueWait.snapshot());
+        latencies.put(DISPATCH_JITTER, room.dispatchJitter.snapshot());
+        latencies.put(ANSWER_TIME, room.answerTime.snapshot());
+
+        Map<String, LatencyStats> players = new LinkedHashMap<>();
+        room.players.values().stream()
+                .sorted(Comparator.comparingInt(player -> player.number))
+                .forEach(player -> players.put("player-" + player.number, player.histogram.snapshot()));
+        return new RoomStats(roomId, room.finishedAt != 0, latencies, players);
+    }
+
+    private RoomLatency room(String roomId) {
+        RoomLatency room = rooms.get(roomId);
+        if (room != null) {
+            return room;
+        }
+        sweep();
+        return rooms.computeIfAbsent(roomId, id -> new RoomLatency());
+    }
+
+    // 끝난 지 오래되었거나 오랫동안 기록이 없는 방을 정리한다. 자주 돌지 않도록 보관 시간의 1/10 마다 한 번만 실행한다
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        long last = lastSweep.get();
+        if (now - last < retentionMs / 10 || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        rooms.values().removeIf(room -> {
+            long since = room.finishedAt != 0 ? room.finishedAt : room.lastRecordedAt();
+            return now - since > retentionMs;
+        });
+    }
+
+    private Timer timer(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(10_000))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+    }
+
+    public record RoomSummary(String roomId, boolean finished, LatencyStats answerBroadcast, LatencyStats queueWait) {
+    }
+
+    public record RoomStats(String roomId, boolean finished, Map<String, LatencyStats> latencies,
+                            Map<String, LatencyStats> players) {
+    }
+
+    // 시간 값은 모두 밀리초
+    public record LatencyStats(long count, double mean, double p50, double p95, double p99, double max) {
+    }
+
+    private static final class RoomLatency {
+        private final LatencyHistogram answerBroadcast = new LatencyHistogram();
+        private final LatencyHistogram queueWait = new LatencyHistogram();
+        private final LatencyHistogram dispatchJitter = new LatencyHistogram();
+        private final LatencyHistogram answerTime = new LatencyHistogram();
+        // 이메일 -> 플레이어 번호와 답안 시간
+        private final Map<String, PlayerLatency> players = new ConcurrentHashMap<>();
+        private final AtomicInteger playerCount = new AtomicInteger();
+        private volatile long finishedAt;
+
+        private long lastRecordedAt() {
+            return Math.max(Math.max(answerBroadcast.lastRecordedAt, queueWait.lastRecordedAt),
+                    Math.max(dispatchJitter.lastRecordedAt, answerTime.lastRecordedAt));
+        }
+    }
+
+    private static final class PlayerLatency {
+        private final int number;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private PlayerLatency(int number) {
+            this.number = number;
+        }
+    }
+
+    /**
+     * 마이크로초 단위 로그-선형 히스토그램. 2 의 거듭제곱 구간마다 8 칸으로 나누므로 오차는 12.5% 이내이고,
+     * 기록은 배열 칸 하나를 올리는 것뿐이라 락이 없다. 방마다 여러 개를 두므로 약 33초(2^25us) 이상은 마지막 칸에 모은다.
+     */
+    static final class LatencyHistogram {
+        private static final int SUB_BUCKETS = 8;
+        private static final int LINEAR_LIMIT = 16; // 16us 미만은 1us 단위
+        private static final int MAX_EXPONENT = 24;
+        private static final int BUCKETS = LINEAR_LIMIT + (MAX_EXPONENT - 4 + 1) * SUB_BUCKETS;
+
+        private final AtomicIntegerArray counts = new AtomicIntegerArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final AtomicLong maxMicros = new AtomicLong();
+        private volatile long lastRecordedAt = System.currentTimeMillis();
+
+        void record(long nanos) {
+            long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+            counts.incrementAndGet(indexOf(micros));
+            count.increment();
+            totalMicros.add(micros);
+            maxMicros.accumulateAndGet(micros, Math::max);
+            lastRecordedAt = System.currentTimeMillis();
+        }
+
+        LatencyStats snapshot() {
+            long[] buckets = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = counts.get(i);
+                total += buckets[i];
+            }
+            if (total == 0) {
+                return new LatencyStats(0, 0, 0, 0, 0, 0);
+            }
+            // 칸의 가운데 값이 실제 최댓값을 넘지 않도록 자른다
+            long max = maxMicros.get();
+            return new LatencyStats(
+                    total,
+                    toMillis(totalMicros.sum() / (double) count.sum()),
+                    toMillis(Math.min(max, valueAt(buckets, total, 0.50))),
+                    toMillis(Math.min(max, valueAt(buckets, total, 0.95))),
+                    toMillis(Math.min(max, valueAt(buckets, total, 0.99))),
+                    toMillis(max)
+            );
+        }
+
+        static int indexOf(long micros) {
+            if (micros < LINEAR_LIMIT) {
+                return (int) micros;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(micros);
+            if (exponent > MAX_EXPONENT) {
+                return BUCKETS - 1;
+            }
+            int sub = (int) (micros >>> (exponent - 3)) & (SUB_BUCKETS - 1);
+            return LINEAR_LIMIT + (exponent - 4) * SUB_BUCKETS + sub;
+        }
+
+        // 칸의 가운데 값
+        static double valueOf(int index) {
+            if (index < LINEAR_LIMIT) {
+                return index;
+            }
+            int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + 4;
+            int sub = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+            long width = 1L << (exponent - 3);
+            long lower = (1L << exponent) + sub * width;
+            return lower + width / 2.0;
+        }
+
+        private static double valueAt(long[] buckets, long total, double quantile) {
+            long rank = (long) Math.ceil(quantile * total);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return valueOf(i);
+                }
+            }
+            return valueOf(buckets.length - 1);
+        }
+
+        private static double toMillis(double micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package shop.buzzle.buzzle.game.application;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import shop.buzzle.buzzle.member.domain.Member;
+
+/**
+ * 게임 세션에 참가한 플레이어의 표시 이름과 프로필 사진.
+ * 게임 시작 시 한 번 채우고 입장할 때만 갱신해서, 답안 처리 중에는 DB 를 조회하지 않는다.
+ */
+public class PlayerDirectory {
+
+    private final Map<String, Player> players = new ConcurrentHashMap<>();
+
+    public void putAll(Collection<Member> members) {
+        members.forEach(this::put);
+    }
+
+    public void put(Member member) {
+        players.put(member.getEmail(), new Player(member.getEmail(), member.getName(), member.getPicture()));
+    }
+
+    public boolean contains(String email) {
+        return email != null && players.containsKey(email);
+    }
+
+    // 모르는 플레이어는 이메일을 이름으로 사용한다
+    public String nameOf(String email) {
+        if (email == null) {
+            return null;
+        }
+        Player player = players.get(email);
+        return player != null ? player.name() : email;
+    }
+
+    public String pictureOf(String email) {
+        Player player = email != null ? players.get(email) : null;
+        return player != null ? player.picture() : null;
+    }
+
+    public Map<String, String> namesOf(Collection<String> emails) {
+        Map<String, String> names = new HashMap<>();
+        for (String email : emails) {
+            names.put(email, nameOf(email));
+        }
+        return names;
+    }
+
+    public List<String> emails() {
+        return List.copyOf(players.keySet());
+    }
+
+    public int size() {
+        return players.size();
+    }
+
+    public record Player(String email, String name, String picture) {
+    }
+}
@@ -0,0 +1,127 @@
+package shop.buzzle.buzzle.game.application;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게임 방마다 메일박스를 두고, 한 방의 작업(답안, 타이머, 문제 도착, 입퇴장)을 한 번에 하나씩 순서대로 실행한다.
+ * 방 상태는 항상 한 스레드에서만 바뀌므로 락이 필요 없고, 서로 다른 방은 공유 작업 스레드에서 동시에 처리된다.
+ * 한 방이 작업 스레드를 오래 붙잡지 않도록 한 번에 game.room.throughput 개까지만 처리하고 다시 줄을 선다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomExecutor {
+
+    private final GameTelemetry telemetry;
+
+    @Value("${game.room.workers:16}")
+    private int workers;
+
+    @Value("${game.room.throughput:32}")
+    private int throughput;
+
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    private ExecutorService worker;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        worker = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "game-room-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * roomId 의 메일박스에 task 를 넣는다. 같은 방의 작업은 넣은 순서대로, 동시에 하나만 실행된다.
+     */
+    public void execute(String roomId, Runnable task) {
+        long enqueuedAt = System.nanoTime();
+        Runnable timed = () -> {
+            telemetry.recordQueueWait(roomId, System.nanoTime() - enqueuedAt);
+            task.run();
+        };
+        Mailbox mailbox = mailboxes.compute(roomId, (id, current) -> {
+            Mailbox target = current != null ? current : new Mailbox(id);
+            target.tasks.add(timed);
+            return target;
+        });
+        mailbox.schedule();
+    }
+
+    public int activeRooms() {
+        return mailboxes.size();
+    }
+
+    private final class Mailbox implements Runnable {
+        private final String roomId;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Mailbox(String roomId) {
+            this.roomId = roomId;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    worker.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    log.warn("⚠️ [ROOM_TASK_REJECTED] Room: {}", roomId);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < throughput; i++) {
+                    Runnable task = tasks.poll();
+                    if (task == null) {
+                        break;
+                    }
+                    try {
+                        task.run();
+                    } catch (Exception e) {
+                        log.error("❌ [ROOM_TASK_ERROR] Room: {}, Error: {}", roomId, e.getMessage(), e);
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+            }
+
+            if (!tasks.isEmpty()) {
+                schedule();
+                return;
+            }
+            // 비어 있고 다른 스레드가 실행 중이 아니면 메일박스를 정리한다. compute 안에서 확인하므로 그 사이에 들어온 작업은 놓치지 않는다
+            mailboxes.computeIfPresent(roomId, (id, current) ->
+                    current == this && !scheduled.get() && tasks.isEmpty() ? null : current);
+            if (!tasks.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package shop.buzzle.buzzle.game.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게임 세션의 점수판. 플레이어마다 슬롯 번호를 주고 점수를 int 배열에 담는다.
+ * 점수가 오르면 순위 배열에서 그 슬롯만 앞으로 옮기므로, 선두와 상위 K 명을 구할 때 매번 정렬하지 않는다.
+ * 점수가 바뀔 때마다 불변 Standings 를 새로 게시하고, 리더보드를 보내는 쪽은 락 없이 standings() 로 읽는다.
+ * 동점이면 그 점수에 먼저 도달한 플레이어가 앞선다.
+ */
+public class ScoreBoard {
+
+    private final Map<String, Integer> slots = new HashMap<>();
+    private String[] emails = new String[4];
+    private int[] scores = new int[4];
+    private int[] order = new int[4];   // 순위 순서대로 놓인 슬롯
+    private int[] rankOf = new int[4];  // 슬롯이 order 에서 차지하는 위치
+    private int size;
+
+    private volatile Standings standings = Standings.EMPTY;
+
+    public ScoreBoard() {
+    }
+
+    // 처음부터 0점으로 순위에 올릴 플레이어들. 넣은 순서가 동점일 때의 순서가 된다
+    public ScoreBoard(Collection<String> players) {
+        players.forEach(this::slotOf);
+        publish();
+    }
+
+    public synchronized void add(String email, int points) {
+        if (points <= 0) {
+            throw new IllegalArgumentException("점수는 올리기만 할 수 있습니다.");
+        }
+        int slot = slotOf(email);
+        scores[slot] += points;
+
+        // 점수가 더 낮은 플레이어만 건너뛰므로 같은 점수에 먼저 도달한 플레이어는 앞에 남는다
+        int position = rankOf[slot];
+        while (position > 0 && scores[order[position - 1]] < scores[slot]) {
+            int ahead = order[position - 1];
+            order[position] = ahead;
+            rankOf[ahead] = position;
+            position--;
+        }
+        order[position] = slot;
+        rankOf[slot] = position;
+
+        publish();
+    }
+
+    public Standings standings() {
+        return standings;
+    }
+
+    private int slotOf(String email) {
+        Integer slot = slots.get(email);
+        if (slot != null) {
+            return slot;
+        }
+        if (size == emails.length) {
+            int capacity = size * 2;
+            emails = Arrays.copyOf(emails, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            order = Arrays.copyOf(order, capacity);
+            rankOf = Arrays.copyOf(rankOf, capacity);
+        }
+        int newSlot = size++;
+        emails[newSlot] = email;
+        // 0점이므로 맨 뒤에 놓아도 순서가 유지된다
+        order[newSlot] = newSlot;
+        rankOf[newSlot] = newSlot;
+        slots.put(email, newSlot);
+        return newSlot;
+    }
+
+    private void publish() {
+        String[] rankedEmails = new String[size];
+        int[] rankedScores = new int[size];
+        for (int i = 0; i < size; i++) {
+            rankedEmails[i] = emails[order[i]];
+            rankedScores[i] = scores[order[i]];
+        }
+        standings = new Standings(rankedEmails, rankedScores);
+    }
+
+    /**
+     * 한 시점의 순위표. 만든 뒤에는 바뀌지 않으므로 여러 스레드가 그대로 공유한다.
+     */
+    public static final class Standings {
+
+        private static final Standings EMPTY = new Standings(new String[0], new int[0]);
+
+        private final String[] emails;
+        private final int[] scores;
+        private final Map<String, Integer> scoreMap;
+
+        private Standings(String[] emails, int[] scores) {
+            this.emails = emails;
+            this.scores = scores;
+            Map<String, Integer> map = new LinkedHashMap<>();
+            for (int i = 0; i < emails.length; i++) {
+                map.put(emails[i], scores[i]);
+            }
+            this.scoreMap = Collections.unmodifiableMap(map);
+        }
+
+        // 아무도 점수를 얻지 못했으면 선두가 없다
+        public String leader() {
+            return topScore() > 0 ? emails[0] : null;
+        }
+
+        public int topScore() {
+            return scores.length > 0 ? scores[0] : 0;
+        }
+
+        public boolean isTied() {
+            return scores.length > 1 && scores[0] > 0 && scores[1] == scores[0];
+        }
+
+        // 최고 점수를 가진 플레이어 모두. 먼저 도달한 순서
+        public List<String> leaders() {
+            int top = topScore();
+            List<String> leaders = new ArrayList<>();
+            for (int i = 0; top > 0 && i < scores.length && scores[i] == top; i++) {
+                leaders.add(emails[i]);
+            }
+            return leaders;
+        }
+
+        public List<Entry> top(int k) {
+            int count = Math.min(k, emails.length);
+            List<Entry> top = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                top.add(new Entry(emails[i], scores[i]));
+            }
+            return top;
+        }
+
+        // 순위 순서의 이메일 -> 점수. 수정할 수 없다
+        public Map<String, Integer> scores() {
+            return scoreMap;
+        }
+
+        public int scoreOf(String email) {
+            return scoreMap.getOrDefault(email, 0);
+        }
+    }
+
+    public record Entry(String email, int score) {
+    }
+}
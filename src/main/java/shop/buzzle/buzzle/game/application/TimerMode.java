@@ -0,0 +1,12 @@
+package shop.buzzle.buzzle.game.application;
+
+/**
+ * 문제 타이머를 클라이언트에 알리는 방식 (game.timer.mode).
+ * TICK: 매초 TIMER 프레임을 보낸다. 기존 클라이언트용.
+ * DEADLINE: QUESTION 프레임에 마감 시각(deadline)과 서버 시각(serverTime)을 실어 보내고,
+ * 클라이언트가 /app/clock/ping 으로 구한 시계 오차를 보정해 직접 카운트다운한다. 서버는 TIME_UP 만 보낸다.
+ */
+public enum TimerMode {
+    TICK,
+    DEADLINE
+}
@@ -0,0 +1,26 @@
+package shop.buzzle.buzzle.game.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// GameResultWriter 가 streak 에 반영한 게임 결과. 저널에서 다시 읽은 결과를 두 번 더하지 않도록 결과 ID 를 남긴다
+// member 와 같은 방식으로 스키마를 관리하므로 streak 와 수명이 같다
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "applied_game_result", indexes = @Index(name = "idx_applied_game_result_applied_at", columnList = "applied_at"))
+public class AppliedGameResult {
+
+    @Id
+    @Column(name = "result_id", length = 36)
+    private String resultId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
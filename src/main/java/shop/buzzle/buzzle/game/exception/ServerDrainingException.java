@@ -0,0 +1,9 @@
+package shop.buzzle.buzzle.game.exception;
+
+import shop.buzzle.buzzle.global.error.exception.InvalidGroupException;
+
+public class ServerDrainingException extends InvalidGroupException {
+    public ServerDrainingException() {
+        super("서버 점검을 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
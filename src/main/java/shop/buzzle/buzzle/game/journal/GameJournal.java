@@ -0,0 +1,334 @@
+package shop.buzzle.buzzle.game.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방과 게임의 상태 변화를 파일에 이어 붙이는 저널. 서버가 죽어도 진행 중이던 방을 되살리고, 공정성 문의가 오면 게임을 다시 본다.
+ * game.journal.dir 아래 journal-{번호}.log 파일(game.journal.segment-bytes 크기)을 메모리에 매핑해 쓰고,
+ * 가득 차면 다음 번호 파일로 넘어간다. 기록은 매핑된 메모리에 복사하는 것뿐이라 방 메일박스 스레드를 막지 않고,
+ * 디스크에는 game.journal.fsync-interval-ms 마다 별도 스레드가 내린다. 따라서 서버 장비가 꺼지면 마지막 간격만큼은 잃을 수 있다.
+ * 레코드 본문은 [시각 long][이벤트 byte][kind][roomId][data JSON] 이다.
+ * game.journal.retention-ms 보다 오래된 파일은 새 파일을 열 때 지운다.
+ * 방마다 기록이 들어 있는 파일 번호를 메모리에 색인해 두어, 한 방을 다시 볼 때는 그 방의 파일만 읽는다.
+ * - buzzle.game.journal.appended (counter): 기록한 레코드 수
+ * - buzzle.game.journal.bytes (counter): 기록한 바이트 수
+ * - buzzle.game.journal.dropped (counter): 기록하지 못한 레코드 수
+ * - buzzle.game.journal.fsync (timer): 디스크에 내리는 데 걸린 시간
+ * - buzzle.game.journal.fsync.failed (counter): 디스크에 내리지 못한 횟수. 다음 간격에 다시 내린다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameJournal {
+
+    private static final String FILE_PREFIX = "journal-";
+    private static final String FILE_SUFFIX = ".log";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${game.journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${game.journal.dir:data/journal}")
+    private String dir;
+
+    @Value("${game.journal.segment-bytes:16777216}")
+    private int segmentBytes;
+
+    @Value("${game.journal.fsync-interval-ms:200}")
+    private long fsyncIntervalMs;
+
+    @Value("${game.journal.retention-ms:259200000}")
+    private long retentionMs;
+
+    private Path directory;
+    private long nextSegment;
+    private volatile JournalSegment active;
+    private volatile boolean dirty;
+    private List<JournalRecord> recovered = List.of();
+    // 방 ID -> 그 방의 기록이 있는 파일 번호. 락을 잡고 읽고 쓴다
+    private final Map<String, TreeSet<Long>> roomSegments = new HashMap<>();
+    private ScheduledExecutorService flusher;
+
+    private Counter appended;
+    private Counter bytes;
+    private Counter dropped;
+    private Timer fsyncTimer;
+    private Counter fsyncFailed;
+
+    @PostConstruct
+    public void init() throws IOException {
+        appended = Counter.builder("buzzle.game.journal.appended")
+                .description("저널에 기록한 레코드 수")
+                .register(meterRegistry);
+        bytes = Counter.builder("buzzle.game.journal.bytes")
+                .description("저널에 기록한 바이트 수")
+                .register(meterRegistry);
+        dropped = Counter.builder("buzzle.game.journal.dropped")
+                .description("저널에 기록하지 못한 레코드 수")
+                .register(meterRegistry);
+        fsyncTimer = Timer.builder("buzzle.game.journal.fsync")
+                .description("저널을 디스크에 내리는 데 걸린 시간")
+                .register(meterRegistry);
+        fsyncFailed = Counter.builder("buzzle.game.journal.fsync.failed")
+                .description("저널을 디스크에 내리지 못한 횟수")
+                .register(meterRegistry);
+
+        if (!enabled) {
+            log.info("⏸️ [JOURNAL_DISABLED] game.journal.enabled=false");
+            return;
+        }
+
+        directory = Files.createDirectories(Path.of(dir));
+        List<Path> segments = segments();
+        // 이전 실행이 남긴 레코드는 새 파일을 열기 전에 읽어 둔다. GameJournalRecovery 가 가져간다
+        recovered = readAll(segments);
+        nextSegment = segments.isEmpty() ? 0 : indexOf(segments.get(segments.size() - 1)) + 1;
+        active = JournalSegment.create(pathOf(nextSegment++), segmentBytes);
+        deleteExpired();
+
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "game-journal-fsync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::fsync, fsyncIntervalMs, fsyncIntervalMs, TimeUnit.MILLISECONDS);
+
+        log.info("📒 [JOURNAL_OPENED] Dir: {}, Segment: {}, Recovered records: {}",
+                directory.toAbsolutePath(), active.path().getFileName(), recovered.size());
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdownNow();
+        synchronized (this) {
+            active.close();
+        }
+        log.info("📒 [JOURNAL_CLOSED] Segment: {}", active.path().getFileName());
+    }
+
+    /**
+     * 레코드 하나를 기록한다. 기록하지 못해도 게임은 계속되어야 하므로 예외를 던지지 않고 로그만 남긴다.
+     */
+    public void append(String kind, String roomId, JournalEvent event, Object data) {
+        if (!enabled) {
+            return;
+        }
+        byte[] body;
+        try {
+            body = encode(System.currentTimeMillis(), event, kind, roomId, data);
+        } catch (JsonProcessingException e) {
+            dropped.increment();
+            log.warn("⚠️ [JOURNAL_DROPPED] Room: {}, Event: {}, Error: {}", roomId, event, e.getMessage());
+            return;
+        }
+        if (JournalSegment.HEADER_BYTES + body.length + Integer.BYTES > segmentBytes) {
+            dropped.increment();
+            log.warn("⚠️ [JOURNAL_DROPPED] Room: {}, Event: {}, Bytes: {} (larger than a segment)",
+                    roomId, event, body.length);
+            return;
+        }
+
+        synchronized (this) {
+            try {
+                if (!active.append(body)) {
+                    roll();
+                    active.append(body);
+                }
+                roomSegments.computeIfAbsent(roomId, key -> new TreeSet<>()).add(nextSegment - 1);
+            } catch (IOException e) {
+                dropped.increment();
+                log.error("❌ [JOURNAL_WRITE_FAILED] Room: {}, Event: {}, Error: {}", roomId, event, e.getMessage());
+                return;
+            }
+        }
+        dirty = true;
+        appended.increment();
+        bytes.increment(JournalSegment.HEADER_BYTES + body.length);
+    }
+
+    /**
+     * 시작할 때 읽은 이전 실행의 레코드. 복구가 끝나면 releaseRecovered 로 비운다.
+     */
+    public List<JournalRecord> recoveredRecords() {
+        return recovered;
+    }
+
+    public void releaseRecovered() {
+        recovered = List.of();
+    }
+
+    /**
+     * 한 방의 레코드를 기록 순서대로 모은다. 색인에서 그 방의 기록이 있는 파일만 골라 읽는다.
+     */
+    public List<JournalRecord> replay(String roomId) {
+        if (!enabled) {
+            return List.of();
+        }
+        List<Long> indexes;
+        synchronized (this) {
+            TreeSet<Long> found = roomSegments.get(roomId);
+            indexes = found == null ? List.of() : List.copyOf(found);
+        }
+        List<JournalRecord> records = new ArrayList<>();
+        try {
+            for (long index : indexes) {
+                Path segment = pathOf(index);
+                // 색인을 복사한 뒤 보관 기간이 지나 지워졌을 수 있다
+                if (!Files.exists(segment)) {
+                    continue;
+                }
+                for (byte[] body : JournalSegment.read(segment)) {
+                    JournalRecord record = decode(body);
+                    if (record.roomId().equals(roomId)) {
+                        records.add(record);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return records;
+    }
+
+    private void fsync() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        // 파일을 넘기는 중이어도 이전 파일은 roll 에서 이미 내렸으므로 지금 파일만 내리면 된다
+        // 예외가 스케줄 밖으로 나가면 이후 fsync 가 모두 취소되므로 여기서 잡고 다음 간격에 다시 내린다
+        try {
+            fsyncTimer.record(() -> active.force());
+        } catch (RuntimeException e) {
+            dirty = true;
+            fsyncFailed.increment();
+            log.error("❌ [JOURNAL_FSYNC_FAILED] Segment: {}, Error: {}", active.path().getFileName(), e.getMessage());
+        }
+    }
+
+    // 지금 파일을 디스크에 내리고 닫은 뒤 다음 파일을 연다. 락을 잡은 채로 호출한다
+    private void roll() throws IOException {
+        JournalSegment full = active;
+        full.close();
+        active = JournalSegment.create(pathOf(nextSegment++), segmentBytes);
+        log.info("📒 [JOURNAL_ROLLED] {} -> {}", full.path().getFileName(), active.path().getFileName());
+        deleteExpired();
+    }
+
+    private void deleteExpired() throws IOException {
+        long cutoff = System.currentTimeMillis() - retentionMs;
+        for (Path segment : segments()) {
+            if (segment.equals(active.path())) {
+                continue;
+            }
+            if (Files.getLastModifiedTime(segment).toMillis() < cutoff) {
+                Files.deleteIfExists(segment);
+                unindex(indexOf(segment));
+                log.info("🗑️ [JOURNAL_EXPIRED] {}", segment.getFileName());
+            }
+        }
+    }
+
+    private void unindex(long index) {
+        roomSegments.values().removeIf(indexes -> indexes.remove(index) && indexes.isEmpty());
+    }
+
+    // 읽으면서 방별 파일 색인도 만든다
+    private List<JournalRecord> readAll(List<Path> segments) throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        for (Path segment : segments) {
+            long index = indexOf(segment);
+            for (byte[] body : JournalSegment.read(segment)) {
+                JournalRecord record = decode(body);
+                records.add(record);
+                roomSegments.computeIfAbsent(record.roomId(), key -> new TreeSet<>()).add(index);
+            }
+        }
+        return records;
+    }
+
+    // 번호 순서
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    // 이름순 정렬이 번호순이 되도록 자릿수를 맞춘다
+    private Path pathOf(long index) {
+        return directory.resolve(FILE_PREFIX + String.format("%012d", index) + FILE_SUFFIX);
+    }
+
+    private long indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+    }
+
+    private byte[] encode(long time, JournalEvent event, String kind, String roomId, Object data)
+            throws JsonProcessingException {
+        byte[] kindBytes = kind.getBytes(StandardCharsets.UTF_8);
+        byte[] roomBytes = roomId.getBytes(StandardCharsets.UTF_8);
+        byte[] dataBytes = objectMapper.writeValueAsBytes(data);
+        return ByteBuffer.allocate(Long.BYTES + 1 + 2 + kindBytes.length + 2 + roomBytes.length + dataBytes.length)
+                .putLong(time)
+                .put((byte) event.ordinal())
+                .putShort((short) kindBytes.length)
+                .put(kindBytes)
+                .putShort((short) roomBytes.length)
+                .put(roomBytes)
+                .put(dataBytes)
+                .array();
+    }
+
+    private JournalRecord decode(byte[] body) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        long time = buffer.getLong();
+        JournalEvent event = JournalEvent.of(buffer.get());
+        String kind = readString(buffer);
+        String roomId = readString(buffer);
+        return new JournalRecord(time, event, kind, roomId,
+                objectMapper.readTree(body, buffer.position(), buffer.remaining()));
+    }
+
+    private String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
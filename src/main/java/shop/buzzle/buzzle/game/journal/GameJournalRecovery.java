@@ -0,0 +1,258 @@
+package shop.buzzle.buzzle.game.journal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import shop.buzzle.buzzle.game.application.GameHandoff;
+import shop.buzzle.buzzle.game.application.GameHandoffStore;
+import shop.buzzle.buzzle.game.application.GameResultWriter;
+import shop.buzzle.buzzle.game.application.ScoreBoard;
+import shop.buzzle.buzzle.multiroom.domain.MultiRoom;
+import shop.buzzle.buzzle.multiroom.domain.registry.RoomRegistry;
+import shop.buzzle.buzzle.multiroom.domain.registry.RoomRegistryMode;
+import shop.buzzle.buzzle.quiz.domain.QuizCategory;
+import shop.buzzle.buzzle.websocket.api.dto.Question;
+
+/**
+ * 서버가 시작할 때 이전 실행의 저널을 읽어, 끝나지 않은 방을 되살린다.
+ * 게임을 시작하지 않은 친구 초대 방은 방 목록에 다시 등록하고,
+ * 진행 중이던 게임은 GameHandoff 로 만들어 GameHandoffStore 에 넣는다. 플레이어가 다시 접속하면 서버를 내릴 때 인계한 게임과 같은 경로로 이어 간다.
+ * 되살린 방에는 RECOVERED 를 기록해 다음 시작 때 다시 되살리지 않는다.
+ * DB 에 반영하지 못한 게임 결과는 GameResultWriter 에 넘겨 다시 반영한다.
+ * 웹 서버가 뜨기 전(빈 초기화 시점)에 실행되므로 복구가 끝나기 전에 들어오는 요청은 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameJournalRecovery {
+
+    private final GameJournal journal;
+    private final GameHandoffStore handoffStore;
+    private final RoomRegistry roomRegistry;
+    private final GameResultWriter gameResultWriter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${multiroom.registry.mode:local}")
+    private RoomRegistryMode registryMode;
+
+    @PostConstruct
+    public void recover() {
+        List<JournalRecord> records = journal.recoveredRecords();
+        if (records.isEmpty()) {
+            return;
+        }
+
+        int results = gameResultWriter.recover(records);
+
+        Map<String, RoomTimeline> timelines = new LinkedHashMap<>();
+        for (JournalRecord record : records) {
+            timelines.computeIfAbsent(record.kind() + ":" + record.roomId(),
+                    key -> new RoomTimeline(record.kind(), record.roomId())).apply(record);
+        }
+
+        long now = System.currentTimeMillis();
+        int lobbies = 0;
+        int games = 0;
+        for (RoomTimeline timeline : timelines.values()) {
+            if (timeline.closed) {
+                continue;
+            }
+            try {
+                if (timeline.started) {
+                    GameHandoff handoff = timeline.toHandoff(now);
+                    if (handoff == null) {
+                        continue;
+                    }
+                    handoffStore.save(timeline.kind, handoff);
+                    games++;
+                } else if (timeline.inviteCode != null && !timeline.players.isEmpty()) {
+                    if (!roomRegistry.register(timeline.toRoom())) {
+                        // 공유 방 목록을 쓰면 만료되기 전까지 방이 남아 있다
+                        log.info("♻️ [JOURNAL_ROOM_ALREADY_REGISTERED] Room: {}, Invite: {}",
+                                timeline.roomId, timeline.inviteCode);
+                        continue;
+                    }
+                    lobbies++;
+                } else {
+                    continue;
+                }
+                journal.append(timeline.kind, timeline.roomId, JournalEvent.RECOVERED, Map.of());
+            } catch (Exception e) {
+                log.error("❌ [JOURNAL_RECOVERY_FAILED] Kind: {}, Room: {}, Error: {}",
+                        timeline.kind, timeline.roomId, e.getMessage());
+            }
+        }
+
+        journal.releaseRecovered();
+        log.info("♻️ [JOURNAL_RECOVERED] Records: {}, Rooms: {}, Lobbies: {}, Games: {}, Results: {}",
+                records.size(), timelines.size(), lobbies, games, results);
+    }
+
+    /**
+     * 한 방의 레코드를 순서대로 적용한 상태.
+     */
+    private final class RoomTimeline {
+
+        private final String kind;
+        private final String roomId;
+
+        private String inviteCode;
+        private String hostEmail;
+        private int maxPlayers;
+        private QuizCategory category;
+        private int quizCount;
+        private long createdAt;
+        private final Set<String> players = new LinkedHashSet<>();
+
+        private boolean started;
+        private boolean closed;
+        private int totalQuestions;
+        private final TreeMap<Integer, Question> questions = new TreeMap<>();
+        private ScoreBoard scoreBoard = new ScoreBoard();
+        private int currentQuestionIndex;
+        private boolean asking;
+        private long deadline;
+
+        private RoomTimeline(String kind, String roomId) {
+            this.kind = kind;
+            this.roomId = roomId;
+        }
+
+        private void apply(JournalRecord record) {
+            JsonNode data = record.data();
+            switch (record.event()) {
+                case ROOM_CREATED -> {
+                    inviteCode = data.path("inviteCode").asText();
+                    maxPlayers = data.path("maxPlayers").asInt();
+                    category = categoryOf(data);
+                    quizCount = data.path("quizCount").asInt();
+                    createdAt = record.time();
+                }
+                case PLAYER_JOINED -> {
+                    String email = data.path("email").asText();
+                    // 처음 들어온 플레이어가 방장이다
+                    if (hostEmail == null) {
+                        hostEmail = email;
+                    }
+                    players.add(email);
+                }
+                case PLAYER_LEFT -> players.remove(data.path("email").asText());
+                case GAME_STARTED -> {
+                    started = true;
+                    closed = false;
+                    players.clear();
+                    data.path("players").forEach(player -> players.add(player.asText()));
+                    totalQuestions = data.path("totalQuestions").asInt();
+                    if (data.has("category")) {
+                        category = categoryOf(data);
+                    }
+                    questions.clear();
+                    // 친구 초대 방은 시작할 때 모두 0점으로 순위에 올리고, 1:1 게임은 맞힌 플레이어만 올린다
+                    scoreBoard = inviteCode != null ? new ScoreBoard(players) : new ScoreBoard();
+                    currentQuestionIndex = 0;
+                    asking = false;
+                }
+                case QUESTION_SENT -> {
+                    int index = data.path("questionIndex").asInt();
+                    questions.put(index, objectMapper.convertValue(data.path("question"), Question.class));
+                    currentQuestionIndex = index;
+                    asking = true;
+                    deadline = data.path("deadline").asLong();
+                }
+                case ANSWER -> {
+                    // 점수판에 맞힌 순서대로 더하므로 동점 순서도 그대로 돌아온다
+                    if (data.path("accepted").asBoolean()) {
+                        scoreBoard.add(data.path("email").asText(), 1);
+                        currentQuestionIndex = data.path("questionIndex").asInt() + 1;
+                        asking = false;
+                    }
+                }
+                case TIME_UP -> {
+                    currentQuestionIndex = data.path("questionIndex").asInt() + 1;
+                    asking = false;
+                }
+                case RESUMED -> resume(objectMapper.convertValue(data, GameHandoff.class), record.time());
+                case ROOM_DISBANDED, GAME_ENDED, RECOVERED -> closed = true;
+                // 공유 저장소에 둔 인계는 다른 서버가 이어받는다. LOCAL 모드의 인계는 서버와 함께 사라졌으므로 저널에서 되살린다
+                case HANDED_OFF -> closed = registryMode == RoomRegistryMode.SHARED;
+                // 게임 결과는 GameResultWriter 가 따로 다시 반영한다
+                case RESULT_RECORDED, RESULT_APPLIED -> {
+                }
+            }
+        }
+
+        // 카테고리를 고르지 않은 방은 null
+        private QuizCategory categoryOf(JsonNode data) {
+            return data.hasNonNull("category") ? QuizCategory.valueOf(data.path("category").asText()) : null;
+        }
+
+        // 다른 서버에서 이어받은 게임은 인계 시점의 상태에서 다시 시작한다
+        private void resume(GameHandoff handoff, long resumedAt) {
+            started = true;
+            closed = false;
+            players.clear();
+            players.addAll(handoff.playerEmails());
+            totalQuestions = handoff.totalQuestions();
+            questions.clear();
+            for (int i = 0; i < handoff.questions().size(); i++) {
+                questions.put(i, handoff.questions().get(i));
+            }
+            scoreBoard = new ScoreBoard(handoff.scores().keySet());
+            handoff.scores().forEach((email, score) -> {
+                if (score > 0) {
+                    scoreBoard.add(email, score);
+                }
+            });
+            currentQuestionIndex = handoff.currentQuestionIndex();
+            asking = handoff.phase() == GameHandoff.Phase.QUESTION;
+            deadline = resumedAt + handoff.remainingMs();
+            if (handoff.category() != null) {
+                category = handoff.category();
+            }
+            if (handoff.room() != null) {
+                inviteCode = handoff.room().inviteCode();
+                hostEmail = handoff.room().hostEmail();
+                maxPlayers = handoff.room().maxPlayers();
+                quizCount = handoff.room().quizCount();
+            }
+        }
+
+        // 마지막 문제까지 진행했으면 종료 기록만 남기지 못한 것이므로 되살리지 않는다
+        private GameHandoff toHandoff(long now) {
+            if (totalQuestions > 0 && currentQuestionIndex >= totalQuestions) {
+                return null;
+            }
+            List<Question> sent = new ArrayList<>(questions.values());
+            long remainingMs = deadline - now;
+            // 시간이 지난 문제는 다시 낸다
+            GameHandoff.Phase phase = asking && remainingMs > 0 ? GameHandoff.Phase.QUESTION : GameHandoff.Phase.LOADING;
+            GameHandoff handoff = new GameHandoff(roomId, sent, totalQuestions, false, currentQuestionIndex,
+                    scoreBoard.standings().scores(), List.copyOf(players), phase,
+                    phase == GameHandoff.Phase.QUESTION ? remainingMs : 0, now, null, null);
+            if (inviteCode == null) {
+                return handoff;
+            }
+            return handoff.withRoom(category, new GameHandoff.Room(inviteCode, hostEmail, maxPlayers, quizCount));
+        }
+
+        private MultiRoom toRoom() {
+            LocalDateTime created = LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAt), ZoneId.systemDefault());
+            return new MultiRoom(roomId, inviteCode, hostEmail, maxPlayers, category, quizCount, created,
+                    List.copyOf(players), false);
+        }
+    }
+}
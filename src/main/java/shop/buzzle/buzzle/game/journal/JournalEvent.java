@@ -0,0 +1,33 @@
+package shop.buzzle.buzzle.game.journal;
+
+/**
+ * 저널에 남기는 방 상태 변화. 파일에는 순서 번호(ordinal)로 저장하므로 새 항목은 맨 뒤에만 추가한다.
+ */
+public enum JournalEvent {
+    ROOM_CREATED,
+    PLAYER_JOINED,
+    PLAYER_LEFT,
+    ROOM_DISBANDED,
+    GAME_STARTED,
+    QUESTION_SENT,
+    ANSWER,
+    TIME_UP,
+    GAME_ENDED,
+    HANDED_OFF,
+    RESUMED,
+    RECOVERED,
+    // 게임 결과(우승자 점수)를 기록하고 DB 에 반영한 시점. GameResultWriter 가 쓴다
+    RESULT_RECORDED,
+    RESULT_APPLIED;
+
+    private static final JournalEvent[] VALUES = values();
+
+    // 방이 이 서버에서 더 진행되지 않는 이벤트
+    public boolean closesRoom() {
+        return this == ROOM_DISBANDED || this == GAME_ENDED || this == HANDED_OFF || this == RECOVERED;
+    }
+
+    static JournalEvent of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,9 @@
+package shop.buzzle.buzzle.game.journal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 저널 레코드 하나. time 은 기록한 시각(epoch ms), kind 는 게임 종류(game, multi-room)
+ */
+public record JournalRecord(long time, JournalEvent event, String kind, String roomId, JsonNode data) {
+}
@@ -0,0 +1,95 @@
+package shop.buzzle.buzzle.game.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 크기를 미리 정해 메모리에 매핑한 저널 파일 하나.
+ * 레코드는 [본문 길이 int][본문 CRC32 int][본문] 이고, 길이가 0 인 곳이 끝이다.
+ * 본문과 CRC 를 먼저 쓰고 길이를 마지막에 쓰므로, 쓰다가 죽은 레코드는 길이가 0 이거나 CRC 가 맞지 않아 읽을 때 버려진다.
+ */
+final class JournalSegment {
+
+    static final int HEADER_BYTES = 8;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private JournalSegment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static JournalSegment create(Path path, int size) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new JournalSegment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+
+    // 자리가 모자라면 쓰지 않고 false. 끝 표시(길이 0)가 들어갈 자리는 항상 남긴다
+    boolean append(byte[] body) {
+        int position = buffer.position();
+        if (buffer.limit() - position < HEADER_BYTES + body.length + Integer.BYTES) {
+            return false;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        buffer.position(position + HEADER_BYTES);
+        buffer.put(body);
+        buffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+        buffer.putInt(position, body.length);
+        return true;
+    }
+
+    int written() {
+        return buffer.position();
+    }
+
+    Path path() {
+        return path;
+    }
+
+    // 운영체제 페이지 캐시에 있는 내용을 디스크에 내린다
+    void force() {
+        buffer.force();
+    }
+
+    void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * 파일의 레코드 본문을 순서대로 읽는다. 길이가 0 이거나 잘린 레코드, CRC 가 맞지 않는 레코드에서 멈춘다.
+     */
+    static List<byte[]> read(Path path) throws IOException {
+        List<byte[]> bodies = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            while (buffer.remaining() >= HEADER_BYTES) {
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    break;
+                }
+                byte[] body = new byte[length];
+                buffer.get(body);
+                CRC32 crc = new CRC32();
+                crc.update(body);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                bodies.add(body);
+            }
+        }
+        return bodies;
+    }
+}
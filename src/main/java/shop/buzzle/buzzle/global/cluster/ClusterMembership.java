@@ -0,0 +1,91 @@
+package shop.buzzle.buzzle.global.cluster;
+
+import jakarta.annotation.PostConstruct;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 클러스터를 이루는 서버 목록과 키의 소유 서버.
+ * cluster.nodes 에 "node-a=http://10.0.0.11:8080,node-b=http://10.0.0.12:8080" 처럼 모든 서버를 적고,
+ * 각 서버는 cluster.node-id 로 자기가 누구인지 안다. cluster.nodes 가 비어 있으면 서버 한 대로 보고 모든 키를 자기가 가진다.
+ * 모든 서버가 같은 목록을 쓰므로 키의 소유 서버는 어느 서버에서 계산해도 같다.
+ * 배포할 때는 서버를 같은 cluster.node-id 로 다시 띄운다. 친구 초대 방은 소유 서버만 이어받으므로,
+ * 다른 ID 로 바꾸면 정리하면서 인계한 방과 저널에서 되살린 방을 이어받을 서버가 없다.
+ */
+@Slf4j
+@Component
+public class ClusterMembership {
+
+    @Value("${cluster.node-id:local}")
+    private String nodeId;
+
+    @Value("${cluster.nodes:}")
+    private String nodes;
+
+    @Value("${cluster.virtual-nodes:160}")
+    private int virtualNodes;
+
+    private Node local;
+    private Map<String, Node> members;
+    private ConsistentHashRing<Node> ring;
+
+    @PostConstruct
+    public void init() {
+        members = parse(nodes);
+        if (members.isEmpty()) {
+            local = new Node(nodeId, null);
+            members = Map.of(nodeId, local);
+        } else {
+            local = members.get(nodeId);
+            if (local == null) {
+                throw new IllegalStateException("cluster.nodes 에 이 서버(" + nodeId + ")가 없습니다.");
+            }
+            log.info("✅ [CLUSTER] Node: {}, Members: {}", nodeId, members.keySet());
+        }
+        ring = new ConsistentHashRing<>(members, virtualNodes);
+    }
+
+    public Node ownerOf(String key) {
+        return ring.nodeFor(key);
+    }
+
+    public boolean isLocal(Node node) {
+        return local.id().equals(node.id());
+    }
+
+    public boolean isClustered() {
+        return members.size() > 1;
+    }
+
+    public Node local() {
+        return local;
+    }
+
+    public Map<String, Node> members() {
+        return members;
+    }
+
+    private static Map<String, Node> parse(String nodes) {
+        Map<String, Node> parsed = new LinkedHashMap<>();
+        if (!StringUtils.hasText(nodes)) {
+            return parsed;
+        }
+        for (String entry : nodes.split(",")) {
+            String[] parts = entry.trim().split("=", 2);
+            if (parts.length != 2 || !StringUtils.hasText(parts[0]) || !StringUtils.hasText(parts[1])) {
+                throw new IllegalStateException("cluster.nodes 형식이 잘못되었습니다: " + entry);
+            }
+            String id = parts[0].trim();
+            parsed.put(id, new Node(id, parts[1].trim()));
+        }
+        return parsed;
+    }
+
+    // baseUrl 은 다른 서버가 이 서버로 요청을 넘길 때 쓰는 주소. 서버 한 대일 때는 null
+    public record Node(String id, String baseUrl) {
+    }
+}
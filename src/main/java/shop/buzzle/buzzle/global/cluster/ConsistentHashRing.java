@@ -0,0 +1,43 @@
+package shop.buzzle.buzzle.global.cluster;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 노드마다 가상 노드를 여러 개 올린 해시 링. 키는 링에서 시계 방향으로 처음 만나는 노드에 속한다.
+ * 노드가 하나 늘거나 줄어도 그 노드 몫의 키만 옮겨 간다.
+ */
+public class ConsistentHashRing<T> {
+
+    private final TreeMap<Long, T> ring = new TreeMap<>();
+
+    public ConsistentHashRing(Map<String, T> nodes, int virtualNodes) {
+        nodes.forEach((id, node) -> {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(id + "#" + i), node);
+            }
+        });
+    }
+
+    public T nodeFor(String key) {
+        if (ring.isEmpty()) {
+            throw new IllegalStateException("해시 링에 노드가 없습니다.");
+        }
+        Map.Entry<Long, T> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    // MD5 앞 8바이트. 보안 용도가 아니라 고르게 퍼지는 값이 필요할 뿐이다
+    static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
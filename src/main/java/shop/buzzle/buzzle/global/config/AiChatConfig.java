@@ -0,0 +1,18 @@
+package shop.buzzle.buzzle.global.config;
+
+import org.springframework.ai.chat.ChatClient;
+import org.springframework.ai.openai.OpenAiChatClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+public class AiChatConfig {
+
+    // ResilientChatClient 가 실제 호출을 위임할 대상. offline 프로필에서는 OfflineChatClient 가 이 이름으로 등록된다.
+    @Bean("chatDelegate")
+    @Profile("!offline")
+    public ChatClient chatDelegate(OpenAiChatClient openAiChatClient) {
+        return openAiChatClient;
+    }
+}
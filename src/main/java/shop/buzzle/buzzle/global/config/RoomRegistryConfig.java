@@ -0,0 +1,49 @@
+package shop.buzzle.buzzle.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import shop.buzzle.buzzle.multiroom.domain.registry.InMemoryRoomRegistry;
+import shop.buzzle.buzzle.multiroom.domain.registry.JdbcRoomStore;
+import shop.buzzle.buzzle.multiroom.domain.registry.LocalRoomStore;
+import shop.buzzle.buzzle.multiroom.domain.registry.RoomRegistry;
+import shop.buzzle.buzzle.multiroom.domain.registry.RoomRegistryMode;
+import shop.buzzle.buzzle.multiroom.domain.registry.RoomStore;
+import shop.buzzle.buzzle.multiroom.domain.registry.SharedRoomRegistry;
+
+@Slf4j
+@Configuration
+public class RoomRegistryConfig {
+
+    @Value("${multiroom.registry.mode:local}")
+    private RoomRegistryMode mode;
+
+    @Value("${multiroom.registry.near-cache-ttl-ms:1000}")
+    private long nearCacheTtlMs;
+
+    // 이 시간 동안 바뀌지 않은 방은 죽은 서버가 남긴 방으로 보고 만료시킨다
+    @Value("${multiroom.registry.room-ttl-ms:3600000}")
+    private long roomTtlMs;
+
+    // 방 목록(SHARED 모드)과 게임 인계에 쓰는 저장소
+    // LOCAL 모드는 서버 한 대뿐이므로 DB 테이블을 만들지 않고 프로세스 안에 둔다. 인계한 게임은 다시 뜰 때 저널에서 되살린다
+    @Bean
+    public RoomStore roomStore(JdbcTemplate jdbcTemplate) {
+        if (mode == RoomRegistryMode.SHARED) {
+            return new JdbcRoomStore(jdbcTemplate);
+        }
+        return new LocalRoomStore();
+    }
+
+    @Bean
+    public RoomRegistry roomRegistry(RoomStore roomStore, ObjectMapper objectMapper) {
+        if (mode == RoomRegistryMode.SHARED) {
+            log.info("✅ [ROOM_REGISTRY] Shared registry, near cache TTL: {}ms, room TTL: {}ms", nearCacheTtlMs, roomTtlMs);
+            return new SharedRoomRegistry(roomStore, objectMapper, nearCacheTtlMs, roomTtlMs);
+        }
+        return new InMemoryRoomRegistry();
+    }
+}
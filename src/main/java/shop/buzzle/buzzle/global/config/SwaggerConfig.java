@@ -65,7 +65,7 @@ public class SwaggerConfig {
                         "3. **방 나가기**: `/app/room/{roomId}/leave`\n" +
                         "4. **게임 시작**: `/app/room/{roomId}/start` (방장만)\n" +
                         "5. **퀴즈 답안**: `/app/room/{roomId}/answer`\n" +
-                        "6. **재연결**: `/app/room/{roomId}/reconnect`\n\n" +
+                        "6. **재연결**: `/app/room/{roomId}/reconnect` (응답은 `/user/queue/room` 으로 본인에게만 전송)\n\n" +
                         "### 📡 Server → Client (수신 이벤트)\n" +
                         "**PLAYER_JOINED** - 플레이어 입장 시\n" +
                         "```json\n" +
@@ -140,7 +140,23 @@ public class SwaggerConfig {
                         "  \"type\": \"TIME_UP\",\n" +
                         "  \"message\": \"시간이 종료되었습니다!\"\n" +
                         "}\n" +
-                        "```")
+                        "```\n\n" +
+                        "**RESYNC** - 재접속 시 본인에게만 전송 (랜덤 매칭 `/user/queue/game`, 친구 초대 `/user/queue/room`)\n" +
+                        "```json\n" +
+                        "{\n" +
+                        "  \"type\": \"RESYNC\",\n" +
+                        "  \"phase\": \"QUESTION\",\n" +
+                        "  \"seq\": 12,\n" +
+                        "  \"questionIndex\": 1,\n" +
+                        "  \"totalQuestions\": 3,\n" +
+                        "  \"question\": \"문제 내용\",\n" +
+                        "  \"options\": [\"선택지1\", \"선택지2\", \"선택지3\", \"선택지4\"],\n" +
+                        "  \"remainingMs\": 6400,\n" +
+                        "  \"serverTime\": 1700000000000,\n" +
+                        "  \"scores\": {\"user@example.com\": 1}\n" +
+                        "}\n" +
+                        "```\n" +
+                        "※ phase 가 LOADING 이면 question 은 null 이고 다음 문제를 기다리는 중")
                 .version("1.0.0");
 
         String jwtSchemeName = "JWT TOKEN";
@@ -1,5 +1,7 @@
 package shop.buzzle.buzzle.member.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -14,6 +16,8 @@ public interface MemberRepository extends
         MemberCustomRepository {
     Optional<Member> findByEmail(String email);
 
+    List<Member> findAllByEmailIn(Collection<String> emails);
+
     @Modifying
     @Transactional
     @Query("UPDATE Member m SET m.life = 50")
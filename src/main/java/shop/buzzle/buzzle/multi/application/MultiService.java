@@ -6,6 +6,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import shop.buzzle.buzzle.game.application.DrainState;
+import shop.buzzle.buzzle.game.exception.ServerDrainingException;
 import shop.buzzle.buzzle.member.domain.Member;
 import shop.buzzle.buzzle.member.domain.repository.MemberRepository;
 import shop.buzzle.buzzle.member.exception.MemberNotFoundException;
@@ -36,6 +38,7 @@ public class MultiService {
     private final MemberRepository memberRepository;
     private final NotificationService notificationService;
     private final SseEmitterManager sseEmitterManager;
+    private final DrainState drainState;
 
     private final Queue<Member> waitingQueue = new ConcurrentLinkedQueue<>();
     private final Set<String> waitingEmails = ConcurrentHashMap.newKeySet(); // 이메일 기반 중복 방지
@@ -50,6 +53,10 @@ public class MultiService {
     }
 
     public String addToQueueV2(String email) {
+        if (drainState.isDraining()) {
+            throw new ServerDrainingException();
+        }
+
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(MemberNotFoundException::new);
 
@@ -70,6 +77,11 @@ public class MultiService {
     }
 
     private void matchUsers() {
+        // 정리 중에는 새 게임을 만들지 않는다. 대기 중인 유저는 연결이 끊기면 다른 서버에서 다시 매칭한다
+        if (drainState.isDraining()) {
+            return;
+        }
+
         lock.lock();
         try {
             while (waitingQueue.size() >= 2) {
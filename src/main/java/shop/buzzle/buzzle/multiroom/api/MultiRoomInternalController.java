@@ -0,0 +1,86 @@
+package shop.buzzle.buzzle.multiroom.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import shop.buzzle.buzzle.multiroom.api.dto.request.MultiRoomJoinReqDto;
+import shop.buzzle.buzzle.multiroom.application.MultiRoomForwarder;
+import shop.buzzle.buzzle.multiroom.application.MultiRoomWebSocketService;
+import shop.buzzle.buzzle.websocket.api.dto.AnswerRequest;
+
+// 다른 서버가 넘긴 방 메시지를 소유 서버에서 처리한다 (MultiRoomForwarder)
+@RestController
+@RequestMapping("/internal/multi-room")
+@RequiredArgsConstructor
+public class MultiRoomInternalController {
+
+    private final MultiRoomWebSocketService multiRoomWebSocketService;
+    private final MultiRoomForwarder forwarder;
+
+    @PostMapping("/join")
+    public ResponseEntity<Void> joinRoom(
+            @RequestHeader(value = MultiRoomForwarder.SECRET_HEADER, required = false) String secret,
+            @RequestHeader(MultiRoomForwarder.USER_HEADER) String userEmail,
+            @RequestBody MultiRoomJoinReqDto request
+    ) {
+        if (!forwarder.isTrusted(secret)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        multiRoomWebSocketService.joinRoom(userEmail, request, null);
+        return ResponseEntity.accepted().build();
+    }
+
+    @PostMapping("/{roomId}/leave")
+    public ResponseEntity<Void> leaveRoom(
+            @PathVariable String roomId,
+            @RequestHeader(value = MultiRoomForwarder.SECRET_HEADER, required = false) String secret,
+            @RequestHeader(MultiRoomForwarder.USER_HEADER) String userEmail
+    ) {
+        if (!forwarder.isTrusted(secret)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        multiRoomWebSocketService.leaveRoom(roomId, userEmail);
+        return ResponseEntity.accepted().build();
+    }
+
+    @PostMapping("/{roomId}/start")
+    public ResponseEntity<Void> startGame(
+            @PathVariable String roomId,
+            @RequestHeader(value = MultiRoomForwarder.SECRET_HEADER, required = false) String secret,
+            @RequestHeader(MultiRoomForwarder.USER_HEADER) String userEmail
+    ) {
+        if (!forwarder.isTrusted(secret)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        multiRoomWebSocketService.startGame(roomId, userEmail);
+        return ResponseEntity.accepted().build();
+    }
+
+    @PostMapping("/{roomId}/answer")
+    public ResponseEntity<Void> submitAnswer(
+            @PathVariable String roomId,
+            @RequestHeader(value = MultiRoomForwarder.SECRET_HEADER, required = false) String secret,
+            @RequestHeader(MultiRoomForwarder.USER_HEADER) String userEmail,
+            @RequestBody AnswerRequest answerRequest
+    ) {
+        if (!forwarder.isTrusted(secret)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        multiRoomWebSocketService.receiveMultiRoomAnswer(roomId, userEmail, answerRequest);
+        return ResponseEntity.accepted().build();
+    }
+
+    @PostMapping("/{roomId}/reconnect")
+    public ResponseEntity<Void> handleReconnect(
+            @PathVariable String roomId,
+            @RequestHeader(value = MultiRoomForwarder.SECRET_HEADER, required = false) String secret,
+            @RequestHeader(MultiRoomForwarder.USER_HEADER) String userEmail
+    ) {
+        if (!forwarder.isTrusted(secret)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        multiRoomWebSocketService.resendCurrentQuestionToUser(roomId, userEmail);
+        return ResponseEntity.accepted().build();
+    }
+}
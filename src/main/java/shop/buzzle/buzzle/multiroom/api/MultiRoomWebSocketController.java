@@ -7,6 +7,7 @@ import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 import shop.buzzle.buzzle.multiroom.api.dto.request.MultiRoomJoinReqDto;
+import shop.buzzle.buzzle.multiroom.application.MultiRoomForwarder;
 import shop.buzzle.buzzle.multiroom.application.MultiRoomWebSocketService;
 import shop.buzzle.buzzle.websocket.api.dto.AnswerRequest;
 
@@ -15,6 +16,8 @@ import shop.buzzle.buzzle.websocket.api.dto.AnswerRequest;
 public class MultiRoomWebSocketController {
 
     private final MultiRoomWebSocketService multiRoomWebSocketService;
+    // 방 메시지는 방을 가진 서버에서 처리하고, 다른 서버에 도착하면 그 서버로 넘긴다
+    private final MultiRoomForwarder forwarder;
 
     // 초대코드로 방 참가 (웹소켓)
     @MessageMapping("/room/join")
@@ -23,6 +26,9 @@ public class MultiRoomWebSocketController {
             @Payload MultiRoomJoinReqDto request
     ) {
         String userEmail = (String) headerAccessor.getSessionAttributes().get("userEmail");
+        if (forwarder.forwardJoinIfRemote(userEmail, request)) {
+            return;
+        }
         multiRoomWebSocketService.joinRoom(userEmail, request, headerAccessor);
     }
 
@@ -33,6 +39,9 @@ public class MultiRoomWebSocketController {
             SimpMessageHeaderAccessor headerAccessor
     ) {
         String userEmail = (String) headerAccessor.getSessionAttributes().get("userEmail");
+        if (forwarder.forwardIfRemote(roomId, "leave", userEmail, null)) {
+            return;
+        }
         multiRoomWebSocketService.leaveRoom(roomId, userEmail);
     }
 
@@ -43,6 +52,9 @@ public class MultiRoomWebSocketController {
             SimpMessageHeaderAccessor headerAccessor
     ) {
         String userEmail = (String) headerAccessor.getSessionAttributes().get("userEmail");
+        if (forwarder.forwardIfRemote(roomId, "start", userEmail, null)) {
+            return;
+        }
         multiRoomWebSocketService.startGame(roomId, userEmail);
     }
 
@@ -54,6 +66,9 @@ public class MultiRoomWebSocketController {
             @Payload AnswerRequest answerRequest
     ) {
         String userEmail = (String) headerAccessor.getSessionAttributes().get("userEmail");
+        if (forwarder.forwardIfRemote(roomId, "answer", userEmail, answerRequest)) {
+            return;
+        }
         multiRoomWebSocketService.receiveMultiRoomAnswer(roomId, userEmail, answerRequest);
     }
 
@@ -63,6 +78,10 @@ public class MultiRoomWebSocketController {
             @DestinationVariable String roomId,
             SimpMessageHeaderAccessor headerAccessor
     ) {
-        multiRoomWebSocketService.resendCurrentQuestionToUser(roomId);
+        String userEmail = (String) headerAccessor.getSessionAttributes().get("userEmail");
+        if (forwarder.forwardIfRemote(roomId, "reconnect", userEmail, null)) {
+            return;
+        }
+        multiRoomWebSocketService.resendCurrentQuestionToUser(roomId, userEmail);
     }
 }
\ No newline at end of file
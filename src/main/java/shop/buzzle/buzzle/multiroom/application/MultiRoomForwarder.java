@@ -0,0 +1,124 @@
+package shop.buzzle.buzzle.multiroom.application;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import shop.buzzle.buzzle.global.cluster.ClusterMembership;
+import shop.buzzle.buzzle.global.cluster.ClusterMembership.Node;
+import shop.buzzle.buzzle.multiroom.api.dto.request.MultiRoomJoinReqDto;
+import shop.buzzle.buzzle.multiroom.api.dto.response.MultiRoomEventResponse;
+
+/**
+ * 소유 서버가 아닌 곳에 도착한 /app/room/... 메시지를 소유 서버의 /internal/multi-room 으로 넘긴다.
+ * 소유 서버가 보내는 응답은 브로커(websocket.broker.mode=relay)를 거쳐 이 서버에 붙은 사용자에게 전달된다.
+ * 넘기는 작업은 방(초대 코드)마다 같은 스레드에서 순서대로 실행해서, 한 방의 메시지 순서를 지킨다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MultiRoomForwarder {
+
+    public static final String SECRET_HEADER = "X-Buzzle-Cluster-Secret";
+    public static final String USER_HEADER = "X-Buzzle-User";
+
+    private final ClusterMembership membership;
+    private final RoomOwnership ownership;
+    private final RestTemplate restTemplate;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    // 서버끼리만 아는 값. 내부 요청은 사용자를 대신하므로 클러스터로 띄울 때는 반드시 설정한다
+    @Value("${cluster.forward-secret:}")
+    private String secret;
+
+    @Value("${cluster.forward-threads:8}")
+    private int threads;
+
+    private ExecutorService[] lanes;
+
+    @PostConstruct
+    public void init() {
+        if (membership.isClustered() && !StringUtils.hasText(secret)) {
+            throw new IllegalStateException("클러스터 모드에서는 cluster.forward-secret 이 필요합니다.");
+        }
+        lanes = new ExecutorService[threads];
+        for (int i = 0; i < threads; i++) {
+            String name = "room-forward-" + (i + 1);
+            lanes[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    // 소유 서버가 다른 서버면 넘기고 true 를 반환한다
+    public boolean forwardIfRemote(String roomId, String action, String userEmail, Object body) {
+        Node owner = ownership.ownerOfRoom(roomId);
+        if (ownership.isLocal(owner)) {
+            return false;
+        }
+        forward(roomId, owner, "/internal/multi-room/" + roomId + "/" + action, userEmail, body);
+        return true;
+    }
+
+    public boolean forwardJoinIfRemote(String userEmail, MultiRoomJoinReqDto request) {
+        if (request == null) {
+            return false;
+        }
+        Node owner = ownership.ownerOfInviteCode(request.inviteCode());
+        if (ownership.isLocal(owner)) {
+            return false;
+        }
+        forward(request.inviteCode(), owner, "/internal/multi-room/join", userEmail, request);
+        return true;
+    }
+
+    public boolean isTrusted(String secretHeader) {
+        return StringUtils.hasText(secret) && secretHeader != null && MessageDigest.isEqual(
+                secret.getBytes(StandardCharsets.UTF_8), secretHeader.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void forward(String laneKey, Node owner, String path, String userEmail, Object body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(SECRET_HEADER, secret);
+        headers.set(USER_HEADER, userEmail);
+        HttpEntity<Object> request = new HttpEntity<>(body, headers);
+
+        lanes[Math.floorMod(laneKey.hashCode(), lanes.length)].execute(() -> {
+            try {
+                restTemplate.postForEntity(owner.baseUrl() + path, request, Void.class);
+            } catch (RestClientException e) {
+                log.warn("⚠️ [ROOM_FORWARD_FAILED] Owner: {}, Path: {}, Error: {}", owner.id(), path, e.getMessage());
+                if (userEmail != null) {
+                    messagingTemplate.convertAndSendToUser(
+                            userEmail,
+                            "/queue/room",
+                            MultiRoomEventResponse.error("방 서버에 연결할 수 없습니다. 잠시 후 다시 시도해 주세요.")
+                    );
+                }
+            }
+        });
+    }
+}
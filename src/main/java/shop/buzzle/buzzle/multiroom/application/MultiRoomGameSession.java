@@ -1,14 +1,18 @@
 package shop.buzzle.buzzle.multiroom.application;
 
 import lombok.Getter;
+import shop.buzzle.buzzle.game.application.EncodedFrame;
+import shop.buzzle.buzzle.game.application.GameHandoff;
+import shop.buzzle.buzzle.game.application.PlayerDirectory;
+import shop.buzzle.buzzle.game.application.ScoreBoard;
 import shop.buzzle.buzzle.quiz.domain.QuizCategory;
 import shop.buzzle.buzzle.websocket.api.dto.Question;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 @Getter
@@ -17,34 +21,86 @@ public class MultiRoomGameSession {
     private final List<Question> questions;
     private final List<String> playerEmails;
     private final QuizCategory category;
-
-    private int currentQuestionIndex = 0;
-    private boolean finished = false;
-    private final Map<String, Integer> scores = new HashMap<>();
+    private volatile int totalQuestions;
+    private volatile boolean generationComplete;
+
+    private volatile int currentQuestionIndex = 0;
+    private volatile boolean finished = false;
+    private volatile long questionDeadline; // 현재 문제의 마감 시각 (epoch ms)
+    private volatile long questionSentAt; // 현재 문제를 처음 보낸 시각 (System.nanoTime)
+    private final ScoreBoard scoreBoard;
+    private final PlayerDirectory players = new PlayerDirectory();
+    // 문제 번호별로 한 번만 직렬화한 QUESTION 프레임
+    private final Map<Integer, EncodedFrame> questionFrames = new ConcurrentHashMap<>();
 
     private final AtomicBoolean correctAnswered = new AtomicBoolean(false);
     private final AtomicBoolean transitionLock = new AtomicBoolean(false);
     private final AtomicBoolean timerRunning = new AtomicBoolean(false);
+    private final AtomicBoolean waitingForQuestion = new AtomicBoolean(false);
 
     public MultiRoomGameSession(String roomId, List<Question> questions,
                                List<String> playerEmails, QuizCategory category) {
+        this(roomId, questions.size(), playerEmails, category);
+        this.questions.addAll(questions);
+        this.generationComplete = true;
+    }
+
+    // 문제가 생성되는 대로 appendQuestion 으로 채워지는 세션
+    public MultiRoomGameSession(String roomId, int expectedQuestions,
+                               List<String> playerEmails, QuizCategory category) {
         this.roomId = roomId;
-        this.questions = questions;
+        this.questions = new CopyOnWriteArrayList<>();
+        this.totalQuestions = expectedQuestions;
         this.playerEmails = List.copyOf(playerEmails);
         this.category = category;
-
-        for (String email : playerEmails) {
-            scores.put(email, 0);
-        }
+        this.scoreBoard = new ScoreBoard(this.playerEmails);
     }
 
     public Question getCurrentQuestion() {
-        if (currentQuestionIndex >= questions.size()) {
+        if (!isCurrentQuestionReady()) {
             return null;
         }
         return questions.get(currentQuestionIndex);
     }
 
+    public boolean isCurrentQuestionReady() {
+        return currentQuestionIndex < questions.size();
+    }
+
+    /**
+     * 생성이 끝난 문제를 추가한다. 현재 문제를 기다리던 중이었다면 true 를 반환하며, 호출한 쪽이 문제를 전송해야 한다.
+     */
+    public boolean appendQuestion(Question question) {
+        questions.add(question);
+        return isCurrentQuestionReady() && waitingForQuestion.compareAndSet(true, false);
+    }
+
+    /**
+     * 문제 생성이 끝났음을 표시하고 실제로 만들어진 개수로 전체 문제 수를 맞춘다.
+     * 현재 문제를 기다리던 중이었다면 true 를 반환하며, 호출한 쪽이 다음 진행(전송 또는 종료)을 맡는다.
+     */
+    public boolean completeGeneration() {
+        totalQuestions = questions.size();
+        generationComplete = true;
+        return waitingForQuestion.compareAndSet(true, false);
+    }
+
+    /**
+     * 현재 문제가 아직 생성되지 않았으면 대기 상태로 표시하고 false 를 반환한다.
+     * 표시한 직후 문제가 도착했거나 생성이 끝났다면 직접 이어서 진행하도록 true 를 반환한다.
+     */
+    public boolean awaitCurrentQuestion() {
+        if (isCurrentQuestionReady()) {
+            return true;
+        }
+        waitingForQuestion.set(true);
+        return (isCurrentQuestionReady() || generationComplete) && waitingForQuestion.compareAndSet(true, false);
+    }
+
+    public void finish() {
+        finished = true;
+    }
+
     public boolean tryAnswerCorrect(String playerEmail, int selectedIndex) {
         if (finished || correctAnswered.get()) return false;
         if (!playerEmails.contains(playerEmail)) return false;
@@ -64,7 +120,7 @@ public class MultiRoomGameSession {
             currentQuestionIndex++;
             correctAnswered.set(false);
             timerRunning.set(false);
-            if (currentQuestionIndex >= questions.size()) {
+            if (currentQuestionIndex >= totalQuestions) {
                 finished = true;
             }
             transitionLock.set(false);
@@ -77,6 +133,14 @@ public class MultiRoomGameSession {
         return timerRunning.compareAndSet(false, true);
     }
 
+    public void startDeadline(long deadline) {
+        this.questionDeadline = deadline;
+    }
+
+    public void markQuestionSent(long sentAt) {
+        this.questionSentAt = sentAt;
+    }
+
     public void stopTimer() {
         timerRunning.set(false);
     }
@@ -86,28 +150,61 @@ public class MultiRoomGameSession {
     }
 
     public void addCorrectAnswer(String playerEmail) {
-        scores.put(playerEmail, scores.getOrDefault(playerEmail, 0) + 1);
+        scoreBoard.add(playerEmail, 1);
+    }
+
+    // 점수가 바뀔 때마다 새로 만들어지는 불변 순위표. 락 없이 읽는다
+    public ScoreBoard.Standings getStandings() {
+        return scoreBoard.standings();
     }
 
     public String getWinner() {
-        return scores.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
+        return scoreBoard.standings().leader();
     }
 
     public String getCurrentLeader() {
-        return scores.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
+        return scoreBoard.standings().leader();
     }
 
-    public Map<String, Integer> getCurrentScores() {
-        return new HashMap<>(scores);
+    /**
+     * 다른 서버로 넘길 진행 상태. 타이머가 돌고 있으면 남은 시간과 함께 QUESTION 단계로 저장한다.
+     */
+    public GameHandoff toHandoff(String roomId, long now) {
+        boolean asking = timerRunning.get() && isCurrentQuestionReady();
+        return new GameHandoff(
+                roomId,
+                List.copyOf(questions),
+                totalQuestions,
+                generationComplete,
+                currentQuestionIndex,
+                getCurrentScores(),
+                playerEmails,
+                asking ? GameHandoff.Phase.QUESTION : GameHandoff.Phase.LOADING,
+                asking ? Math.max(0, questionDeadline - now) : 0,
+                now,
+                null,
+                null
+        );
     }
 
-    public int getTotalQuestions() {
-        return questions.size();
+    /**
+     * 넘겨받은 진행 상태로 되돌린다. 문제 전송과 타이머는 호출한 쪽이 다시 시작한다.
+     */
+    public void restore(GameHandoff handoff) {
+        questions.addAll(handoff.questions());
+        totalQuestions = handoff.totalQuestions();
+        generationComplete = handoff.generationComplete();
+        currentQuestionIndex = handoff.currentQuestionIndex();
+        finished = currentQuestionIndex >= totalQuestions;
+        // 순위 순서대로 더해서 동점자 순서를 유지한다
+        handoff.scores().forEach((email, score) -> {
+            if (score > 0) {
+                scoreBoard.add(email, score);
+            }
+        });
+    }
+
+    public Map<String, Integer> getCurrentScores() {
+        return scoreBoard.standings().scores();
     }
 }
\ No newline at end of file
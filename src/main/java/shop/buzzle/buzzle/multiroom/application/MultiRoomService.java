@@ -3,6 +3,11 @@ package shop.buzzle.buzzle.multiroom.application;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import shop.buzzle.buzzle.game.application.DrainState;
+import shop.buzzle.buzzle.game.application.GameHandoff;
+import shop.buzzle.buzzle.game.exception.ServerDrainingException;
+import shop.buzzle.buzzle.game.journal.GameJournal;
+import shop.buzzle.buzzle.game.journal.JournalEvent;
 import shop.buzzle.buzzle.member.domain.Member;
 import shop.buzzle.buzzle.member.domain.repository.MemberRepository;
 import shop.buzzle.buzzle.member.exception.MemberNotFoundException;
@@ -13,6 +18,7 @@ import shop.buzzle.buzzle.multiroom.api.dto.response.MultiRoomInfoResDto;
 import shop.buzzle.buzzle.multiroom.api.dto.response.InviteCodeValidationResDto;
 import shop.buzzle.buzzle.multiroom.api.dto.response.GameEndResponseDto;
 import shop.buzzle.buzzle.multiroom.domain.MultiRoom;
+import shop.buzzle.buzzle.multiroom.domain.registry.RoomRegistry;
 import shop.buzzle.buzzle.multiroom.exception.MultiRoomFullException;
 import shop.buzzle.buzzle.multiroom.exception.MultiRoomNotFoundException;
 import shop.buzzle.buzzle.multiroom.exception.InvalidInviteCodeException;
@@ -20,8 +26,8 @@ import shop.buzzle.buzzle.multiroom.exception.GameAlreadyStartedException;
 import shop.buzzle.buzzle.multiroom.event.MultiRoomGameStartEvent;
 
 import java.security.SecureRandom;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,31 +37,45 @@ MultiRoomService {
 
     private final MemberRepository memberRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final RoomRegistry roomRegistry;
+    private final RoomOwnership roomOwnership;
+    private final DrainState drainState;
+    private final GameJournal journal;
 
-    private final Map<String, MultiRoom> roomsByRoomId = new ConcurrentHashMap<>();
-    private final Map<String, String> inviteCodeToRoomId = new ConcurrentHashMap<>();
-
-    private static final String INVITE_CODE_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final String INVITE_CODE_CHARS = RoomOwnership.SHARD_CHARS;
     private static final int INVITE_CODE_LENGTH = 6;
     private final SecureRandom random = new SecureRandom();
 
     public MultiRoomCreateResDto createRoom(String hostEmail, MultiRoomCreateReqDto request) {
+        if (drainState.isDraining()) {
+            throw new ServerDrainingException();
+        }
+
         Member host = memberRepository.findByEmail(hostEmail)
                 .orElseThrow(MemberNotFoundException::new);
 
-        String roomId = UUID.randomUUID().toString();
-        String inviteCode = generateInviteCode();
+        // 이 서버가 가진 샤드로 만들어서 방 메시지를 이 서버가 처리한다
+        char shard = roomOwnership.pickLocalShard(random);
+        String roomId = roomOwnership.newRoomId(shard);
+        String inviteCode;
 
-        MultiRoom room = new MultiRoom(
+        // 다른 서버가 같은 초대 코드를 먼저 등록했으면 새 코드로 다시 시도
+        do {
+            inviteCode = generateInviteCode(shard);
+        } while (!roomRegistry.register(new MultiRoom(
                 roomId,
                 inviteCode,
                 request.maxPlayers(),
                 request.category(),
                 request.quizCount()
-        );
-
-        roomsByRoomId.put(roomId, room);
-        inviteCodeToRoomId.put(inviteCode, roomId);
+        )));
+        // 카테고리를 고르지 않은 방도 있어 null 을 담을 수 있는 맵을 쓴다
+        Map<String, Object> created = new LinkedHashMap<>();
+        created.put("inviteCode", inviteCode);
+        created.put("maxPlayers", request.maxPlayers());
+        created.put("category", request.category());
+        created.put("quizCount", request.quizCount());
+        journal.append(MultiRoomWebSocketService.GAME_KIND, roomId, JournalEvent.ROOM_CREATED, created);
 
         return new MultiRoomCreateResDto(
                 inviteCode,
@@ -67,42 +87,45 @@ MultiRoomService {
     }
 
     public MultiRoomInfoResDto joinRoom(String playerEmail, MultiRoomJoinReqDto request) {
-        String roomId = inviteCodeToRoomId.get(request.inviteCode());
+        String roomId = roomRegistry.findRoomId(request.inviteCode());
         if (roomId == null) {
             throw new InvalidInviteCodeException();
         }
 
-        MultiRoom room = roomsByRoomId.get(roomId);
-        if (room == null) {
-            throw new MultiRoomNotFoundException();
-        }
-
-        if (room.isGameStarted()) {
-            throw new GameAlreadyStartedException();
-        }
+        memberRepository.findByEmail(playerEmail)
+                .orElseThrow(MemberNotFoundException::new);
 
-        if (room.isFull()) {
-            throw new MultiRoomFullException();
-        }
+        // 검사와 추가를 한 번에 반영해서, 동시에 들어와도 최대 인원을 넘지 않는다
+        MultiRoom room = roomRegistry.update(roomId, r -> {
+            if (r.isGameStarted()) {
+                throw new GameAlreadyStartedException();
+            }
 
-        Member player = memberRepository.findByEmail(playerEmail)
-                .orElseThrow(MemberNotFoundException::new);
+            if (r.isFull()) {
+                throw new MultiRoomFullException();
+            }
 
-        // 첫 유저가 방장이 됨
-        if (room.getCurrentPlayerCount() == 0) {
-            room.setHost(playerEmail);
-        }
+            // 첫 유저가 방장이 됨
+            if (r.getCurrentPlayerCount() == 0) {
+                r.setHost(playerEmail);
+            }
 
-        boolean added = room.addPlayer(playerEmail);
-        if (!added) {
-            throw new MultiRoomFullException();
+            boolean added = r.addPlayer(playerEmail);
+            if (!added) {
+                throw new MultiRoomFullException();
+            }
+        });
+        if (room == null) {
+            throw new MultiRoomNotFoundException();
         }
+        journal.append(MultiRoomWebSocketService.GAME_KIND, roomId, JournalEvent.PLAYER_JOINED,
+                Map.of("email", playerEmail));
 
         return buildRoomInfo(room);
     }
 
     public void leaveRoom(String roomId, String playerEmail) {
-        MultiRoom room = roomsByRoomId.get(roomId);
+        MultiRoom room = roomRegistry.findById(roomId);
         if (room == null) {
             return;
         }
@@ -110,26 +133,58 @@ MultiRoomService {
         if (room.isHost(playerEmail)) {
             disbandRoom(roomId);
         } else {
-            room.removePlayer(playerEmail);
+            roomRegistry.update(roomId, r -> r.removePlayer(playerEmail));
+            journal.append(MultiRoomWebSocketService.GAME_KIND, roomId, JournalEvent.PLAYER_LEFT,
+                    Map.of("email", playerEmail));
         }
     }
 
     public void startGame(String roomId, String hostEmail) {
-        MultiRoom room = roomsByRoomId.get(roomId);
-        if (room == null) {
-            throw new MultiRoomNotFoundException();
+        if (drainState.isDraining()) {
+            throw new ServerDrainingException();
         }
 
-        if (!room.isHost(hostEmail)) {
-            throw new IllegalArgumentException("방장만 게임을 시작할 수 있습니다.");
+        MultiRoom room = roomRegistry.update(roomId, r -> {
+            if (!r.isHost(hostEmail)) {
+                throw new IllegalArgumentException("방장만 게임을 시작할 수 있습니다.");
+            }
+
+            r.startGame();
+        });
+        if (room == null) {
+            throw new MultiRoomNotFoundException();
         }
 
-        room.startGame();
         eventPublisher.publishEvent(new MultiRoomGameStartEvent(roomId));
     }
 
     public MultiRoom getRoom(String roomId) {
-        return roomsByRoomId.get(roomId);
+        return roomRegistry.peek(roomId);
+    }
+
+    // 인계받은 게임의 방. 방 목록에 없으면(LOCAL 모드에서 서버가 바뀐 경우) 인계 정보로 다시 등록한다
+    public MultiRoom restoreRoom(String roomId, GameHandoff handoff) {
+        MultiRoom room = roomRegistry.findById(roomId);
+        if (room != null) {
+            return room;
+        }
+
+        GameHandoff.Room saved = handoff.room();
+        MultiRoom restored = new MultiRoom(
+                roomId,
+                saved.inviteCode(),
+                saved.hostEmail(),
+                saved.maxPlayers(),
+                handoff.category(),
+                saved.quizCount(),
+                LocalDateTime.now(),
+                handoff.playerEmails(),
+                true
+        );
+        if (!roomRegistry.register(restored)) {
+            throw new InvalidInviteCodeException();
+        }
+        return restored;
     }
 
     public void disbandRoomAfterGame(String roomId) {
@@ -137,19 +192,12 @@ MultiRoomService {
     }
 
     public InviteCodeValidationResDto validateInviteCode(String inviteCode) {
-        // 초대코드로 방 ID 찾기
-        String roomId = inviteCodeToRoomId.get(inviteCode);
-        if (roomId == null) {
-            return InviteCodeValidationResDto.invalid("존재하지 않는 초대코드입니다.");
-        }
-
-        // 방 정보 확인
-        MultiRoom room = roomsByRoomId.get(roomId);
+        // 초대코드로 방 찾기
+        MultiRoom room = roomRegistry.peekByInviteCode(inviteCode);
         if (room == null) {
-            // 초대코드는 있지만 방이 없는 경우 (데이터 일관성 문제)
-            inviteCodeToRoomId.remove(inviteCode);
-            return InviteCodeValidationResDto.invalid("방을 찾을 수 없습니다.");
+            return InviteCodeValidationResDto.invalid("존재하지 않는 초대코드입니다.");
         }
+        String roomId = room.getRoomId();
 
         // 게임 시작 여부 확인
         if (room.isGameStarted()) {
@@ -182,10 +230,8 @@ MultiRoomService {
     }
 
     private void disbandRoom(String roomId) {
-        MultiRoom room = roomsByRoomId.remove(roomId);
-        if (room != null) {
-            inviteCodeToRoomId.remove(room.getInviteCode());
-        }
+        roomRegistry.remove(roomId);
+        journal.append(MultiRoomWebSocketService.GAME_KIND, roomId, JournalEvent.ROOM_DISBANDED, Map.of());
     }
 
     public MultiRoomInfoResDto buildRoomInfo(MultiRoom room) {
@@ -225,19 +271,15 @@ MultiRoomService {
                 .orElse("Unknown");
     }
 
-    private String generateInviteCode() {
+    // 첫 글자는 소유 서버의 샤드
+    private String generateInviteCode(char shard) {
         StringBuilder code = new StringBuilder(INVITE_CODE_LENGTH);
-        for (int i = 0; i < INVITE_CODE_LENGTH; i++) {
+        code.append(shard);
+        for (int i = 1; i < INVITE_CODE_LENGTH; i++) {
             code.append(INVITE_CODE_CHARS.charAt(random.nextInt(INVITE_CODE_CHARS.length())));
         }
 
-        String inviteCode = code.toString();
-
-        if (inviteCodeToRoomId.containsKey(inviteCode)) {
-            return generateInviteCode();
-        }
-
-        return inviteCode;
+        return code.toString();
     }
 
     public GameEndResponseDto.GameEndData createGameEndRanking(Map<String, Integer> scores, List<String> allPlayerEmails) {
@@ -2,11 +2,12 @@ package shop.buzzle.buzzle.multiroom.application;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.Disposable;
 import shop.buzzle.buzzle.member.domain.Member;
 import shop.buzzle.buzzle.member.domain.repository.MemberRepository;
 import shop.buzzle.buzzle.member.exception.MemberNotFoundException;
@@ -17,15 +18,30 @@ import shop.buzzle.buzzle.multiroom.domain.MultiRoom;
 import shop.buzzle.buzzle.multiroom.event.MultiRoomGameStartEvent;
 import shop.buzzle.buzzle.multiroom.exception.MultiRoomNotFoundException;
 import shop.buzzle.buzzle.quiz.api.dto.request.QuizSizeReqDto;
-import shop.buzzle.buzzle.quiz.api.dto.response.QuizResDto;
 import shop.buzzle.buzzle.quiz.application.QuizService;
+import shop.buzzle.buzzle.quiz.domain.QuizCategory;
 import shop.buzzle.buzzle.quiz.domain.QuizScore;
 import shop.buzzle.buzzle.websocket.api.dto.AnswerRequest;
 import shop.buzzle.buzzle.websocket.api.dto.Question;
+import shop.buzzle.buzzle.game.api.dto.GameResyncResponse;
 import shop.buzzle.buzzle.game.api.dto.WebSocketAnswerResponse;
+import shop.buzzle.buzzle.game.application.DrainableGames;
+import shop.buzzle.buzzle.game.application.EncodedFrame;
+import shop.buzzle.buzzle.game.application.GameClock;
+import shop.buzzle.buzzle.game.application.GameFrameBatcher;
+import shop.buzzle.buzzle.game.application.GameHandoff;
+import shop.buzzle.buzzle.game.application.GameHandoffStore;
+import shop.buzzle.buzzle.game.application.GameResultWriter;
+import shop.buzzle.buzzle.game.application.GameTelemetry;
+import shop.buzzle.buzzle.game.application.PlayerDirectory;
+import shop.buzzle.buzzle.game.application.TimerMode;
+import shop.buzzle.buzzle.game.application.RoomExecutor;
+import shop.buzzle.buzzle.game.application.ScoreBoard;
+import shop.buzzle.buzzle.game.journal.GameJournal;
+import shop.buzzle.buzzle.game.journal.JournalEvent;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
@@ -33,17 +49,39 @@ import java.util.concurrent.*;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class MultiRoomWebSocketService {
+public class MultiRoomWebSocketService implements DrainableGames {
+
+    // 인계 저장소와 저널에서 친구 초대 방 게임을 구분하는 이름
+    public static final String GAME_KIND = "multi-room";
 
     private final MultiRoomService multiRoomService;
     private final QuizService quizService;
     private final MemberRepository memberRepository;
     private final SimpMessageSendingOperations messagingTemplate;
-
+    private final GameClock gameClock;
+    private final RoomExecutor roomExecutor;
+    private final GameFrameBatcher frameBatcher;
+    private final GameResultWriter gameResultWriter;
+    private final GameTelemetry telemetry;
+    private final GameHandoffStore handoffStore;
+    private final GameJournal journal;
+
+    // 게임 상태는 roomExecutor 의 방별 메일박스 안에서만 바꾼다
     private final Map<String, MultiRoomGameSession> gameSessions = new ConcurrentHashMap<>();
-    private final Map<String, Object> roomLocks = new ConcurrentHashMap<>();
-    private final Map<String, List<ScheduledFuture<?>>> roomTimers = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(10);
+    private final Map<String, Disposable> questionFeeds = new ConcurrentHashMap<>();
+
+    @Value("${game.question-seconds:10}")
+    private int questionSeconds;
+
+    @Value("${game.timer.mode:tick}")
+    private TimerMode timerMode;
+
+    // 정답 또는 시간 종료 후 다음 문제를 보내기까지의 대기 시간
+    @Value("${game.next-question-delay-ms:3000}")
+    private long nextQuestionDelayMs;
+
+    @Value("${game.start-countdown-seconds:3}")
+    private int startCountdownSeconds;
 
     public void joinRoom(String playerEmail, MultiRoomJoinReqDto request, SimpMessageHeaderAccessor headerAccessor) {
         try {
@@ -94,11 +132,18 @@ public class MultiRoomWebSocketService {
             Member player = memberRepository.findByEmail(playerEmail)
                     .orElseThrow(() -> new MemberNotFoundException("참가자를 찾을 수 없습니다."));
 
-            // 방 전체에 입장 알림
-            messagingTemplate.convertAndSend(
-                    "/topic/room/" + inviteCode,
-                    MultiRoomEventResponse.playerJoined(player)
-            );
+            // 방 전체에 입장 알림 (게임 메시지와 순서가 섞이지 않도록 방 메일박스에서 전송)
+            inRoom(roomId, () -> {
+                // 진행 중인 게임이 있으면 플레이어 정보를 갱신한다
+                MultiRoomGameSession session = gameSessions.get(roomId);
+                if (session != null) {
+                    session.getPlayers().put(player);
+                }
+                messagingTemplate.convertAndSend(
+                        "/topic/room/" + inviteCode,
+                        MultiRoomEventResponse.playerJoined(player)
+                );
+            });
 
         } catch (Exception e) {
             log.error("❌ [ROOM_JOIN_ERROR] Player: {}, Error: {}", playerEmail, e.getMessage(), e);
@@ -118,6 +163,10 @@ public class MultiRoomWebSocketService {
     }
 
     public void leaveRoom(String roomId, String playerEmail) {
+        inRoom(roomId, () -> handleLeave(roomId, playerEmail));
+    }
+
+    private void handleLeave(String roomId, String playerEmail) {
         try {
             MultiRoom room = multiRoomService.getRoom(roomId);
             if (room == null) return;
@@ -134,8 +183,9 @@ public class MultiRoomWebSocketService {
                         MultiRoomEventResponse.message("방장이 퇴장하여 방이 해체되었습니다.")
                 );
                 gameSessions.remove(roomId);
-                roomLocks.remove(roomId);
                 cancelRoomTimers(roomId);
+                disposeQuestionFeed(roomId);
+                telemetry.finishRoom(roomId);
                 log.info("❌ [ROOM_DISBANDED] Host left, InviteCode: {} disbanded", inviteCode);
             } else {
                 Member player = memberRepository.findByEmail(playerEmail)
@@ -185,8 +235,12 @@ public class MultiRoomWebSocketService {
         }
     }
 
-    @Transactional
-    public void startMultiRoomGame(String roomId) {
+    // 방 메일박스에서 실행하고, 그 안에서 보낸 프레임은 하나의 상태 변화로 묶는다
+    private void inRoom(String roomId, Runnable change) {
+        roomExecutor.execute(roomId, () -> frameBatcher.transition(change));
+    }
+
+    private void startMultiRoomGame(String roomId) {
         MultiRoom room = multiRoomService.getRoom(roomId);
         if (room == null) throw new MultiRoomNotFoundException();
 
@@ -195,42 +249,73 @@ public class MultiRoomWebSocketService {
         log.info("✅ [GAME_STARTING] Room: {}, Players: {}, Category: {}, Quiz Count: {}",
                 inviteCode, room.getCurrentPlayerCount(), room.getCategory(), room.getQuizCount());
 
-        List<QuizResDto> quizzes = quizService
-                .askForAdvice(new QuizSizeReqDto(room.getCategory(), room.getQuizCount()))
-                .quizResDtos();
-
-        List<Question> questions = quizzes.stream()
-                .map(q -> new Question(
-                        q.question(),
-                        List.of(q.option1(), q.option2(), q.option3(), q.option4()),
-                        q.answer()
-                ))
-                .toList();
-
         MultiRoomGameSession session = new MultiRoomGameSession(
                 roomId,
-                questions,
+                room.getQuizCount(),
                 room.getPlayerEmails(),
                 room.getCategory()
         );
-
+        // 답안 처리 중 DB 를 조회하지 않도록 플레이어 정보를 미리 담아 둔다
+        session.getPlayers().putAll(memberRepository.findAllByEmailIn(room.getPlayerEmails()));
         gameSessions.put(roomId, session);
+        Map<String, Object> started = new LinkedHashMap<>();
+        started.put("players", room.getPlayerEmails());
+        started.put("totalQuestions", session.getTotalQuestions());
+        started.put("category", room.getCategory());
+        journal.append(GAME_KIND, roomId, JournalEvent.GAME_STARTED, started);
+
+        // 카운트다운 동안 문제 생성을 시작하고, 준비되는 대로 세션에 추가한다
+        startQuestionFeed(roomId, inviteCode, session, room.getCategory(), room.getQuizCount());
 
         Map<String, Object> gameStartPayload = Map.of(
             "type", "GAME_START",
             "totalQuestions", session.getTotalQuestions(),
-            "countdownSeconds", 3
+            "countdownSeconds", startCountdownSeconds
         );
-        messagingTemplate.convertAndSend("/topic/room/" + inviteCode, gameStartPayload);
+        frameBatcher.send("/topic/room/" + inviteCode, gameStartPayload);
 
-        log.info("✅ [GAME_COUNTDOWN] Room: {}, Starting in 3 seconds...", inviteCode);
+        log.info("✅ [GAME_COUNTDOWN] Room: {}, Starting in {} seconds...", inviteCode, startCountdownSeconds);
+
+        gameClock.schedule(roomId, TimeUnit.SECONDS.toMillis(startCountdownSeconds),
+                () -> inRoom(roomId, () -> sendCurrentQuestion(roomId)));
+    }
+
+    private void startQuestionFeed(String roomId, String inviteCode, MultiRoomGameSession session,
+                                   QuizCategory category, int count) {
+        Disposable feed = quizService
+                .streamForGame(new QuizSizeReqDto(category, count), session.getPlayerEmails())
+                .map(Question::from)
+                .subscribe(
+                        question -> inRoom(roomId, () -> {
+                            if (session.appendQuestion(question)) {
+                                sendCurrentQuestion(roomId);
+                            }
+                        }),
+                        e -> {
+                            log.warn("⚠️ [QUESTION_FEED_FAILED] Room: {}, Error: {}", inviteCode, e.getMessage());
+                            inRoom(roomId, () -> completeQuestionFeed(roomId, session));
+                        },
+                        () -> inRoom(roomId, () -> completeQuestionFeed(roomId, session))
+                );
+        questionFeeds.put(roomId, feed);
+    }
 
-        CompletableFuture.delayedExecutor(3, TimeUnit.SECONDS).execute(() -> {
+    private void completeQuestionFeed(String roomId, MultiRoomGameSession session) {
+        questionFeeds.remove(roomId);
+        log.info("🧩 [QUESTION_FEED_COMPLETE] Room: {}, Questions: {}", roomId, session.getQuestions().size());
+        if (session.completeGeneration()) {
             sendCurrentQuestion(roomId);
-        });
+        }
+    }
+
+    private void disposeQuestionFeed(String roomId) {
+        Disposable feed = questionFeeds.remove(roomId);
+        if (feed != null) {
+            feed.dispose();
+        }
     }
 
-    public void sendCurrentQuestion(String roomId) {
+    private void sendCurrentQuestion(String roomId) {
         MultiRoom room = multiRoomService.getRoom(roomId);
         if (room == null) return;
         String inviteCode = room.getInviteCode();
@@ -239,23 +324,64 @@ public class MultiRoomWebSocketService {
         if (session == null || session.isFinished()) return;
 
         Question q = session.getCurrentQuestion();
-        if (q == null) return;
+        if (q == null) {
+            // 아직 생성 중이면 대기 상태로 두고, 문제가 도착하면 피드 쪽에서 다시 전송한다
+            if (!session.awaitCurrentQuestion()) {
+                Map<String, Object> loadingPayload = Map.of(
+                    "type", "LOADING",
+                    "message", "문제를 준비하고 있습니다."
+                );
+                frameBatcher.send("/topic/room/" + inviteCode, loadingPayload);
+                return;
+            }
+            q = session.getCurrentQuestion();
+        }
+        if (q == null) {
+            // 생성이 끝났는데 남은 문제가 없으면 게임 종료
+            session.finish();
+            handleMultiRoomGameEnd(roomId, session);
+            return;
+        }
 
-        Map<String, Object> payload = Map.of(
-            "type", "QUESTION",
-            "question", q.text(),
-            "options", q.options(),
-            "questionIndex", session.getCurrentQuestionIndex()
-        );
+        // 타이머가 이미 실행 중이 아닌 경우에만 시작
+        boolean timerStarted = session.tryStartTimer();
+        if (timerStarted) {
+            session.startDeadline(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(questionSeconds));
+            session.markQuestionSent(System.nanoTime());
+            journal.append(GAME_KIND, roomId, JournalEvent.QUESTION_SENT, Map.of(
+                    "questionIndex", session.getCurrentQuestionIndex(),
+                    "question", q,
+                    "deadline", session.getQuestionDeadline()
+            ));
+        }
 
-        messagingTemplate.convertAndSend("/topic/room/" + inviteCode, payload);
+        // 문제마다 한 번만 직렬화해 두고 같은 바이트를 보낸다
+        Question question = q;
+        EncodedFrame payload = session.getQuestionFrames().computeIfAbsent(session.getCurrentQuestionIndex(),
+                index -> frameBatcher.encode(Map.of(
+                    "type", "QUESTION",
+                    "question", question.text(),
+                    "options", question.options(),
+                    "questionIndex", index
+                )));
+        if (timerMode == TimerMode.DEADLINE) {
+            payload = payload.withFields(deadlineFields(session));
+        }
 
-        // 타이머가 이미 실행 중이 아닌 경우에만 시작
-        if (session.tryStartTimer()) {
-            startQuestionTimer(roomId, inviteCode, 10);
+        frameBatcher.send("/topic/room/" + inviteCode, payload);
+
+        if (timerStarted) {
+            startQuestionTimer(roomId, inviteCode, questionSeconds);
         }
     }
 
+    private Map<String, Long> deadlineFields(MultiRoomGameSession session) {
+        return Map.of(
+                "deadline", session.getQuestionDeadline(),
+                "serverTime", System.currentTimeMillis()
+        );
+    }
+
     private void startQuestionTimer(String roomId, String inviteCode, int seconds) {
         MultiRoomGameSession session = gameSessions.get(roomId);
         if (session == null) return;
@@ -263,88 +389,87 @@ public class MultiRoomWebSocketService {
         // 기존 타이머들 취소
         cancelRoomTimers(roomId);
 
-        List<ScheduledFuture<?>> timerTasks = new ArrayList<>();
-
-        // 타이머 카운트다운 스케줄
-        for (int i = seconds; i > 0; i--) {
-            final int currentSecond = i;
-            ScheduledFuture<?> timerTask = scheduler.schedule(() -> {
-                // 세션이 끝났거나 타이머가 중단되었으면 타이머 중단
-                if (session.isFinished() || !session.isTimerRunning()) return;
+        // 메일박스에서 늦게 처리되는 타이머가 다음 문제에 적용되지 않도록 시작한 문제 번호를 기억한다
+        int questionIndex = session.getCurrentQuestionIndex();
 
-                Map<String, Object> timerPayload = Map.of(
-                    "type", "TIMER",
-                    "remainingTime", currentSecond
-                );
-                messagingTemplate.convertAndSend("/topic/room/" + inviteCode, timerPayload);
-            }, seconds - i, TimeUnit.SECONDS);
+        Runnable timeUp = () -> inRoom(roomId, () -> handleTimeUp(roomId, inviteCode, session, questionIndex));
 
-            timerTasks.add(timerTask);
+        // deadline 모드는 클라이언트가 직접 카운트다운하므로 시간 종료만 예약한다
+        if (timerMode == TimerMode.DEADLINE) {
+            gameClock.schedule(roomId, TimeUnit.SECONDS.toMillis(seconds), timeUp);
+            return;
         }
 
-        // 시간 종료 스케줄
-        ScheduledFuture<?> timeUpTask = scheduler.schedule(() -> {
-            // 세션이 끝났거나 타이머가 중단되었으면 시간 종료 처리하지 않음
-            if (session.isFinished() || !session.isTimerRunning()) return;
+        // 1초마다 남은 시간을 보내고, 시간이 다 되면 시간 종료 처리
+        gameClock.countdown(roomId, seconds, remainingTime -> inRoom(roomId, () -> {
+            // 세션이 끝났거나 타이머가 중단되었으면 타이머 중단
+            if (isStaleTimer(session, questionIndex)) return;
 
-            Map<String, Object> timeUpPayload = Map.of(
-                "type", "TIME_UP",
-                "message", "시간이 종료되었습니다!"
+            Map<String, Object> timerPayload = Map.of(
+                "type", "TIMER",
+                "remainingTime", remainingTime
             );
-            messagingTemplate.convertAndSend("/topic/room/" + inviteCode, timeUpPayload);
-
-            // 시간 초과 처리
-            if (!session.isFinished()) {
-                roomLocks.putIfAbsent(roomId, new Object());
-                synchronized (roomLocks.get(roomId)) {
-                    // 마지막 문제인 경우 바로 게임 종료
-                    if (session.getCurrentQuestionIndex() >= session.getTotalQuestions() - 1) {
-                        session.tryNextQuestion(); // 게임을 finished 상태로 만들기
-                        handleMultiRoomGameEnd(roomId, session);
-                        roomLocks.remove(roomId);
-                    } else {
-                        // 마지막 문제가 아닌 경우 다음 문제로
-                        if (session.tryNextQuestion()) {
-                            if (session.isFinished()) {
-                                handleMultiRoomGameEnd(roomId, session);
-                                roomLocks.remove(roomId);
-                            } else {
-                                Map<String, Object> loadingPayload = Map.of(
-                                    "type", "LOADING",
-                                    "message", "3초 후 다음 문제가 전송됩니다."
-                                );
-                                messagingTemplate.convertAndSend("/topic/room/" + inviteCode, loadingPayload);
-
-                                scheduler.schedule(() -> {
-                                    synchronized (roomLocks.get(roomId)) {
-                                        sendCurrentQuestion(roomId);
-                                    }
-                                }, 3, TimeUnit.SECONDS);
-                            }
-                        }
-                    }
-                }
+            frameBatcher.send("/topic/room/" + inviteCode, timerPayload);
+        }), timeUp);
+    }
+
+    private void handleTimeUp(String roomId, String inviteCode, MultiRoomGameSession session, int questionIndex) {
+        // 세션이 끝났거나 타이머가 중단되었으면 시간 종료 처리하지 않음
+        if (isStaleTimer(session, questionIndex)) return;
+        journal.append(GAME_KIND, roomId, JournalEvent.TIME_UP, Map.of("questionIndex", questionIndex));
+
+        Map<String, Object> timeUpPayload = Map.of(
+            "type", "TIME_UP",
+            "message", "시간이 종료되었습니다!"
+        );
+        frameBatcher.send("/topic/room/" + inviteCode, timeUpPayload);
+
+        // 마지막 문제인 경우 바로 게임 종료
+        if (session.getCurrentQuestionIndex() >= session.getTotalQuestions() - 1) {
+            session.tryNextQuestion(); // 게임을 finished 상태로 만들기
+            handleMultiRoomGameEnd(roomId, session);
+        } else if (session.tryNextQuestion()) {
+            // 마지막 문제가 아닌 경우 다음 문제로
+            if (session.isFinished()) {
+                handleMultiRoomGameEnd(roomId, session);
+            } else {
+                Map<String, Object> loadingPayload = Map.of(
+                    "type", "LOADING",
+                    "message", "3초 후 다음 문제가 전송됩니다."
+                );
+                frameBatcher.send("/topic/room/" + inviteCode, loadingPayload);
+
+                scheduleNextQuestion(roomId);
             }
-        }, seconds, TimeUnit.SECONDS);
+        }
+    }
 
-        timerTasks.add(timeUpTask);
+    private boolean isStaleTimer(MultiRoomGameSession session, int questionIndex) {
+        return session.isFinished() || !session.isTimerRunning() || session.getCurrentQuestionIndex() != questionIndex;
+    }
 
-        // 방별 타이머 저장
-        roomTimers.put(roomId, timerTasks);
+    private void scheduleNextQuestion(String roomId) {
+        long dueAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(nextQuestionDelayMs);
+        gameClock.schedule(roomId, nextQuestionDelayMs, () -> inRoom(roomId, () -> {
+            // 시계 틱과 메일박스 대기로 예약보다 늦어진 시간
+            telemetry.recordDispatchJitter(roomId, System.nanoTime() - dueAt);
+            sendCurrentQuestion(roomId);
+        }));
     }
 
     private void cancelRoomTimers(String roomId) {
-        List<ScheduledFuture<?>> timers = roomTimers.remove(roomId);
-        if (timers != null) {
-            for (ScheduledFuture<?> timer : timers) {
-                timer.cancel(false);
-            }
-            log.info("⏹️ [TIMERS_CANCELLED] Room: {} - {} timers cancelled", roomId, timers.size());
+        int cancelled = gameClock.cancelRoom(roomId);
+        if (cancelled > 0) {
+            log.info("⏹️ [TIMERS_CANCELLED] Room: {} - {} timers cancelled", roomId, cancelled);
         }
     }
 
-    @Transactional
     public void receiveMultiRoomAnswer(String roomId, String email, AnswerRequest answerRequest) {
+        long receivedAt = System.nanoTime();
+        inRoom(roomId, () -> handleAnswer(roomId, email, answerRequest, receivedAt));
+    }
+
+    private void handleAnswer(String roomId, String email, AnswerRequest answerRequest, long receivedAt) {
         MultiRoom room = multiRoomService.getRoom(roomId);
         if (room == null) return;
 
@@ -354,103 +479,111 @@ public class MultiRoomWebSocketService {
 
         if (answerRequest.questionIndex() != session.getCurrentQuestionIndex()) return;
 
-        roomLocks.putIfAbsent(roomId, new Object());
+        Question current = session.getCurrentQuestion();
+        if (current == null) return;
 
-        synchronized (roomLocks.get(roomId)) {
-            Question current = session.getCurrentQuestion();
-            if (current == null) return;
+        PlayerDirectory players = session.getPlayers();
+        if (!players.contains(email)) {
+            log.warn("⚠️ [UNKNOWN_PLAYER] Room: {}, Player: {}", inviteCode, email);
+            return;
+        }
 
-            boolean isCorrect = current.isCorrectIndex(answerRequest.index());
+        long answerNanos = receivedAt - session.getQuestionSentAt();
+        telemetry.recordAnswerTime(roomId, email, answerNanos);
 
-            Member member = memberRepository.findByEmail(email)
-                    .orElseThrow(MemberNotFoundException::new);
-            String displayName = member.getName();
+        boolean isCorrect = current.isCorrectIndex(answerRequest.index());
+        String displayName = players.nameOf(email);
 
-            int correctIndex = Integer.parseInt(current.answerIndex()) - 1;
+        int correctIndex = Integer.parseInt(current.answerIndex()) - 1;
 
-            log.info("📝 [ANSWER_RECEIVED] Player: {}, Room: {}, Question: {}, Answer: {}, Correct: {}",
-                    displayName, inviteCode, answerRequest.questionIndex() + 1, answerRequest.index() + 1, isCorrect);
+        log.info("📝 [ANSWER_RECEIVED] Player: {}, Room: {}, Question: {}, Answer: {}, Correct: {}",
+                displayName, inviteCode, answerRequest.questionIndex() + 1, answerRequest.index() + 1, isCorrect);
 
-            // ANSWER_RESULT 이벤트 전송
-            WebSocketAnswerResponse answerResponse = WebSocketAnswerResponse.of(
-                email,
-                displayName,
-                isCorrect,
-                String.valueOf(correctIndex),
-                String.valueOf(answerRequest.index())
-            );
-            messagingTemplate.convertAndSend("/topic/room/" + inviteCode, answerResponse);
+        // ANSWER_RESULT 이벤트 전송
+        WebSocketAnswerResponse answerResponse = WebSocketAnswerResponse.of(
+            email,
+            displayName,
+            isCorrect,
+            String.valueOf(correctIndex),
+            String.valueOf(answerRequest.index())
+        );
+        frameBatcher.send("/topic/room/" + inviteCode, answerResponse);
+        telemetry.recordAnswerBroadcast(roomId, System.nanoTime() - receivedAt);
 
-            if (!isCorrect) return;
+        if (!isCorrect) {
+            journalAnswer(roomId, email, answerRequest, false, false, answerNanos);
+            return;
+        }
 
-            boolean accepted = session.tryAnswerCorrect(email, answerRequest.index());
-            if (!accepted) {
-                log.warn("⚠️ [DUPLICATE_ANSWER] Player: {} already answered correctly for this question", displayName);
-                return;
-            }
+        boolean accepted = session.tryAnswerCorrect(email, answerRequest.index());
+        journalAnswer(roomId, email, answerRequest, true, accepted, answerNanos);
+        if (!accepted) {
+            log.warn("⚠️ [DUPLICATE_ANSWER] Player: {} already answered correctly for this question", displayName);
+            return;
+        }
 
-            // LEADERBOARD 이벤트 전송
-            String currentLeaderEmail = session.getCurrentLeader();
-            String currentLeaderName = currentLeaderEmail != null ?
-                memberRepository.findByEmail(currentLeaderEmail)
-                    .map(Member::getName)
-                    .orElse(currentLeaderEmail) : null;
-
-            Map<String, Integer> currentScores = session.getCurrentScores();
-
-            // 이메일 -> 이름 매핑 생성
-            Map<String, String> emailToName = new HashMap<>();
-            for (String userEmail : currentScores.keySet()) {
-                Member user = memberRepository.findByEmail(userEmail)
-                        .orElseThrow(MemberNotFoundException::new);
-                emailToName.put(userEmail, user.getName());
-            }
+        // LEADERBOARD 이벤트 전송. 선두와 점수는 같은 순위표에서 읽는다
+        ScoreBoard.Standings standings = session.getStandings();
+        String currentLeaderEmail = standings.leader();
+        String currentLeaderName = players.nameOf(currentLeaderEmail);
 
-            Map<String, Object> leaderboardPayload = Map.of(
-                "type", "LEADERBOARD",
-                "currentLeader", currentLeaderName,
-                "currentLeaderEmail", currentLeaderEmail,
-                "scores", currentScores,
-                "emailToName", emailToName
-            );
-            messagingTemplate.convertAndSend("/topic/room/" + inviteCode, leaderboardPayload);
+        Map<String, Integer> currentScores = standings.scores();
 
-            if (session.tryNextQuestion()) {
-                // 다음 문제로 넘어갈 때 현재 타이머 즉시 중단
-                session.stopTimer();
-                cancelRoomTimers(roomId);
+        // 이메일 -> 이름 매핑 생성
+        Map<String, String> emailToName = players.namesOf(currentScores.keySet());
 
-                if (session.isFinished()) {
-                    log.info("🏁 [GAME_FINISHED] Room: {}, Moving to game end", inviteCode);
-                    handleMultiRoomGameEnd(roomId, session);
-                    roomLocks.remove(roomId);
-                } else {
-                    log.info("⏭️ [NEXT_QUESTION] Room: {}, Question {}/{} completed, preparing next question",
-                            inviteCode, session.getCurrentQuestionIndex(), session.getTotalQuestions());
-
-                    // 타이머 중단 알림
-                    Map<String, Object> timerStopPayload = Map.of(
-                        "type", "TIMER_STOP",
-                        "message", "정답! 다음 문제로 이동합니다."
-                    );
-                    messagingTemplate.convertAndSend("/topic/room/" + inviteCode, timerStopPayload);
+        Map<String, Object> leaderboardPayload = Map.of(
+            "type", "LEADERBOARD",
+            "currentLeader", currentLeaderName,
+            "currentLeaderEmail", currentLeaderEmail,
+            "scores", currentScores,
+            "emailToName", emailToName
+        );
+        frameBatcher.send("/topic/room/" + inviteCode, leaderboardPayload);
 
-                    Map<String, Object> loadingPayload = Map.of(
-                        "type", "LOADING",
-                        "message", "3초 후 다음 문제가 전송됩니다."
-                    );
-                    messagingTemplate.convertAndSend("/topic/room/" + inviteCode, loadingPayload);
+        if (session.tryNextQuestion()) {
+            // 다음 문제로 넘어갈 때 현재 타이머 즉시 중단
+            session.stopTimer();
+            cancelRoomTimers(roomId);
 
-                    scheduler.schedule(() -> {
-                        synchronized (roomLocks.get(roomId)) {
-                            sendCurrentQuestion(roomId);
-                        }
-                    }, 3, TimeUnit.SECONDS);
-                }
+            if (session.isFinished()) {
+                log.info("🏁 [GAME_FINISHED] Room: {}, Moving to game end", inviteCode);
+                handleMultiRoomGameEnd(roomId, session);
+            } else {
+                log.info("⏭️ [NEXT_QUESTION] Room: {}, Question {}/{} completed, preparing next question",
+                        inviteCode, session.getCurrentQuestionIndex(), session.getTotalQuestions());
+
+                // 타이머 중단 알림
+                Map<String, Object> timerStopPayload = Map.of(
+                    "type", "TIMER_STOP",
+                    "message", "정답! 다음 문제로 이동합니다."
+                );
+                frameBatcher.send("/topic/room/" + inviteCode, timerStopPayload);
+
+                Map<String, Object> loadingPayload = Map.of(
+                    "type", "LOADING",
+                    "message", "3초 후 다음 문제가 전송됩니다."
+                );
+                frameBatcher.send("/topic/room/" + inviteCode, loadingPayload);
+
+                scheduleNextQuestion(roomId);
             }
         }
     }
 
+    // 공정성 문의에 답할 수 있도록 틀린 답안과 늦은 정답도 남긴다
+    private void journalAnswer(String roomId, String email, AnswerRequest answerRequest, boolean correct,
+                               boolean accepted, long answerNanos) {
+        journal.append(GAME_KIND, roomId, JournalEvent.ANSWER, Map.of(
+                "email", email,
+                "questionIndex", answerRequest.questionIndex(),
+                "index", answerRequest.index(),
+                "correct", correct,
+                "accepted", accepted,
+                "answerMs", TimeUnit.NANOSECONDS.toMillis(answerNanos)
+        ));
+    }
+
     private void handleMultiRoomGameEnd(String roomId, MultiRoomGameSession session) {
         MultiRoom room = multiRoomService.getRoom(roomId);
         if (room == null) return;
@@ -465,29 +598,34 @@ public class MultiRoomWebSocketService {
         // 우승자에게 점수 부여
         String winner = session.getWinner();
         if (winner != null) {
-            Member member = memberRepository.findByEmail(winner)
-                    .orElseThrow(MemberNotFoundException::new);
-            member.incrementStreak(QuizScore.MULTI_SCORE.getScore());
+            // DB 반영은 결과 기록기가 모아서 처리하므로 게임 종료가 DB 를 기다리지 않는다
+            gameResultWriter.record(GAME_KIND, roomId, winner, QuizScore.MULTI_SCORE.getScore());
         }
+        // 우승자가 없을 수 있어 null 을 담을 수 있는 맵을 쓴다
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("scores", scores);
+        result.put("winner", winner);
+        journal.append(GAME_KIND, roomId, JournalEvent.GAME_ENDED, result);
 
         // 로그 출력
         if (gameEndData.hasTie()) {
             log.info("🤝 [GAME_TIE] Room: {}, Multiple winners with same score", inviteCode);
         } else if (winner != null) {
-            Member member = memberRepository.findByEmail(winner)
-                    .orElseThrow(MemberNotFoundException::new);
-            log.info("🏆 [GAME_WINNER] Room: {}, Winner: {}", inviteCode, member.getName());
+            log.info("🏆 [GAME_WINNER] Room: {}, Winner: {}", inviteCode, session.getPlayers().nameOf(winner));
         }
 
         // 랭킹 정보와 함께 게임 종료 메시지 전송
         MultiRoomEventResponse gameEndResponse = MultiRoomEventResponse.gameEndWithRanking(gameEndData);
-        messagingTemplate.convertAndSend("/topic/room/" + inviteCode, gameEndResponse);
+        frameBatcher.send("/topic/room/" + inviteCode, gameEndResponse);
 
         // 게임 세션 정리
         gameSessions.remove(roomId);
 
-        // 타이머 정리
+        // 타이머, 문제 생성, 프레임 순번 정리
         cancelRoomTimers(roomId);
+        disposeQuestionFeed(roomId);
+        frameBatcher.forget("/topic/room/" + inviteCode);
+        telemetry.finishRoom(roomId);
 
         // 방 폭파
         multiRoomService.disbandRoomAfterGame(roomId);
@@ -495,29 +633,156 @@ public class MultiRoomWebSocketService {
         log.info("💥 [ROOM_DISBANDED] Room: {} disbanded after game completion", inviteCode);
     }
 
-    public void resendCurrentQuestionToUser(String roomId) {
+    // 재접속한 플레이어 한 명에게만 현재 상태를 보낸다. 방 전체에 문제를 다시 보내지 않는다
+    public void resendCurrentQuestionToUser(String roomId, String email) {
+        inRoom(roomId, () -> resyncPlayer(roomId, email));
+    }
+
+    private void resyncPlayer(String roomId, String email) {
+        MultiRoomGameSession session = gameSessions.get(roomId);
+        if (session == null) {
+            session = resumeHandedOffGame(roomId);
+        }
+
         MultiRoom room = multiRoomService.getRoom(roomId);
         if (room == null) return;
 
-        String inviteCode = room.getInviteCode();
-        MultiRoomGameSession session = gameSessions.get(roomId);
         if (session == null || session.isFinished()) return;
 
+        if (!session.getPlayers().contains(email)) {
+            log.warn("⚠️ [UNKNOWN_PLAYER] Room: {}, Player: {}", room.getInviteCode(), email);
+            return;
+        }
+
+        long seq = frameBatcher.lastSequence("/topic/room/" + room.getInviteCode());
         Question q = session.getCurrentQuestion();
-        if (q == null) return;
-
-        messagingTemplate.convertAndSend(
-                "/topic/room/" + inviteCode,
-                MultiRoomEventResponse.question(
-                        q.text(),
-                        q.options(),
-                        session.getCurrentQuestionIndex()
-                )
+        // 정답 처리 후 다음 문제를 보내기 전에는 아직 공개되지 않은 문제를 내보내지 않는다
+        GameResyncResponse resync = q != null && session.isTimerRunning()
+                ? GameResyncResponse.question(seq, session.getCurrentQuestionIndex(), session.getTotalQuestions(),
+                        q.text(), q.options(), session.getQuestionDeadline(), session.getCurrentScores())
+                : GameResyncResponse.loading(seq, session.getCurrentQuestionIndex(), session.getTotalQuestions(),
+                        session.getCurrentScores());
+
+        messagingTemplate.convertAndSendToUser(email, "/queue/room", resync);
+    }
+
+    @Override
+    public String kind() {
+        return GAME_KIND;
+    }
+
+    @Override
+    public int activeGames() {
+        return gameSessions.size();
+    }
+
+    @Override
+    public int handOff() {
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (String roomId : gameSessions.keySet()) {
+            CompletableFuture<Boolean> result = new CompletableFuture<>();
+            inRoom(roomId, () -> {
+                try {
+                    result.complete(handOffRoom(roomId));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            results.add(result);
+        }
+
+        int handedOff = 0;
+        for (CompletableFuture<Boolean> result : results) {
+            try {
+                if (result.get(5, TimeUnit.SECONDS)) {
+                    handedOff++;
+                }
+            } catch (Exception e) {
+                log.error("❌ [HANDOFF_FAILED] Error: {}", e.getMessage());
+            }
+        }
+        return handedOff;
+    }
+
+    // 진행 중인 게임을 인계 저장소에 넘기고 이 서버의 타이머와 문제 생성을 멈춘다
+    private boolean handOffRoom(String roomId) {
+        MultiRoomGameSession session = gameSessions.get(roomId);
+        MultiRoom room = multiRoomService.getRoom(roomId);
+        if (session == null || session.isFinished() || room == null) {
+            return false;
+        }
+        String inviteCode = room.getInviteCode();
+
+        GameHandoff handoff = session.toHandoff(roomId, System.currentTimeMillis()).withRoom(
+                room.getCategory(),
+                new GameHandoff.Room(inviteCode, room.getHostEmail(), room.getMaxPlayers(), room.getQuizCount())
+        );
+        handoffStore.save(GAME_KIND, handoff);
+        journal.append(GAME_KIND, roomId, JournalEvent.HANDED_OFF, Map.of());
+
+        gameSessions.remove(roomId);
+        cancelRoomTimers(roomId);
+        disposeQuestionFeed(roomId);
+
+        Map<String, Object> handoffPayload = Map.of(
+            "type", "HANDOFF",
+            "message", "서버 점검으로 게임을 옮기는 중입니다. 다시 연결하면 이어서 진행됩니다."
+        );
+        frameBatcher.send("/topic/room/" + inviteCode, handoffPayload);
+
+        log.info("📦 [ROOM_HANDED_OFF] Room: {}, Question: {}/{}, Phase: {}",
+                inviteCode, handoff.currentQuestionIndex() + 1, handoff.totalQuestions(), handoff.phase());
+        return true;
+    }
+
+    // 다른 서버가 정리하면서 넘긴 게임이 있으면 이 서버에서 이어서 진행한다
+    private MultiRoomGameSession resumeHandedOffGame(String roomId) {
+        GameHandoff handoff = handoffStore.take(GAME_KIND, roomId);
+        if (handoff == null) {
+            return null;
+        }
+
+        MultiRoom room = multiRoomService.restoreRoom(roomId, handoff);
+        String inviteCode = room.getInviteCode();
+
+        MultiRoomGameSession session = new MultiRoomGameSession(
+                roomId,
+                handoff.totalQuestions(),
+                handoff.playerEmails(),
+                handoff.category()
         );
+        session.restore(handoff);
+        session.getPlayers().putAll(memberRepository.findAllByEmailIn(handoff.playerEmails()));
+        gameSessions.put(roomId, session);
+        journal.append(GAME_KIND, roomId, JournalEvent.RESUMED, handoff);
+
+        if (handoff.missingQuestions() > 0) {
+            startQuestionFeed(roomId, inviteCode, session, handoff.category(), handoff.missingQuestions());
+        }
+
+        log.info("📥 [ROOM_RESUMED] Room: {}, Question: {}/{}, Phase: {}",
+                inviteCode, handoff.currentQuestionIndex() + 1, handoff.totalQuestions(), handoff.phase());
+
+        if (handoff.phase() == GameHandoff.Phase.QUESTION && handoff.remainingMs() > 0) {
+            // 남은 시간만큼만 다시 잰다
+            session.tryStartTimer();
+            session.startDeadline(System.currentTimeMillis() + handoff.remainingMs());
+            session.markQuestionSent(System.nanoTime());
+            sendCurrentQuestion(roomId);
+            startQuestionTimer(roomId, inviteCode, (int) TimeUnit.MILLISECONDS.toSeconds(handoff.remainingMs() + 999));
+        } else {
+            Map<String, Object> loadingPayload = Map.of(
+                "type", "LOADING",
+                "message", "게임을 이어서 진행합니다."
+            );
+            frameBatcher.send("/topic/room/" + inviteCode, loadingPayload);
+            scheduleNextQuestion(roomId);
+        }
+        return session;
     }
 
     @EventListener
     public void handleMultiRoomGameStart(MultiRoomGameStartEvent event) {
-        startMultiRoomGame(event.roomId());
+        inRoom(event.roomId(), () -> startMultiRoomGame(event.roomId()));
     }
 }
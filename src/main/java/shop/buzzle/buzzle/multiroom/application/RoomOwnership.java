@@ -0,0 +1,83 @@
+package shop.buzzle.buzzle.multiroom.application;
+
+import jakarta.annotation.PostConstruct;
+import java.util.Random;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import shop.buzzle.buzzle.global.cluster.ClusterMembership;
+import shop.buzzle.buzzle.global.cluster.ClusterMembership.Node;
+import shop.buzzle.buzzle.multiroom.domain.MultiRoom;
+import shop.buzzle.buzzle.multiroom.domain.registry.RoomRegistry;
+
+/**
+ * 친구 초대 방의 소유 서버. 게임 진행 상태는 소유 서버 메모리에만 있으므로 방 메시지는 모두 그 서버에서 처리한다.
+ * 초대 코드와 방 ID 의 첫 글자가 샤드이고, 샤드 36 개는 해시 링으로 서버에 나눠진다.
+ * 그래서 초대 코드나 방 ID 만 보고 조회 없이 소유 서버를 안다. 방은 만든 서버가 가진 샤드 중 하나로 만든다.
+ * 소유 서버가 내려가 있는 동안 다른 서버가 방을 대신 가져가지는 않는다. 인계한 게임은 소유 서버가 다시 떠야 이어진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomOwnership {
+
+    public static final String SHARD_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+    private final ClusterMembership membership;
+    private final RoomRegistry roomRegistry;
+
+    private String localShards;
+
+    @PostConstruct
+    public void init() {
+        StringBuilder shards = new StringBuilder();
+        for (char shard : SHARD_CHARS.toCharArray()) {
+            if (membership.isLocal(ownerOfShard(shard))) {
+                shards.append(shard);
+            }
+        }
+        localShards = shards.toString();
+        if (localShards.isEmpty()) {
+            log.warn("⚠️ [ROOM_SHARDS] Node {} owns no shard, new rooms will be owned by other nodes",
+                    membership.local().id());
+        } else if (membership.isClustered()) {
+            log.info("✅ [ROOM_SHARDS] Node: {}, Shards: {}", membership.local().id(), localShards);
+        }
+    }
+
+    // 이 서버가 가진 샤드 하나. 하나도 없으면 아무 샤드나 고른다
+    public char pickLocalShard(Random random) {
+        String shards = localShards.isEmpty() ? SHARD_CHARS : localShards;
+        return shards.charAt(random.nextInt(shards.length()));
+    }
+
+    public String newRoomId(char shard) {
+        return shard + "-" + UUID.randomUUID();
+    }
+
+    public Node ownerOfInviteCode(String inviteCode) {
+        return ownerOfShard(Character.toUpperCase(inviteCode.charAt(0)));
+    }
+
+    public Node ownerOfRoom(String roomId) {
+        if (hasShard(roomId)) {
+            return ownerOfShard(roomId.charAt(0));
+        }
+        // 샤드가 없는 예전 형식의 방 ID 는 초대 코드로 찾는다
+        MultiRoom room = roomRegistry.peek(roomId);
+        return room != null ? ownerOfInviteCode(room.getInviteCode()) : membership.local();
+    }
+
+    public boolean isLocal(Node node) {
+        return membership.isLocal(node);
+    }
+
+    private Node ownerOfShard(char shard) {
+        return membership.ownerOf("shard-" + shard);
+    }
+
+    private static boolean hasShard(String roomId) {
+        return roomId.length() > 2 && roomId.charAt(1) == '-' && SHARD_CHARS.indexOf(roomId.charAt(0)) >= 0;
+    }
+}
@@ -19,7 +19,7 @@ public class MultiRoom {
     private final LocalDateTime createdAt;
 
     private final List<String> playerEmails = Collections.synchronizedList(new ArrayList<>());
-    private boolean gameStarted = false;
+    private volatile boolean gameStarted = false;
 
     public MultiRoom(String roomId, String inviteCode, 
                     int maxPlayers, QuizCategory category, int quizCount) {
@@ -31,6 +31,20 @@ public class MultiRoom {
         this.createdAt = LocalDateTime.now();
     }
 
+    // 공유 저장소에 저장해 둔 상태로 방을 다시 만든다
+    public MultiRoom(String roomId, String inviteCode, String hostEmail, int maxPlayers, QuizCategory category,
+                     int quizCount, LocalDateTime createdAt, List<String> playerEmails, boolean gameStarted) {
+        this.roomId = roomId;
+        this.inviteCode = inviteCode;
+        this.hostEmail = hostEmail;
+        this.maxPlayers = maxPlayers;
+        this.category = category;
+        this.quizCount = quizCount;
+        this.createdAt = createdAt;
+        this.playerEmails.addAll(playerEmails);
+        this.gameStarted = gameStarted;
+    }
+
     public void setHost(String hostEmail) {
         if (this.hostEmail == null) {
             this.hostEmail = hostEmail;
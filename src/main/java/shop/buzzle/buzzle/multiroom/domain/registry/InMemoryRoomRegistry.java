@@ -0,0 +1,65 @@
+package shop.buzzle.buzzle.multiroom.domain.registry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import shop.buzzle.buzzle.multiroom.domain.MultiRoom;
+
+/**
+ * 서버 메모리에만 두는 방 목록. 변경은 방 객체를 잠그고 그 자리에서 적용한다.
+ */
+public class InMemoryRoomRegistry implements RoomRegistry {
+
+    private final Map<String, MultiRoom> roomsByRoomId = new ConcurrentHashMap<>();
+    private final Map<String, String> inviteCodeToRoomId = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean register(MultiRoom room) {
+        if (inviteCodeToRoomId.putIfAbsent(room.getInviteCode(), room.getRoomId()) != null) {
+            return false;
+        }
+        roomsByRoomId.put(room.getRoomId(), room);
+        return true;
+    }
+
+    @Override
+    public MultiRoom findById(String roomId) {
+        return roomsByRoomId.get(roomId);
+    }
+
+    @Override
+    public String findRoomId(String inviteCode) {
+        return inviteCodeToRoomId.get(inviteCode);
+    }
+
+    @Override
+    public MultiRoom peek(String roomId) {
+        return findById(roomId);
+    }
+
+    @Override
+    public MultiRoom peekByInviteCode(String inviteCode) {
+        String roomId = findRoomId(inviteCode);
+        return roomId != null ? findById(roomId) : null;
+    }
+
+    @Override
+    public MultiRoom update(String roomId, Consumer<MultiRoom> change) {
+        MultiRoom room = roomsByRoomId.get(roomId);
+        if (room == null) {
+            return null;
+        }
+        synchronized (room) {
+            change.accept(room);
+        }
+        return room;
+    }
+
+    @Override
+    public void remove(String roomId) {
+        MultiRoom room = roomsByRoomId.remove(roomId);
+        if (room != null) {
+            inviteCodeToRoomId.remove(room.getInviteCode());
+        }
+    }
+}
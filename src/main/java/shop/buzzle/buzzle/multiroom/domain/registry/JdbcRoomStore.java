@@ -0,0 +1,103 @@
+package shop.buzzle.buzzle.multiroom.domain.registry;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 모든 서버가 함께 쓰는 DB 테이블(room_store_entry)에 둔 RoomStore.
+ * compare-and-set 은 version 조건을 건 UPDATE 한 번이므로 행 락을 오래 잡지 않는다.
+ * 서버가 다시 떠도 내용이 남아야 하므로 JPA 엔티티로 두지 않고(ddl-auto: create 가 테이블을 지운다) 없을 때만 만든다.
+ * expires_at(epoch ms)이 지난 행은 읽을 때 없는 것으로 보고, purgeExpired 가 주기적으로 지운다.
+ */
+@Slf4j
+public class JdbcRoomStore implements RoomStore {
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS room_store_entry ("
+            + "store_key VARCHAR(100) NOT NULL PRIMARY KEY, "
+            + "store_value TEXT NOT NULL, "
+            + "version BIGINT NOT NULL, "
+            + "expires_at BIGINT NOT NULL)";
+    // expires_at 이 없던 테이블에 붙인다. 그 전에 쓴 행은 이미 만료된 것으로 보고 지운다
+    private static final String ADD_EXPIRES_AT = "ALTER TABLE room_store_entry ADD COLUMN expires_at BIGINT NOT NULL DEFAULT 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcRoomStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        jdbcTemplate.execute(CREATE_TABLE);
+        try {
+            jdbcTemplate.queryForList("SELECT expires_at FROM room_store_entry WHERE 1 = 0");
+        } catch (BadSqlGrammarException e) {
+            jdbcTemplate.execute(ADD_EXPIRES_AT);
+            log.info("✅ [ROOM_STORE] Added expires_at to room_store_entry");
+        }
+    }
+
+    @Override
+    public Entry get(String key) {
+        List<Entry> entries = jdbcTemplate.query(
+                "SELECT store_value, version FROM room_store_entry WHERE store_key = ? AND expires_at > ?",
+                (rs, rowNum) -> new Entry(rs.getString("store_value"), rs.getLong("version")),
+                key, System.currentTimeMillis());
+        return entries.isEmpty() ? null : entries.get(0);
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, String value, long ttlMs) {
+        long now = System.currentTimeMillis();
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO room_store_entry (store_key, store_value, version, expires_at) VALUES (?, ?, 0, ?)",
+                    key, value, now + ttlMs);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 만료됐지만 아직 지우지 않은 행이면 덮어쓴다. 버전은 이어서 올린다
+            return jdbcTemplate.update(
+                    "UPDATE room_store_entry SET store_value = ?, version = version + 1, expires_at = ? "
+                            + "WHERE store_key = ? AND expires_at <= ?",
+                    value, now + ttlMs, key, now) == 1;
+        }
+    }
+
+    @Override
+    public boolean compareAndSet(String key, long expectedVersion, String value, long ttlMs) {
+        long now = System.currentTimeMillis();
+        return jdbcTemplate.update(
+                "UPDATE room_store_entry SET store_value = ?, version = version + 1, expires_at = ? "
+                        + "WHERE store_key = ? AND version = ? AND expires_at > ?",
+                value, now + ttlMs, key, expectedVersion, now) == 1;
+    }
+
+    @Override
+    public void touch(String key, long ttlMs) {
+        long now = System.currentTimeMillis();
+        jdbcTemplate.update("UPDATE room_store_entry SET expires_at = ? WHERE store_key = ? AND expires_at > ?",
+                now + ttlMs, key, now);
+    }
+
+    @Override
+    public void remove(String key) {
+        jdbcTemplate.update("DELETE FROM room_store_entry WHERE store_key = ?", key);
+    }
+
+    @Override
+    public boolean removeIfVersion(String key, long expectedVersion) {
+        return jdbcTemplate.update("DELETE FROM room_store_entry WHERE store_key = ? AND version = ?",
+                key, expectedVersion) == 1;
+    }
+
+    // 죽은 서버가 남긴 방, 초대 코드, 아무도 이어받지 않은 인계를 지운다
+    @Scheduled(fixedDelayString = "${multiroom.registry.purge-interval-ms:60000}",
+            initialDelayString = "${multiroom.registry.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        int deleted = jdbcTemplate.update("DELETE FROM room_store_entry WHERE expires_at <= ?",
+                System.currentTimeMillis());
+        if (deleted > 0) {
+            log.info("🗑️ [ROOM_STORE_PURGED] Rows: {}", deleted);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package shop.buzzle.buzzle.multiroom.domain.registry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 안의 RoomStore. SharedRoomRegistry 여러 개가 하나를 나눠 쓰면 서버 여러 대를 흉내 낼 수 있어 테스트에 쓴다.
+ * 만료된 키는 읽거나 덮어쓸 때 지운다.
+ */
+public class LocalRoomStore implements RoomStore {
+
+    private final Map<String, Stored> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public Entry get(String key) {
+        Stored stored = entries.get(key);
+        if (stored == null) {
+            return null;
+        }
+        if (stored.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, stored);
+            return null;
+        }
+        return stored.entry();
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, String value, long ttlMs) {
+        long now = System.currentTimeMillis();
+        boolean[] put = new boolean[1];
+        entries.compute(key, (k, current) -> {
+            if (current != null && !current.isExpired(now)) {
+                return current;
+            }
+            put[0] = true;
+            // 만료된 키를 덮어써도 버전은 이어서 올린다
+            long version = current == null ? 0 : current.entry().version() + 1;
+            return new Stored(new Entry(value, version), now + ttlMs);
+        });
+        return put[0];
+    }
+
+    @Override
+    public boolean compareAndSet(String key, long expectedVersion, String value, long ttlMs) {
+        long now = System.currentTimeMillis();
+        boolean[] updated = new boolean[1];
+        entries.computeIfPresent(key, (k, current) -> {
+            if (current.isExpired(now) || current.entry().version() != expectedVersion) {
+                return current;
+            }
+            updated[0] = true;
+            return new Stored(new Entry(value, expectedVersion + 1), now + ttlMs);
+        });
+        return updated[0];
+    }
+
+    @Override
+    public void touch(String key, long ttlMs) {
+        long now = System.currentTimeMillis();
+        entries.computeIfPresent(key, (k, current) ->
+                current.isExpired(now) ? current : new Stored(current.entry(), now + ttlMs));
+    }
+
+    @Override
+    public void remove(String key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public boolean removeIfVersion(String key, long expectedVersion) {
+        boolean[] removed = new boolean[1];
+        entries.computeIfPresent(key, (k, current) -> {
+            if (current.entry().version() != expectedVersion) {
+                return current;
+            }
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    private record Stored(Entry entry, long expiresAt) {
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package shop.buzzle.buzzle.multiroom.domain.registry;
+
+import java.util.function.Consumer;
+import shop.buzzle.buzzle.multiroom.domain.MultiRoom;
+
+/**
+ * 친구 초대 방 목록 (multiroom.registry.mode).
+ * LOCAL: 서버 메모리에만 둔다. 서버가 한 대일 때 사용한다.
+ * SHARED: 모든 서버가 같은 RoomStore 를 보고 참가, 시작, 퇴장을 compare-and-set 으로 반영한다.
+ */
+public interface RoomRegistry {
+
+    /**
+     * 방을 등록한다. 초대 코드가 이미 쓰이고 있으면 등록하지 않고 false 를 반환한다.
+     */
+    boolean register(MultiRoom room);
+
+    // 최신 상태
+    MultiRoom findById(String roomId);
+
+    String findRoomId(String inviteCode);
+
+    /**
+     * 조회가 잦은 곳(초대 코드 확인, 게임 진행 중 초대 코드 조회)에서 쓰는 near cache 조회.
+     * SHARED 모드에서는 다른 서버의 변경이 multiroom.registry.near-cache-ttl-ms 만큼 늦게 보일 수 있다.
+     */
+    MultiRoom peek(String roomId);
+
+    MultiRoom peekByInviteCode(String inviteCode);
+
+    /**
+     * change 를 방에 적용하고 바뀐 방을 반환한다. 방이 없으면 null.
+     * change 가 예외를 던지면 아무것도 바꾸지 않는다. SHARED 모드에서는 다른 서버와 충돌하면 최신 상태로 다시 적용하므로
+     * change 는 여러 번 호출될 수 있고, 검사와 변경만 담아야 한다.
+     */
+    MultiRoom update(String roomId, Consumer<MultiRoom> change);
+
+    void remove(String roomId);
+}
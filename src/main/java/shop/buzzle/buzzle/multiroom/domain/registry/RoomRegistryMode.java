@@ -0,0 +1,6 @@
+package shop.buzzle.buzzle.multiroom.domain.registry;
+
+public enum RoomRegistryMode {
+    LOCAL,
+    SHARED
+}
@@ -0,0 +1,29 @@
+package shop.buzzle.buzzle.multiroom.domain.registry;
+
+/**
+ * 여러 서버가 함께 보는 버전 붙은 키-값 저장소. SharedRoomRegistry 가 방 상태를, GameHandoffStore 가 인계한 게임을 JSON 으로 저장한다.
+ * 값을 바꿀 때마다 버전이 1 씩 올라가고, compareAndSet 은 읽은 버전이 그대로일 때만 성공한다.
+ * 값을 쓸 때 준 ttlMs 가 지나면 없는 키로 본다. 서버가 죽어 지우지 못한 키가 남지 않게 하려는 것이다.
+ */
+public interface RoomStore {
+
+    // 없거나 만료됐으면 null
+    Entry get(String key);
+
+    // 만료된 키는 없는 키로 보고 덮어쓴다
+    boolean putIfAbsent(String key, String value, long ttlMs);
+
+    // 만료 시각도 지금부터 ttlMs 뒤로 다시 정한다
+    boolean compareAndSet(String key, long expectedVersion, String value, long ttlMs);
+
+    // 값과 버전은 그대로 두고 만료 시각만 늦춘다. 없거나 이미 만료된 키는 그대로 둔다
+    void touch(String key, long ttlMs);
+
+    void remove(String key);
+
+    // 읽은 버전이 그대로일 때만 지운다. 여러 서버 중 한 서버만 꺼내 가야 할 때 쓴다
+    boolean removeIfVersion(String key, long expectedVersion);
+
+    record Entry(String value, long version) {
+    }
+}
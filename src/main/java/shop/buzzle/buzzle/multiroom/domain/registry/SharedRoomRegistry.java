@@ -0,0 +1,187 @@
+package shop.buzzle.buzzle.multiroom.domain.registry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import shop.buzzle.buzzle.multiroom.domain.MultiRoom;
+import shop.buzzle.buzzle.quiz.domain.QuizCategory;
+
+/**
+ * 여러 서버가 RoomStore 하나를 나눠 쓰는 방 목록.
+ * 방 상태는 room:{roomId}, 초대 코드는 invite:{inviteCode} 키에 둔다. 변경은 읽은 버전에 compare-and-set 하고,
+ * 다른 서버가 먼저 바꿨으면 최신 상태를 다시 읽어 같은 변경을 적용한다.
+ * peek 조회는 서버마다 둔 near cache 를 먼저 보고, 이 서버에서 바꾼 방은 바로 갱신한다.
+ * 두 키는 roomTtlMs 동안 바뀌지 않으면 만료된다. 방을 바꿀 때마다 두 키의 만료 시각을 함께 늦춘다.
+ */
+public class SharedRoomRegistry implements RoomRegistry {
+
+    private static final String ROOM_KEY = "room:";
+    private static final String INVITE_KEY = "invite:";
+    private static final int MAX_ATTEMPTS = 16;
+
+    private final RoomStore store;
+    private final ObjectMapper objectMapper;
+    private final long nearCacheTtlMs;
+    private final long roomTtlMs;
+
+    private final Map<String, Cached> nearCache = new ConcurrentHashMap<>();
+    // 초대 코드와 방 ID 의 연결은 방이 없어질 때까지 바뀌지 않는다
+    private final Map<String, String> inviteCodes = new ConcurrentHashMap<>();
+
+    public SharedRoomRegistry(RoomStore store, ObjectMapper objectMapper, long nearCacheTtlMs, long roomTtlMs) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.nearCacheTtlMs = nearCacheTtlMs;
+        this.roomTtlMs = roomTtlMs;
+    }
+
+    @Override
+    public boolean register(MultiRoom room) {
+        if (!store.putIfAbsent(INVITE_KEY + room.getInviteCode(), room.getRoomId(), roomTtlMs)) {
+            return false;
+        }
+        store.putIfAbsent(ROOM_KEY + room.getRoomId(), write(room), roomTtlMs);
+        inviteCodes.put(room.getInviteCode(), room.getRoomId());
+        cache(room);
+        return true;
+    }
+
+    @Override
+    public MultiRoom findById(String roomId) {
+        RoomStore.Entry entry = store.get(ROOM_KEY + roomId);
+        if (entry == null) {
+            nearCache.remove(roomId);
+            return null;
+        }
+        MultiRoom room = read(entry.value());
+        cache(room);
+        return room;
+    }
+
+    @Override
+    public String findRoomId(String inviteCode) {
+        RoomStore.Entry entry = store.get(INVITE_KEY + inviteCode);
+        return entry != null ? entry.value() : null;
+    }
+
+    @Override
+    public MultiRoom peek(String roomId) {
+        Cached cached = nearCache.get(roomId);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return cached.room();
+        }
+        return findById(roomId);
+    }
+
+    @Override
+    public MultiRoom peekByInviteCode(String inviteCode) {
+        String roomId = inviteCodes.get(inviteCode);
+        if (roomId == null) {
+            roomId = findRoomId(inviteCode);
+            if (roomId == null) {
+                return null;
+            }
+            inviteCodes.put(inviteCode, roomId);
+        }
+        MultiRoom room = peek(roomId);
+        if (room == null) {
+            inviteCodes.remove(inviteCode);
+        }
+        return room;
+    }
+
+    @Override
+    public MultiRoom update(String roomId, Consumer<MultiRoom> change) {
+        String key = ROOM_KEY + roomId;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            RoomStore.Entry entry = store.get(key);
+            if (entry == null) {
+                nearCache.remove(roomId);
+                return null;
+            }
+            MultiRoom room = read(entry.value());
+            change.accept(room);
+            if (store.compareAndSet(key, entry.version(), write(room), roomTtlMs)) {
+                store.touch(INVITE_KEY + room.getInviteCode(), roomTtlMs);
+                cache(room);
+                return room;
+            }
+        }
+        throw new IllegalStateException("방 상태 변경이 계속 충돌합니다.");
+    }
+
+    @Override
+    public void remove(String roomId) {
+        RoomStore.Entry entry = store.get(ROOM_KEY + roomId);
+        nearCache.remove(roomId);
+        if (entry == null) {
+            return;
+        }
+        String inviteCode = read(entry.value()).getInviteCode();
+        store.remove(ROOM_KEY + roomId);
+        store.remove(INVITE_KEY + inviteCode);
+        inviteCodes.remove(inviteCode);
+    }
+
+    private void cache(MultiRoom room) {
+        nearCache.put(room.getRoomId(), new Cached(room, System.currentTimeMillis() + nearCacheTtlMs));
+    }
+
+    private String write(MultiRoom room) {
+        StoredRoom stored = new StoredRoom(
+                room.getRoomId(),
+                room.getInviteCode(),
+                room.getHostEmail(),
+                room.getMaxPlayers(),
+                room.getCategory(),
+                room.getQuizCount(),
+                room.getCreatedAt(),
+                room.getPlayerEmails(),
+                room.isGameStarted()
+        );
+        try {
+            return objectMapper.writeValueAsString(stored);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방 상태 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private MultiRoom read(String value) {
+        try {
+            StoredRoom stored = objectMapper.readValue(value, StoredRoom.class);
+            return new MultiRoom(
+                    stored.roomId(),
+                    stored.inviteCode(),
+                    stored.hostEmail(),
+                    stored.maxPlayers(),
+                    stored.category(),
+                    stored.quizCount(),
+                    stored.createdAt(),
+                    stored.playerEmails(),
+                    stored.gameStarted()
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방 상태 역직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private record Cached(MultiRoom room, long expiresAt) {
+    }
+
+    private record StoredRoom(
+            String roomId,
+            String inviteCode,
+            String hostEmail,
+            int maxPlayers,
+            QuizCategory category,
+            int quizCount,
+            LocalDateTime createdAt,
+            List<String> playerEmails,
+            boolean gameStarted
+    ) {
+    }
+}
@@ -0,0 +1,36 @@
+package shop.buzzle.buzzle.quiz.api;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import shop.buzzle.buzzle.ai.LlmMetrics;
+import shop.buzzle.buzzle.ai.ResilientChatClient;
+import shop.buzzle.buzzle.quiz.application.QuizGenerator;
+import shop.buzzle.buzzle.quiz.application.QuizInventory;
+
+/**
+ * /actuator/quizgen : 퀴즈 생성 현황 (재고, LLM 호출 상태, 생성 합치기, 토큰 사용량) 요약
+ */
+@Component
+@Endpoint(id = "quizgen")
+@RequiredArgsConstructor
+public class QuizGenerationEndpoint {
+
+    private final QuizInventory quizInventory;
+    private final QuizGenerator quizGenerator;
+    private final ResilientChatClient resilientChatClient;
+    private final LlmMetrics llmMetrics;
+
+    @ReadOperation
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("chat", resilientChatClient.stats());
+        summary.put("coalescing", quizGenerator.coalescingStats());
+        summary.put("inventory", quizInventory.stats());
+        summary.put("tokens", llmMetrics.tokenUsage());
+        return summary;
+    }
+}
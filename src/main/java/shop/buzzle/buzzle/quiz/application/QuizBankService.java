@@ -0,0 +1,179 @@
+package shop.buzzle.buzzle.quiz.application;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import shop.buzzle.buzzle.quiz.api.dto.response.QuizResDto;
+import shop.buzzle.buzzle.quiz.domain.Quiz;
+import shop.buzzle.buzzle.quiz.domain.QuizCategory;
+import shop.buzzle.buzzle.quiz.domain.QuizExposure;
+import shop.buzzle.buzzle.quiz.domain.repository.QuizExposureRepository;
+import shop.buzzle.buzzle.quiz.domain.repository.QuizRepository;
+
+/**
+ * LLM 이 생성한 퀴즈를 문제 해시 기준으로 중복 없이 쌓아 두고, 플레이어가 최근에 보지 않은 문제를 다시 꺼내 쓴다.
+ * 뱅크에서 꺼낸 문제든 새로 생성한 문제든 게임에 나간 문제는 모두 노출 기록을 남기고,
+ * quiz.bank.unseen-days 가 지난 노출 기록은 더 이상 조회하지 않으므로 주기적으로 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizBankService {
+
+    private final QuizRepository quizRepository;
+    private final QuizExposureRepository quizExposureRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${quiz.bank.enabled:true}")
+    private boolean enabled;
+
+    // 한 게임에서 뱅크로 채울 수 있는 문제 비율 (나머지는 새로 생성된 문제)
+    @Value("${quiz.bank.reuse-ratio:0.5}")
+    private double reuseRatio;
+
+    @Value("${quiz.bank.unseen-days:14}")
+    private long unseenDays;
+
+    // 게임 시작 경로를 막지 않도록 저장은 별도 스레드 하나에서 순서대로 처리
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "quiz-bank-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdown();
+    }
+
+    public int reusableCount(int size) {
+        return enabled ? (int) Math.floor(size * reuseRatio) : 0;
+    }
+
+    public void storeAsync(QuizCategory category, List<QuizResDto> quizzes) {
+        if (!enabled || quizzes.isEmpty()) {
+            return;
+        }
+        writer.execute(() -> {
+            try {
+                store(category, quizzes);
+            } catch (Exception e) {
+                log.warn("⚠️ [QUIZ_BANK_STORE_FAILED] Category: {}, Error: {}", category, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 게임에 나간 문제의 노출 기록을 남긴다. 생성된 문제의 저장과 같은 스레드에서 순서대로 처리하므로,
+     * 먼저 요청된 저장이 끝난 뒤 문제를 찾는다. 저장에 실패해 뱅크에 없는 문제는 건너뛴다.
+     */
+    public void recordExposuresAsync(List<QuizResDto> quizzes, Collection<String> playerEmails) {
+        if (!enabled || quizzes.isEmpty() || playerEmails.isEmpty()) {
+            return;
+        }
+        List<String> emails = List.copyOf(playerEmails);
+        writer.execute(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> recordExposures(quizzes, emails));
+            } catch (Exception e) {
+                log.warn("⚠️ [QUIZ_EXPOSURE_FAILED] Quizzes: {}, Players: {}, Error: {}",
+                        quizzes.size(), emails.size(), e.getMessage());
+            }
+        });
+    }
+
+    // 최근 노출 여부는 unseen-days 안의 기록만 보므로 그보다 오래된 기록은 지운다
+    @Scheduled(fixedDelayString = "${quiz.bank.exposure-purge-interval-ms:3600000}",
+            initialDelayString = "${quiz.bank.exposure-purge-interval-ms:3600000}")
+    public void purgeExposures() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime before = LocalDateTime.now().minusDays(unseenDays);
+        Integer purged = transactionTemplate.execute(status -> quizExposureRepository.deleteCreatedBefore(before));
+        log.info("🧹 [QUIZ_EXPOSURE_PURGED] Before: {}, Rows: {}", before, purged);
+    }
+
+    /**
+     * 주어진 플레이어들이 최근에 보지 않은 문제를 덜 쓰인 순서대로 최대 count 개 꺼낸다.
+     * 노출 기록은 게임에 실제로 나간 문제만 recordExposuresAsync 로 남긴다.
+     */
+    @Transactional
+    public List<QuizResDto> serve(QuizCategory category, int count, Collection<String> playerEmails) {
+        if (!enabled || count <= 0) {
+            return List.of();
+        }
+
+        PageRequest page = PageRequest.of(0, count);
+        List<Quiz> quizzes = playerEmails.isEmpty()
+                ? quizRepository.findLeastServed(category, page)
+                : quizRepository.findLeastServedUnseen(category, playerEmails,
+                        LocalDateTime.now().minusDays(unseenDays), page);
+
+        quizzes.forEach(Quiz::markServed);
+
+        return quizzes.stream()
+                .map(Quiz::toQuizResDto)
+                .toList();
+    }
+
+    private void store(QuizCategory category, List<QuizResDto> quizzes) {
+        Map<String, QuizResDto> byHash = byHash(quizzes);
+
+        Set<String> existing = transactionTemplate.execute(status -> {
+            List<Quiz> found = quizRepository.findAllByQuestionHashIn(byHash.keySet());
+            found.forEach(Quiz::markGenerated);
+            return found.stream().map(Quiz::getQuestionHash).collect(Collectors.toSet());
+        });
+
+        // 새 문제는 한 행씩 저장해서, 다른 노드가 같은 문제를 먼저 저장해도 나머지 문제는 저장된다
+        byHash.forEach((hash, quiz) -> {
+            if (existing.contains(hash)) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> quizRepository.saveAndFlush(Quiz.of(category, quiz)));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Quiz bank insert conflict: {}", hash);
+            }
+        });
+    }
+
+    private void recordExposures(List<QuizResDto> quizzes, List<String> emails) {
+        List<Quiz> found = quizRepository.findAllByQuestionHashIn(byHash(quizzes).keySet());
+        List<QuizExposure> exposures = new ArrayList<>(found.size() * emails.size());
+        for (Quiz quiz : found) {
+            for (String email : emails) {
+                exposures.add(new QuizExposure(quiz, email));
+            }
+        }
+        quizExposureRepository.saveAll(exposures);
+    }
+
+    private Map<String, QuizResDto> byHash(List<QuizResDto> quizzes) {
+        Map<String, QuizResDto> byHash = new LinkedHashMap<>();
+        for (QuizResDto quiz : quizzes) {
+            if (quiz.question() != null && !quiz.question().isBlank()) {
+                byHash.putIfAbsent(Quiz.hashOf(quiz.question()), quiz);
+            }
+        }
+        return byHash;
+    }
+}
@@ -0,0 +1,75 @@
+package shop.buzzle.buzzle.quiz.application;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import shop.buzzle.buzzle.ai.ChatCircuitBreaker;
+import shop.buzzle.buzzle.ai.ResilientChatClient;
+import shop.buzzle.buzzle.quiz.domain.QuizCategory;
+
+/**
+ * 퀴즈 재고, 생성 합치기(single-flight), LLM 서킷 브레이커 상태를 Micrometer 지표로 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizGenerationMetrics implements MeterBinder {
+
+    private final QuizInventory quizInventory;
+    private final QuizGenerator quizGenerator;
+    private final ResilientChatClient resilientChatClient;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (QuizCategory category : QuizCategory.values()) {
+            inventoryGauge(registry, "buzzle.quiz.inventory.size", category,
+                    stats -> stats.size());
+            inventoryGauge(registry, "buzzle.quiz.inventory.hit.rate", category,
+                    QuizInventory.CategoryStats::hitRate);
+            inventoryGauge(registry, "buzzle.quiz.inventory.refill.lag", category,
+                    stats -> stats.lastRefillLagMs());
+        }
+
+        FunctionCounter.builder("buzzle.quiz.generation.flights", quizGenerator,
+                        generator -> generator.coalescingStats().startedFlights())
+                .description("새로 시작한 생성 수")
+                .register(registry);
+        FunctionCounter.builder("buzzle.quiz.generation.coalesced", quizGenerator,
+                        generator -> generator.coalescingStats().coalescedRequests())
+                .description("진행 중인 생성에 합류한 요청 수")
+                .register(registry);
+
+        // 서킷 상태는 상태별 게이지(현재 상태면 1)로 노출
+        for (ChatCircuitBreaker.State state : ChatCircuitBreaker.State.values()) {
+            Gauge.builder("buzzle.llm.circuit.state", resilientChatClient,
+                            client -> client.stats().state() == state ? 1 : 0)
+                    .tag("state", state.name())
+                    .register(registry);
+        }
+        chatCounter(registry, "buzzle.llm.circuit.opened", ResilientChatClient.Stats::openedCount);
+        chatCounter(registry, "buzzle.llm.circuit.rejected", ResilientChatClient.Stats::rejected);
+        chatCounter(registry, "buzzle.llm.call.timeouts", ResilientChatClient.Stats::timeouts);
+        chatCounter(registry, "buzzle.llm.call.hedged", ResilientChatClient.Stats::hedged);
+        chatCounter(registry, "buzzle.llm.call.hedge.wins", ResilientChatClient.Stats::hedgeWins);
+    }
+
+    private void inventoryGauge(MeterRegistry registry, String name, QuizCategory category,
+                                ToDoubleFunction<QuizInventory.CategoryStats> value) {
+        Gauge.builder(name, quizInventory, inventory -> inventory.stats().stream()
+                        .filter(stats -> stats.category() == category)
+                        .mapToDouble(value)
+                        .findFirst()
+                        .orElse(0))
+                .tag("category", category.name())
+                .register(registry);
+    }
+
+    private void chatCounter(MeterRegistry registry, String name, ToLongFunction<ResilientChatClient.Stats> value) {
+        FunctionCounter.builder(name, resilientChatClient, client -> value.applyAsLong(client.stats()))
+                .register(registry);
+    }
+}
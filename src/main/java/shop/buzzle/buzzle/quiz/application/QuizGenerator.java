@@ -0,0 +1,453 @@
+package shop.buzzle.buzzle.quiz.application;
+
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.ChatClient;
+import org.springframework.ai.chat.ChatResponse;
+import org.springframework.ai.chat.Generation;
+import org.springframework.ai.chat.StreamingChatClient;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import shop.buzzle.buzzle.ai.ChatCircuitBreaker;
+import shop.buzzle.buzzle.ai.LlmMetrics;
+import shop.buzzle.buzzle.quiz.api.dto.response.QuizResDto;
+import shop.buzzle.buzzle.quiz.domain.Quiz;
+import shop.buzzle.buzzle.quiz.domain.QuizCategory;
+import shop.buzzle.buzzle.quiz.exception.QuizParseException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizGenerator {
+
+    private static final int RECENT_QUIZ_LIMIT = 50;
+    private static final String MODEL = "gpt-4o";
+
+    private final ChatClient chatClient;
+    private final StreamingChatClient streamingChatClient;
+    private final QuizBankService quizBankService;
+    private final ChatCircuitBreaker circuitBreaker;
+    private final LlmMetrics llmMetrics;
+
+    @Value("${questions.all}")
+    private String allQuestions;
+
+    @Value("${questions.history}")
+    private String historyQuestions;
+
+    @Value("${questions.society}")
+    private String societyQuestions;
+
+    @Value("${questions.science}")
+    private String scienceQuestions;
+
+    @Value("${questions.culture}")
+    private String cultureQuestions;
+
+    @Value("${questions.sports}")
+    private String sportsQuestions;
+
+    @Value("${questions.nature}")
+    private String natureQuestions;
+
+    @Value("${questions.misc}")
+    private String miscQuestions;
+
+    @Value("${quiz.generation.concurrency:8}")
+    private int concurrency;
+
+    // 단건 호출은 ResilientChatClient 가 같은 값으로 끊고, 스트리밍 호출은 첫 조각과 조각 사이 대기에 쓴다
+    @Value("${ai.chat.call-timeout-ms:10000}")
+    private long callTimeoutMs;
+
+    @Value("${quiz.generation.deadline-ms:12000}")
+    private long deadlineMs;
+
+    // 마감 시간이 지난 뒤 모자란 문제를 생성할 때 남은 문제 전체가 함께 쓰는 마감 시간
+    @Value("${quiz.generation.shortage-deadline-ms:3000}")
+    private long shortageDeadlineMs;
+
+    @Value("${quiz.generation.parse-retries:1}")
+    private int parseRetries;
+
+    // parallel: 문제마다 개별 요청, batch: 한 번의 스트리밍 요청으로 여러 문제 생성
+    @Value("${quiz.generation.mode:parallel}")
+    private String mode;
+
+    // 카테고리별 최근 생성된 퀴즈 (마감 시간 내에 생성되지 못한 문제를 채우는 용도)
+    private final Map<QuizCategory, Deque<QuizResDto>> recentQuizzes = new EnumMap<>(QuizCategory.class);
+
+    // 카테고리별로 진행 중인 생성 (single-flight)
+    private final Map<QuizCategory, Flight> flights = new EnumMap<>(QuizCategory.class);
+    private final AtomicLong startedFlights = new AtomicLong();
+    private final AtomicLong coalescedRequests = new AtomicLong();
+    private final AtomicLong coalescedQuizzes = new AtomicLong();
+
+    private ExecutorService executor;
+    private Scheduler generationScheduler;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "quiz-gen-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        generationScheduler = Schedulers.fromExecutorService(executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * size 개의 퀴즈를 생성해 마감 시간 안에 완료된 퀴즈만 반환한다.
+     * 호출 단위 타임아웃을 넘기거나 실패한 요청은 버려지므로 반환 개수는 size 보다 적을 수 있다.
+     */
+    public List<QuizResDto> generate(QuizCategory category, int size) {
+        long startedAt = System.nanoTime();
+        List<QuizResDto> quizzes = stream(category, size)
+                .take(Duration.ofMillis(deadlineMs))
+                .collectList()
+                .block();
+        if (quizzes == null) {
+            return List.of();
+        }
+
+        log.info("🧩 [QUIZ_GEN] Category: {}, Requested: {}, Completed: {}, Elapsed: {}ms",
+                category, size, quizzes.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return quizzes;
+    }
+
+    /**
+     * 퀴즈가 하나씩 완성될 때마다 바로 내보낸다.
+     * 마감 시간이 지나거나 요청이 실패하면 그때까지 완성된 퀴즈만 내보내고 종료하므로 size 보다 적게 끝날 수 있다.
+     *
+     * 같은 카테고리의 생성이 이미 진행 중이면 그 생성에서 아직 다른 호출자에게 배정되지 않은 몫을 먼저 가져가고,
+     * 모자란 만큼만 새로 생성한다. 배정은 생성 결과의 위치 구간 단위라서 호출자마다 서로 다른 퀴즈를 받는다.
+     */
+    public Flux<QuizResDto> stream(QuizCategory category, int size) {
+        if (size <= 0 || !isAvailable(category)) {
+            return Flux.empty();
+        }
+
+        List<Flux<QuizResDto>> slices = new ArrayList<>(2);
+        int remaining = size;
+        synchronized (flights) {
+            Flight flight = flights.get(category);
+            if (flight != null && !flight.completed) {
+                int share = Math.min(remaining, flight.unreserved());
+                if (share > 0) {
+                    slices.add(flight.reserve(share));
+                    remaining -= share;
+                    coalescedRequests.incrementAndGet();
+                    coalescedQuizzes.addAndGet(share);
+                }
+            }
+            if (remaining > 0) {
+                Flight started = new Flight(category, remaining);
+                flights.put(category, started);
+                slices.add(started.reserve(remaining));
+                startedFlights.incrementAndGet();
+            }
+        }
+
+        return Flux.merge(slices)
+                .distinct(quiz -> Quiz.hashOf(quiz.question()));
+    }
+
+    public CoalescingStats coalescingStats() {
+        return new CoalescingStats(startedFlights.get(), coalescedRequests.get(), coalescedQuizzes.get());
+    }
+
+    // parallel: 문제마다 개별 요청, batch: 한 번의 스트리밍 요청
+    private Flux<QuizResDto> source(QuizCategory category, int size) {
+        if ("batch".equalsIgnoreCase(mode)) {
+            return streamBatch(category, size);
+        }
+        return streamParallel(category, size, deadlineMs);
+    }
+
+    // 문제마다 개별 요청을 동시에 보내고 완료되는 순서대로 내보낸다
+    private Flux<QuizResDto> streamParallel(QuizCategory category, int size, long timeoutMs) {
+        return Flux.range(0, size)
+                .flatMap(i -> Mono.fromCallable(() -> requestQuiz(category))
+                        .subscribeOn(generationScheduler)
+                        .onErrorResume(e -> {
+                            log.warn("⚠️ [QUIZ_GEN_FAILED] Category: {}, Error: {}", category, e.getMessage());
+                            return Mono.empty();
+                        }), size)
+                .take(Duration.ofMillis(timeoutMs))
+                .doOnNext(quiz -> remember(category, List.of(quiz)));
+    }
+
+    // 한 번의 프롬프트로 size 개의 퀴즈를 요청하고, 스트리밍 응답에서 퀴즈 블록이 완성될 때마다 바로 내보낸다
+    // 단건 호출과 같은 서킷 브레이커를 거치고, 첫 조각이나 다음 조각이 call-timeout 안에 오지 않으면 실패로 끝낸다
+    private Flux<QuizResDto> streamBatch(QuizCategory category, int size) {
+        return Flux.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                log.warn("🔌 [QUIZ_GEN_SKIPPED] Category: {}, AI circuit is open", category);
+                return Flux.empty();
+            }
+            QuizStreamParser parser = new QuizStreamParser();
+            long startedAt = System.nanoTime();
+            Timer.Sample sample = llmMetrics.startCall();
+            AtomicReference<ChatResponse> lastResponse = new AtomicReference<>();
+            AtomicInteger parsed = new AtomicInteger();
+
+            return streamingChatClient.stream(new Prompt(batchPromptFor(category, size), chatOptions()))
+                    .timeout(Duration.ofMillis(callTimeoutMs))
+                    .doOnNext(lastResponse::set)
+                    .map(QuizGenerator::contentOf)
+                    .concatMapIterable(parser::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(parser.finish())))
+                    .mapNotNull(block -> parseBlock(category, block))
+                    .take(size)
+                    .take(Duration.ofMillis(deadlineMs))
+                    .doOnNext(quiz -> {
+                        parsed.incrementAndGet();
+                        remember(category, List.of(quiz));
+                    })
+                    .doFinally(signal -> {
+                        llmMetrics.recordCall(sample, "quiz-stream", category.name(), MODEL,
+                                signal == SignalType.ON_COMPLETE);
+                        llmMetrics.recordUsage(category.name(), MODEL, lastResponse.get());
+                        recordOutcome(signal, parsed.get());
+                    })
+                    .onErrorResume(e -> {
+                        log.warn("⚠️ [QUIZ_STREAM_FAILED] Category: {}, Error: {}", category, e.getMessage());
+                        return Flux.empty();
+                    })
+                    .doOnComplete(() -> log.info("🧩 [QUIZ_STREAM] Category: {}, Requested: {}, Elapsed: {}ms",
+                            category, size, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)));
+        });
+    }
+
+    // 퀴즈를 하나도 얻지 못하고 끝난 스트림은 실패로 센다. 호출자가 먼저 취소하면 결과를 알 수 없으므로 시험 호출 슬롯만 돌려준다
+    private void recordOutcome(SignalType signal, int parsed) {
+        if (signal == SignalType.ON_ERROR || (signal == SignalType.ON_COMPLETE && parsed == 0)) {
+            circuitBreaker.onFailure();
+        } else if (parsed > 0) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onCancel();
+        }
+    }
+
+    // 서킷이 열려 있으면 요청을 보내지 않고 대체 경로(최근 퀴즈, 퀴즈 뱅크)에 맡긴다
+    private boolean isAvailable(QuizCategory category) {
+        if (circuitBreaker.isCallPermitted()) {
+            return true;
+        }
+        log.warn("🔌 [QUIZ_GEN_SKIPPED] Category: {}, AI circuit is open", category);
+        return false;
+    }
+
+    /**
+     * 마감 시간 안에 못 채운 문제를 마지막으로 생성한다. 남은 문제를 동시에 요청하고
+     * quiz.generation.shortage-deadline-ms 안에 완성된 퀴즈만 반환하므로, 문제 수와 관계없이 그 시간 넘게 기다리지 않는다.
+     */
+    public List<QuizResDto> generateShortage(QuizCategory category, int size) {
+        if (size <= 0 || !isAvailable(category)) {
+            return List.of();
+        }
+        List<QuizResDto> quizzes = streamParallel(category, size, shortageDeadlineMs)
+                .collectList()
+                .block();
+        return quizzes != null ? quizzes : List.of();
+    }
+
+    /**
+     * 최근에 생성된 퀴즈 중 exclude 에 없는 것을 최대 count 개 꺼내 준다.
+     */
+    public List<QuizResDto> recentlyGenerated(QuizCategory category, int count, List<QuizResDto> exclude) {
+        if (count <= 0) {
+            return List.of();
+        }
+
+        List<QuizResDto> candidates;
+        synchronized (recentQuizzes) {
+            Deque<QuizResDto> recent = recentQuizzes.get(category);
+            if (recent == null) {
+                return List.of();
+            }
+            candidates = new ArrayList<>(recent);
+        }
+
+        Collections.shuffle(candidates);
+        return candidates.stream()
+                .filter(candidate -> exclude.stream().noneMatch(q -> q.question().equals(candidate.question())))
+                .limit(count)
+                .toList();
+    }
+
+    // 생성된 퀴즈는 모두 최근 목록과 퀴즈 뱅크에 기록
+    private void remember(QuizCategory category, List<QuizResDto> quizzes) {
+        if (quizzes.isEmpty()) {
+            return;
+        }
+        quizBankService.storeAsync(category, quizzes);
+        synchronized (recentQuizzes) {
+            Deque<QuizResDto> recent = recentQuizzes.computeIfAbsent(category, c -> new ArrayDeque<>());
+            for (QuizResDto quiz : quizzes) {
+                recent.addLast(quiz);
+                if (recent.size() > RECENT_QUIZ_LIMIT) {
+                    recent.removeFirst();
+                }
+            }
+        }
+    }
+
+    // 응답이 비어 있거나 형식이 깨진 경우 parse-retries 만큼 다시 요청
+    private QuizResDto requestQuiz(QuizCategory category) {
+        String prompt = promptFor(category);
+        QuizParseResult result = null;
+        for (int attempt = 0; attempt <= parseRetries; attempt++) {
+            if (attempt > 0) {
+                llmMetrics.recordParseRetry(category.name());
+            }
+            ChatResponse response = callChat(category, prompt);
+            result = QuizParser.parse(response != null ? contentOf(response) : null);
+            recordParse(category, result);
+            if (result.isSuccess()) {
+                return result.quiz();
+            }
+            log.warn("⚠️ [QUIZ_PARSE_FAILED] Reason: {}, Attempt: {}", result.failure(), attempt + 1);
+        }
+        throw new QuizParseException(result.failure());
+    }
+
+    private QuizResDto parseBlock(QuizCategory category, String block) {
+        QuizParseResult result = QuizParser.parse(block);
+        recordParse(category, result);
+        if (!result.isSuccess()) {
+            log.warn("⚠️ [QUIZ_PARSE_FAILED] Reason: {}, Block: {}", result.failure(), block);
+            return null;
+        }
+        return result.quiz();
+    }
+
+    private void recordParse(QuizCategory category, QuizParseResult result) {
+        llmMetrics.recordParse(category.name(), result.isSuccess() ? "success" : result.failure().name());
+    }
+
+    private String promptFor(QuizCategory category) {
+        return switch (category) {
+            case ALL -> allQuestions;
+            case HISTORY -> historyQuestions;
+            case SOCIETY -> societyQuestions;
+            case SCIENCE -> scienceQuestions;
+            case CULTURE -> cultureQuestions;
+            case SPORTS -> sportsQuestions;
+            case NATURE -> natureQuestions;
+            case MISC -> miscQuestions;
+        };
+    }
+
+    private String batchPromptFor(QuizCategory category, int size) {
+        return promptFor(category)
+                + "\n\n위와 같은 형식으로 서로 다른 주제의 퀴즈를 " + size + "개 만들어줘. "
+                + "각 퀴즈가 끝날 때마다 다음 줄에 " + QuizStreamParser.BLOCK_DELIMITER + " 만 한 줄로 써줘.";
+    }
+
+    private ChatResponse callChat(QuizCategory category, String prompt) {
+        Timer.Sample sample = llmMetrics.startCall();
+        boolean success = false;
+        try {
+            ChatResponse response = chatClient.call(new Prompt(prompt, chatOptions()));
+            llmMetrics.recordUsage(category.name(), MODEL, response);
+            success = true;
+            return response;
+        } finally {
+            llmMetrics.recordCall(sample, "quiz", category.name(), MODEL, success);
+        }
+    }
+
+    private OpenAiChatOptions chatOptions() {
+        return OpenAiChatOptions.builder()
+                .withTemperature(1F)
+                .withFrequencyPenalty(0.6F)
+                .withPresencePenalty(1F)
+                .withModel(MODEL)
+                .build();
+    }
+
+    private static String contentOf(ChatResponse response) {
+        Generation generation = response.getResult();
+        if (generation == null || generation.getOutput() == null) {
+            return "";
+        }
+        String content = generation.getOutput().getContent();
+        return content != null ? content : "";
+    }
+
+    /**
+     * 카테고리별로 진행 중인 한 번의 생성. 결과는 replay 로 보관되어 늦게 합류한 호출자도 처음부터 받을 수 있고,
+     * 각 호출자는 reserve 로 배정받은 위치 구간의 퀴즈만 가져간다. 중복된 문제는 배정 전에 걸러진다.
+     */
+    private class Flight {
+        private final QuizCategory category;
+        private final int planned;
+        private final Flux<QuizResDto> shared;
+        private int reserved;
+        private volatile boolean completed;
+
+        private Flight(QuizCategory category, int planned) {
+            this.category = category;
+            this.planned = planned;
+            this.shared = source(category, planned)
+                    .distinct(quiz -> Quiz.hashOf(quiz.question()))
+                    .doFinally(signal -> finish())
+                    .replay()
+                    .autoConnect();
+        }
+
+        // flights 잠금 안에서만 호출
+        private int unreserved() {
+            return planned - reserved;
+        }
+
+        // flights 잠금 안에서만 호출
+        private Flux<QuizResDto> reserve(int count) {
+            int offset = reserved;
+            reserved += count;
+            return shared.skip(offset).take(count);
+        }
+
+        private void finish() {
+            completed = true;
+            synchronized (flights) {
+                flights.remove(category, this);
+            }
+        }
+    }
+
+    public record CoalescingStats(long startedFlights, long coalescedRequests, long coalescedQuizzes) {
+    }
+}
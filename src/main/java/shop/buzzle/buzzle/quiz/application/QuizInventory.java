@@ -0,0 +1,286 @@
+package shop.buzzle.buzzle.quiz.application;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import shop.buzzle.buzzle.quiz.api.dto.response.QuizResDto;
+import shop.buzzle.buzzle.quiz.domain.QuizCategory;
+
+/**
+ * 카테고리별로 미리 생성해 둔 퀴즈 재고.
+ * 게임 시작 시 LLM 응답을 기다리지 않고 바로 꺼내 쓰고, 백그라운드에서 low-water mark 이상으로 다시 채운다.
+ * 채우는 퀴즈는 모두 LLM 호출이고 서버마다 따로 채우므로 기본은 꺼 두고(quiz.inventory.enabled), 켜더라도
+ * quiz.inventory.active-window-minutes 안에 게임에서 꺼내 간 카테고리만 백그라운드에서 채운다.
+ * 한가한 서버는 오래된 퀴즈를 버리기만 하고 새로 만들지 않으며, 최악의 경우 비용은 서버 수 × 사용 중인 카테고리 수 × capacity 이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizInventory {
+
+    private final QuizGenerator quizGenerator;
+
+    @Value("${quiz.inventory.enabled:false}")
+    private boolean enabled;
+
+    @Value("${quiz.inventory.capacity:40}")
+    private int defaultCapacity;
+
+    @Value("#{${quiz.inventory.capacity-overrides:{:}}}")
+    private Map<String, Integer> capacityOverrides;
+
+    @Value("${quiz.inventory.low-water-mark:15}")
+    private int lowWaterMark;
+
+    @Value("${quiz.inventory.refill-batch:10}")
+    private int refillBatch;
+
+    @Value("${quiz.inventory.max-age-minutes:360}")
+    private long maxAgeMinutes;
+
+    @Value("${quiz.inventory.check-interval-ms:5000}")
+    private long checkIntervalMs;
+
+    // 이 시간 안에 게임에서 꺼내 간 적이 있는 카테고리만 백그라운드에서 채운다
+    @Value("${quiz.inventory.active-window-minutes:30}")
+    private long activeWindowMinutes;
+
+    private final Map<QuizCategory, Shelf> shelves = new EnumMap<>(QuizCategory.class);
+    private final Set<QuizCategory> refilling = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService refillExecutor;
+
+    @PostConstruct
+    public void init() {
+        for (QuizCategory category : QuizCategory.values()) {
+            int capacity = capacityOverrides.getOrDefault(category.name(), defaultCapacity);
+            shelves.put(category, new Shelf(capacity));
+        }
+
+        if (!enabled) {
+            return;
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "quiz-inventory"));
+        refillExecutor = Executors.newFixedThreadPool(2, runnable -> daemon(runnable, "quiz-inventory-refill"));
+        scheduler.scheduleWithFixedDelay(this::maintain, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            refillExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 재고에서 최대 count 개의 퀴즈를 꺼낸다. 오래된 퀴즈는 건너뛰고 버린다.
+     */
+    public List<QuizResDto> take(QuizCategory category, int count) {
+        if (!enabled || count <= 0) {
+            return List.of();
+        }
+
+        Shelf shelf = shelves.get(category);
+        shelf.lastDemandAt.set(System.currentTimeMillis());
+        long staleBefore = staleThreshold();
+        List<QuizResDto> taken = new ArrayList<>(count);
+
+        while (taken.size() < count) {
+            StockedQuiz stocked = shelf.items.pollFirst();
+            if (stocked == null) {
+                break;
+            }
+            shelf.size.decrementAndGet();
+            if (stocked.stockedAt() < staleBefore) {
+                shelf.evicted.incrementAndGet();
+                continue;
+            }
+            taken.add(stocked.quiz());
+        }
+
+        shelf.hits.addAndGet(taken.size());
+        shelf.misses.addAndGet(count - taken.size());
+
+        markIfLow(shelf);
+        if (shelf.size.get() < lowWaterMark) {
+            requestRefill(category);
+        }
+
+        return taken;
+    }
+
+    /**
+     * 다른 경로에서 생성되었지만 쓰이지 않은 퀴즈를 재고로 돌려놓는다. 용량을 넘는 퀴즈는 버린다.
+     */
+    public void offer(QuizCategory category, List<QuizResDto> quizzes) {
+        if (!enabled) {
+            return;
+        }
+
+        Shelf shelf = shelves.get(category);
+        long now = System.currentTimeMillis();
+        for (QuizResDto quiz : quizzes) {
+            if (shelf.size.incrementAndGet() > shelf.capacity) {
+                shelf.size.decrementAndGet();
+                break;
+            }
+            shelf.items.addLast(new StockedQuiz(quiz, now));
+        }
+        clearIfRecovered(shelf);
+    }
+
+    public List<CategoryStats> stats() {
+        List<CategoryStats> stats = new ArrayList<>(shelves.size());
+        shelves.forEach((category, shelf) -> stats.add(new CategoryStats(
+                category,
+                shelf.size.get(),
+                shelf.capacity,
+                shelf.hits.get(),
+                shelf.misses.get(),
+                shelf.evicted.get(),
+                shelf.lastRefillLagMs.get(),
+                shelf.maxRefillLagMs.get()
+        )));
+        return stats;
+    }
+
+    private void maintain() {
+        try {
+            long staleBefore = staleThreshold();
+            long activeSince = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(activeWindowMinutes);
+            shelves.forEach((category, shelf) -> {
+                evictStale(shelf, staleBefore);
+                markIfLow(shelf);
+                // 한동안 찾지 않은 카테고리는 채우지 않는다. 다시 꺼내 갈 때 take 에서 채우기를 요청한다
+                if (shelf.size.get() < lowWaterMark && shelf.lastDemandAt.get() >= activeSince) {
+                    requestRefill(category);
+                }
+            });
+        } catch (Exception e) {
+            log.error("❌ [QUIZ_INVENTORY_ERROR] {}", e.getMessage(), e);
+        }
+    }
+
+    private void requestRefill(QuizCategory category) {
+        if (refillExecutor == null || !refilling.add(category)) {
+            return;
+        }
+
+        refillExecutor.execute(() -> {
+            try {
+                Shelf shelf = shelves.get(category);
+                int amount = Math.min(refillBatch, shelf.capacity - shelf.size.get());
+                if (amount > 0) {
+                    offer(category, quizGenerator.generate(category, amount));
+                }
+                log.info("📦 [QUIZ_INVENTORY_REFILL] Category: {}, Stock: {}/{}, HitRate: {}, RefillLag: {}ms",
+                        category, shelf.size.get(), shelf.capacity, String.format("%.2f", shelf.hitRate()),
+                        shelf.lastRefillLagMs.get());
+            } catch (Exception e) {
+                log.warn("⚠️ [QUIZ_INVENTORY_REFILL_FAILED] Category: {}, Error: {}", category, e.getMessage());
+            } finally {
+                refilling.remove(category);
+            }
+        });
+    }
+
+    private void evictStale(Shelf shelf, long staleBefore) {
+        // 앞쪽이 가장 오래된 퀴즈이므로 신선한 퀴즈를 만나면 멈춘다
+        StockedQuiz head;
+        while ((head = shelf.items.peekFirst()) != null && head.stockedAt() < staleBefore) {
+            if (shelf.items.remove(head)) {
+                shelf.size.decrementAndGet();
+                shelf.evicted.incrementAndGet();
+            }
+        }
+    }
+
+    private void markIfLow(Shelf shelf) {
+        if (shelf.size.get() < lowWaterMark) {
+            shelf.lowSince.compareAndSet(0, System.currentTimeMillis());
+        }
+    }
+
+    // low-water mark 아래로 떨어진 시점부터 다시 회복될 때까지 걸린 시간을 기록
+    private void clearIfRecovered(Shelf shelf) {
+        if (shelf.size.get() < lowWaterMark) {
+            return;
+        }
+        long lowSince = shelf.lowSince.getAndSet(0);
+        if (lowSince != 0) {
+            long lag = System.currentTimeMillis() - lowSince;
+            shelf.lastRefillLagMs.set(lag);
+            shelf.maxRefillLagMs.accumulateAndGet(lag, Math::max);
+        }
+    }
+
+    private long staleThreshold() {
+        return System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(maxAgeMinutes);
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    public record CategoryStats(
+            QuizCategory category,
+            int size,
+            int capacity,
+            long hits,
+            long misses,
+            long evicted,
+            long lastRefillLagMs,
+            long maxRefillLagMs
+    ) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private record StockedQuiz(QuizResDto quiz, long stockedAt) {
+    }
+
+    private static class Shelf {
+        private final int capacity;
+        private final ConcurrentLinkedDeque<StockedQuiz> items = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong evicted = new AtomicLong();
+        private final AtomicLong lowSince = new AtomicLong();
+        private final AtomicLong lastRefillLagMs = new AtomicLong();
+        private final AtomicLong maxRefillLagMs = new AtomicLong();
+        private final AtomicLong lastDemandAt = new AtomicLong();
+
+        private Shelf(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private double hitRate() {
+            long total = hits.get() + misses.get();
+            return total == 0 ? 0 : (double) hits.get() / total;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package shop.buzzle.buzzle.quiz.application;
+
+import shop.buzzle.buzzle.quiz.api.dto.response.QuizResDto;
+
+public record QuizParseResult(
+        QuizResDto quiz,
+        Failure failure
+) {
+
+    public enum Failure {
+        EMPTY_INPUT,
+        MISSING_QUESTION,
+        MISSING_OPTION,
+        MISSING_ANSWER,
+        INVALID_ANSWER
+    }
+
+    public static QuizParseResult success(QuizResDto quiz) {
+        return new QuizParseResult(quiz, null);
+    }
+
+    public static QuizParseResult failure(Failure failure) {
+        return new QuizParseResult(null, failure);
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,187 @@
+package shop.buzzle.buzzle.quiz.application;
+
+import java.util.Arrays;
+import shop.buzzle.buzzle.quiz.api.dto.response.QuizResDto;
+
+/**
+ * LLM 이 돌려준 퀴즈 텍스트를 한 번의 순회로 파싱한다.
+ * "[문제: .. , 1. .. , 2. .. , 3. .. , 4. .. , 정답: 3]" 형식과 줄바꿈 형식을 모두 처리하며,
+ * "1)", "①", 전각 숫자/문장부호(１．, ：, ，) 같은 변형도 허용한다.
+ */
+public final class QuizParser {
+
+    private static final int QUESTION = 0;
+    private static final int ANSWER = 5;
+    private static final int FIELD_COUNT = 6;
+
+    private QuizParser() {
+    }
+
+    public static QuizParseResult parse(String text) {
+        if (text == null || text.isBlank()) {
+            return QuizParseResult.failure(QuizParseResult.Failure.EMPTY_INPUT);
+        }
+
+        int[] starts = new int[FIELD_COUNT];
+        int[] ends = new int[FIELD_COUNT];
+        Arrays.fill(starts, -1);
+
+        int length = text.length();
+        int field = -1;
+        int valueStart = 0;
+        int separator = 0;
+        int i = 0;
+        boolean atBoundary = true;
+
+        while (i < length) {
+            if (atBoundary) {
+                atBoundary = false;
+                int labelStart = skipBlank(text, i);
+                int label = labelAt(text, labelStart);
+                if (label >= 0) {
+                    close(field, valueStart, separator, starts, ends);
+                    field = label;
+                    valueStart = labelEnd(text, labelStart, label);
+                    i = valueStart;
+                    continue;
+                }
+            }
+
+            char c = text.charAt(i);
+            if (c == '\n') {
+                // 라벨이 없는 줄은 앞 항목의 이어지는 내용으로 본다
+                atBoundary = true;
+                separator = i;
+            } else if ((c == ',' || c == '，') && i + 1 < length && Character.isWhitespace(text.charAt(i + 1))
+                    && labelAt(text, skipBlank(text, i + 1)) >= 0) {
+                // 쉼표 뒤에 새 항목 라벨이 오는 경우에만 구분자로 본다 ("1,000" 같은 값은 유지)
+                atBoundary = true;
+                separator = i;
+            }
+            i++;
+        }
+        close(field, valueStart, length, starts, ends);
+
+        String[] values = new String[FIELD_COUNT];
+        for (int f = 0; f < FIELD_COUNT; f++) {
+            if (starts[f] < 0) {
+                return QuizParseResult.failure(missing(f));
+            }
+            values[f] = trimmed(text, starts[f], ends[f]);
+            if (values[f].isEmpty()) {
+                return QuizParseResult.failure(missing(f));
+            }
+        }
+
+        String answer = normalizeAnswer(values[ANSWER], values);
+        if (answer == null) {
+            return QuizParseResult.failure(QuizParseResult.Failure.INVALID_ANSWER);
+        }
+
+        return QuizParseResult.success(QuizResDto.of(values[QUESTION], values[1], values[2], values[3], values[4], answer));
+    }
+
+    // 같은 라벨이 여러 번 나오면 처음 값을 사용
+    private static void close(int field, int start, int end, int[] starts, int[] ends) {
+        if (field >= 0 && starts[field] < 0) {
+            starts[field] = start;
+            ends[field] = end;
+        }
+    }
+
+    private static QuizParseResult.Failure missing(int field) {
+        if (field == QUESTION) {
+            return QuizParseResult.Failure.MISSING_QUESTION;
+        }
+        if (field == ANSWER) {
+            return QuizParseResult.Failure.MISSING_ANSWER;
+        }
+        return QuizParseResult.Failure.MISSING_OPTION;
+    }
+
+    // 라벨 종류: 0 = 문제, 1~4 = 선택지, 5 = 정답, -1 = 라벨 아님
+    private static int labelAt(String text, int i) {
+        if (i >= text.length()) {
+            return -1;
+        }
+        if (text.startsWith("문제", i) && isColon(text, i + 2)) {
+            return QUESTION;
+        }
+        if (text.startsWith("정답", i) && isColon(text, i + 2)) {
+            return ANSWER;
+        }
+        int option = optionNumber(text.charAt(i));
+        if (option > 0) {
+            if (text.charAt(i) >= '①' && text.charAt(i) <= '④') {
+                return option;
+            }
+            if (i + 1 < text.length() && isOptionPunctuation(text.charAt(i + 1))) {
+                return option;
+            }
+        }
+        return -1;
+    }
+
+    // 라벨 다음 값이 시작되는 위치
+    private static int labelEnd(String text, int i, int label) {
+        if (label == QUESTION || label == ANSWER) {
+            return i + 3;
+        }
+        char c = text.charAt(i);
+        return c >= '①' && c <= '④' ? i + 1 : i + 2;
+    }
+
+    private static boolean isColon(String text, int i) {
+        return i < text.length() && (text.charAt(i) == ':' || text.charAt(i) == '：');
+    }
+
+    private static boolean isOptionPunctuation(char c) {
+        return c == '.' || c == ')' || c == '．' || c == '）' || c == ':' || c == '：';
+    }
+
+    private static int optionNumber(char c) {
+        if (c >= '1' && c <= '4') {
+            return c - '0';
+        }
+        if (c >= '１' && c <= '４') {
+            return c - '１' + 1;
+        }
+        if (c >= '①' && c <= '④') {
+            return c - '①' + 1;
+        }
+        return 0;
+    }
+
+    private static int skipBlank(String text, int i) {
+        while (i < text.length() && (Character.isWhitespace(text.charAt(i)) || text.charAt(i) == '[')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static String trimmed(String text, int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && (Character.isWhitespace(text.charAt(end - 1)) || text.charAt(end - 1) == ']')) {
+            end--;
+        }
+        return text.substring(start, end);
+    }
+
+    // "3", "3번", "③", "３" 또는 선택지 본문을 "1"~"4" 로 정규화
+    // 프롬프트가 정답을 번호로 요구하므로 번호만 있는 답은 선택지가 숫자("2", "3", ...)여도 번호로 읽는다.
+    // "3년" 처럼 번호가 아닌 답만 선택지 본문과 비교한다
+    private static String normalizeAnswer(String answer, String[] values) {
+        int number = optionNumber(answer.charAt(0));
+        if (number > 0 && (answer.length() == 1 || answer.substring(1).strip().equals("번"))) {
+            return String.valueOf(number);
+        }
+        for (int option = 1; option <= 4; option++) {
+            if (answer.equals(values[option])) {
+                return String.valueOf(option);
+            }
+        }
+        return null;
+    }
+}
@@ -1,16 +1,16 @@
 package shop.buzzle.buzzle.quiz.application;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.ai.chat.ChatClient;
-import org.springframework.ai.chat.ChatResponse;
-import org.springframework.ai.chat.prompt.Prompt;
-import org.springframework.ai.openai.OpenAiChatOptions;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import shop.buzzle.buzzle.member.domain.Member;
 import shop.buzzle.buzzle.member.domain.repository.MemberRepository;
 import shop.buzzle.buzzle.member.exception.MemberNotFoundException;
@@ -24,6 +24,7 @@ import shop.buzzle.buzzle.quiz.api.dto.response.RetryQuizResDto;
 import shop.buzzle.buzzle.quiz.api.dto.request.IncorrectQuizChallengeReqDto;
 import shop.buzzle.buzzle.quiz.api.dto.response.IncorrectQuizChallengeResDto;
 import shop.buzzle.buzzle.quiz.api.dto.response.IncorrectQuizChallengeResultResDto;
+import shop.buzzle.buzzle.quiz.domain.QuizCategory;
 import shop.buzzle.buzzle.quiz.domain.QuizResult;
 import shop.buzzle.buzzle.quiz.domain.QuizScore;
 import shop.buzzle.buzzle.quiz.domain.repository.QuizResultRepository;
@@ -36,115 +37,101 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class QuizService {
 
-    private final ChatClient chatClient;
+    private final QuizGenerator quizGenerator;
+    private final QuizInventory quizInventory;
+    private final QuizBankService quizBankService;
     private final MemberRepository memberRepository;
     private final QuizResultRepository quizResultRepository;
 
-    @Value("${questions.all}")
-    private String allQuestions;
-
-    @Value("${questions.history}")
-    private String historyQuestions;
-
-    @Value("${questions.society}")
-    private String societyQuestions;
-
-    @Value("${questions.science}")
-    private String scienceQuestions;
-
-    @Value("${questions.culture}")
-    private String cultureQuestions;
-
-    @Value("${questions.sports}")
-    private String sportsQuestions;
-
-    @Value("${questions.nature}")
-    private String natureQuestions;
-
-    @Value("${questions.misc}")
-    private String miscQuestions;
-
     @Transactional
     public QuizResListDto askForAdvice(QuizSizeReqDto quizSizeReqDto) {
+        return askForAdvice(quizSizeReqDto, List.of());
+    }
 
-        String selectedQuestions = switch (quizSizeReqDto.category()) {
-            case ALL -> allQuestions;
-            case HISTORY -> historyQuestions;
-            case SOCIETY -> societyQuestions;
-            case SCIENCE -> scienceQuestions;
-            case CULTURE -> cultureQuestions;
-            case SPORTS -> sportsQuestions;
-            case NATURE -> natureQuestions;
-            case MISC -> miscQuestions;
-        };
-
-        List<QuizResDto> quizList = new ArrayList<>();
-
-        for (int i = 0; i < quizSizeReqDto.size(); i++) {
-            ChatResponse response = callChat(selectedQuestions);
-            if (response == null) {
-                response = callChat(selectedQuestions);
-            }
-            quizList.add(parseQuiz(response.getResult().getOutput().getContent()));
-        }
+    /**
+     * 퀴즈 뱅크(플레이어들이 최근에 보지 않은 문제) → 미리 생성된 재고 → LLM 생성 순서로 문제를 채운다.
+     * 어디서 온 문제든 나간 문제는 모두 플레이어들의 노출 기록으로 남긴다.
+     */
+    @Transactional
+    public QuizResListDto askForAdvice(QuizSizeReqDto quizSizeReqDto, Collection<String> playerEmails) {
+        QuizCategory category = quizSizeReqDto.category();
+        int size = quizSizeReqDto.size();
+
+        List<QuizResDto> quizList = new ArrayList<>(
+                quizBankService.serve(category, quizBankService.reusableCount(size), playerEmails));
+        quizList.addAll(quizInventory.take(category, size - quizList.size()));
+        quizList.addAll(quizGenerator.generate(category, size - quizList.size()));
+
+        fillShortage(category, quizList, size, playerEmails);
+        quizBankService.recordExposuresAsync(List.copyOf(quizList), playerEmails);
 
         return QuizResListDto.from(quizList);
     }
 
-    private ChatResponse callChat(String prompt) {
-        return chatClient.call(
-                new Prompt(
-                        prompt,
-                        OpenAiChatOptions.builder()
-                                .withTemperature(1F)
-                                .withFrequencyPenalty(0.6F)
-                                .withPresencePenalty(1F)
-                                .withModel("gpt-4o")
-                                .build()
-                ));
+    /**
+     * 게임용 문제를 준비되는 대로 하나씩 내보낸다.
+     * 뱅크와 재고에 있는 문제는 즉시 내보내고, 나머지는 LLM 이 완성하는 순서대로 이어서 내보낸다.
+     * 스트림이 끝나면 내보낸 문제를 플레이어들의 노출 기록으로 남긴다.
+     */
+    public Flux<QuizResDto> streamForGame(QuizSizeReqDto quizSizeReqDto, Collection<String> playerEmails) {
+        QuizCategory category = quizSizeReqDto.category();
+        int size = quizSizeReqDto.size();
+
+        return Mono.fromCallable(() -> {
+                    List<QuizResDto> ready = new ArrayList<>(
+                            quizBankService.serve(category, quizBankService.reusableCount(size), playerEmails));
+                    ready.addAll(quizInventory.take(category, size - ready.size()));
+                    return ready;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(ready -> {
+                    List<QuizResDto> emitted = new CopyOnWriteArrayList<>(ready);
+
+                    Flux<QuizResDto> generated = quizGenerator.stream(category, size - ready.size())
+                            .doOnNext(emitted::add);
+
+                    // LLM 스트림이 목표 개수를 못 채우고 끝나면 나머지는 동기 경로로 채운다
+                    Flux<QuizResDto> shortage = Mono.fromCallable(() -> {
+                                List<QuizResDto> filled = new ArrayList<>(emitted);
+                                fillShortage(category, filled, size, playerEmails);
+                                return filled.subList(emitted.size(), filled.size());
+                            })
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .flatMapIterable(filled -> filled)
+                            .doOnNext(emitted::add);
+
+                    return Flux.fromIterable(ready)
+                            .concatWith(generated)
+                            .concatWith(shortage)
+                            .doFinally(signal -> quizBankService.recordExposuresAsync(List.copyOf(emitted), playerEmails));
+                });
     }
 
-    private QuizResDto parseQuiz(String quizText) {
-        log.info("Raw Quiz Text: {}", quizText);
-
-        String question = "";
-        String option1 = "";
-        String option2 = "";
-        String option3 = "";
-        String option4 = "";
-        String answer = "";
-
-        if (quizText.contains(" , ")) {
-            String cleaned = quizText.replaceAll("^\\[|]$", ""); // [와 ] 제거
-            String[] parts = cleaned.split(" , ");
-
-            for (String part : parts) {
-                part = part.trim();
-                if (part.startsWith("문제:")) question = part.replace("문제:", "").trim();
-                else if (part.startsWith("1.")) option1 = part.replace("1.", "").trim();
-                else if (part.startsWith("2.")) option2 = part.replace("2.", "").trim();
-                else if (part.startsWith("3.")) option3 = part.replace("3.", "").trim();
-                else if (part.startsWith("4.")) option4 = part.replace("4.", "").trim();
-                else if (part.startsWith("정답:")) answer = part.replace("정답:", "").trim();
-            }
-        } else {
-            // 줄바꿈 기반 포맷 처리
-            String[] lines = quizText.split("\\r?\\n");
-
-            for (String line : lines) {
-                line = line.trim();
-                if (line.startsWith("문제:")) question = line.replace("문제:", "").trim();
-                else if (line.startsWith("1.")) option1 = line.replace("1.", "").trim();
-                else if (line.startsWith("2.")) option2 = line.replace("2.", "").trim();
-                else if (line.startsWith("3.")) option3 = line.replace("3.", "").trim();
-                else if (line.startsWith("4.")) option4 = line.replace("4.", "").trim();
-                else if (line.startsWith("정답:")) answer = line.replace("정답:", "").trim();
-            }
+    // 마감 시간 안에 못 채운 문제는 최근 생성된 퀴즈와 퀴즈 뱅크로 먼저 채우고, 그래도 부족하면 짧은 마감 시간 하나로 함께 생성
+    private void fillShortage(QuizCategory category, List<QuizResDto> quizList, int size,
+                              Collection<String> playerEmails) {
+        if (quizList.size() < size) {
+            quizList.addAll(quizGenerator.recentlyGenerated(category, size - quizList.size(), quizList));
+        }
+        if (quizList.size() < size) {
+            quizBankService.serve(category, size - quizList.size(), playerEmails).stream()
+                    .filter(quiz -> quizList.stream().noneMatch(q -> q.question().equals(quiz.question())))
+                    .forEach(quizList::add);
+        }
+        if (quizList.size() < size) {
+            quizGenerator.generateShortage(category, size - quizList.size()).stream()
+                    .filter(quiz -> quizList.stream().noneMatch(q -> q.question().equals(quiz.question())))
+                    .limit(size - quizList.size())
+                    .forEach(quizList::add);
+        }
+        if (quizList.size() < size) {
+            // LLM 을 쓸 수 없거나 시간 안에 생성하지 못하면 최근 노출 여부와 관계없이 뱅크에서 채운다
+            log.warn("🔌 [QUIZ_FALLBACK] Category: {}, Missing: {}", category, size - quizList.size());
+            quizBankService.serve(category, size, List.of()).stream()
+                    .filter(quiz -> quizList.stream().noneMatch(q -> q.question().equals(quiz.question())))
+                    .limit(size - quizList.size())
+                    .forEach(quizList::add);
         }
-
-        log.info("Parsed -> Q: {}, 1: {}, 2: {}, 3: {}, 4: {}, Answer: {}", question, option1, option2, option3, option4, answer);
-
-        return QuizResDto.of(question, option1, option2, option3, option4, answer);
     }
 
     @Transactional
@@ -0,0 +1,74 @@
+package shop.buzzle.buzzle.quiz.application;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍으로 조각조각 들어오는 LLM 응답에서 완성된 퀴즈 블록을 잘라낸다.
+ * 블록은 구분선(###)으로 끝나거나, 정답 줄 이후에 다음 "문제:" 가 시작되면 완성된 것으로 본다.
+ * 한 번의 스트림에서만 사용하며 스레드 안전하지 않다.
+ */
+class QuizStreamParser {
+
+    static final String BLOCK_DELIMITER = "###";
+
+    private static final String QUESTION_MARKER = "문제:";
+    private static final String ANSWER_MARKER = "정답:";
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    List<String> feed(String chunk) {
+        if (chunk == null || chunk.isEmpty()) {
+            return List.of();
+        }
+        buffer.append(chunk);
+
+        List<String> blocks = new ArrayList<>();
+        int end;
+        while ((end = findBlockEnd()) >= 0) {
+            addIfPresent(blocks, buffer.substring(0, end));
+            int next = end;
+            if (buffer.indexOf(BLOCK_DELIMITER, next) == next) {
+                next += BLOCK_DELIMITER.length();
+            }
+            buffer.delete(0, next);
+        }
+        return blocks;
+    }
+
+    List<String> finish() {
+        List<String> blocks = new ArrayList<>(1);
+        addIfPresent(blocks, buffer.toString());
+        buffer.setLength(0);
+        return blocks;
+    }
+
+    private int findBlockEnd() {
+        int delimiter = buffer.indexOf(BLOCK_DELIMITER);
+        if (delimiter >= 0) {
+            return delimiter;
+        }
+
+        // 구분선 없이 이어서 나오는 경우: 정답 이후 다음 문제의 시작 위치에서 자른다
+        int answer = buffer.indexOf(ANSWER_MARKER);
+        if (answer < 0) {
+            return -1;
+        }
+        int nextQuestion = buffer.indexOf(QUESTION_MARKER, answer);
+        if (nextQuestion < 0) {
+            return -1;
+        }
+        int start = nextQuestion;
+        while (start > answer && buffer.charAt(start - 1) != '\n' && buffer.charAt(start - 1) != ']') {
+            start--;
+        }
+        return start > answer ? start : nextQuestion;
+    }
+
+    private static void addIfPresent(List<String> blocks, String block) {
+        String trimmed = block.trim();
+        if (trimmed.contains(QUESTION_MARKER)) {
+            blocks.add(trimmed);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package shop.buzzle.buzzle.quiz.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import shop.buzzle.buzzle.global.entity.BaseEntity;
+import shop.buzzle.buzzle.quiz.api.dto.response.QuizResDto;
+
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_quiz_category", columnList = "category"))
+public class Quiz extends BaseEntity {
+
+    // 정규화한 문제 텍스트의 SHA-256 (같은 문제의 중복 저장 방지)
+    @Column(nullable = false, unique = true, length = 64)
+    private String questionHash;
+
+    @Enumerated(EnumType.STRING)
+    private QuizCategory category;
+
+    @Column(columnDefinition = "TEXT")
+    private String question;
+
+    private String option1;
+    private String option2;
+    private String option3;
+    private String option4;
+    private String answer;
+
+    private Integer generatedCount = 1;
+
+    private Integer servedCount = 0;
+
+    private LocalDateTime lastServedAt;
+
+    @Builder
+    private Quiz(String questionHash, QuizCategory category, String question, String option1, String option2,
+                 String option3, String option4, String answer) {
+        this.questionHash = questionHash;
+        this.category = category;
+        this.question = question;
+        this.option1 = option1;
+        this.option2 = option2;
+        this.option3 = option3;
+        this.option4 = option4;
+        this.answer = answer;
+    }
+
+    public static Quiz of(QuizCategory category, QuizResDto quiz) {
+        return Quiz.builder()
+                .questionHash(hashOf(quiz.question()))
+                .category(category)
+                .question(quiz.question())
+                .option1(quiz.option1())
+                .option2(quiz.option2())
+                .option3(quiz.option3())
+                .option4(quiz.option4())
+                .answer(quiz.answer())
+                .build();
+    }
+
+    // 공백, 문장부호, 전각/반각, 대소문자 차이를 무시하고 해시
+    public static String hashOf(String question) {
+        String normalized = Normalizer.normalize(question, Normalizer.Form.NFKC).toLowerCase();
+        StringBuilder compact = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(compact::appendCodePoint);
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(compact.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public void markGenerated() {
+        this.generatedCount++;
+    }
+
+    public void markServed() {
+        this.servedCount++;
+        this.lastServedAt = LocalDateTime.now();
+    }
+
+    public QuizResDto toQuizResDto() {
+        return QuizResDto.of(question, option1, option2, option3, option4, answer);
+    }
+}
@@ -0,0 +1,30 @@
+package shop.buzzle.buzzle.quiz.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import shop.buzzle.buzzle.global.entity.BaseEntity;
+
+// 퀴즈 뱅크에서 꺼낸 문제를 어떤 플레이어가 언제 봤는지 기록
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_quiz_exposure_member", columnList = "member_email, created_at"))
+public class QuizExposure extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "quiz_id")
+    private Quiz quiz;
+
+    private String memberEmail;
+
+    public QuizExposure(Quiz quiz, String memberEmail) {
+        this.quiz = quiz;
+        this.memberEmail = memberEmail;
+    }
+}
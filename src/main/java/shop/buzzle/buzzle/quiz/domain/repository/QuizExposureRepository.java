@@ -0,0 +1,15 @@
+package shop.buzzle.buzzle.quiz.domain.repository;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import shop.buzzle.buzzle.quiz.domain.QuizExposure;
+
+public interface QuizExposureRepository extends JpaRepository<QuizExposure, Long> {
+
+    @Modifying
+    @Query("DELETE FROM QuizExposure e WHERE e.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
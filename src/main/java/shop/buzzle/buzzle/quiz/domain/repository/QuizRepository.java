@@ -0,0 +1,27 @@
+package shop.buzzle.buzzle.quiz.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import shop.buzzle.buzzle.quiz.domain.Quiz;
+import shop.buzzle.buzzle.quiz.domain.QuizCategory;
+
+public interface QuizRepository extends JpaRepository<Quiz, Long> {
+
+    List<Quiz> findAllByQuestionHashIn(Collection<String> questionHashes);
+
+    @Query("SELECT q FROM Quiz q WHERE q.category = :category ORDER BY q.servedCount ASC, q.id DESC")
+    List<Quiz> findLeastServed(@Param("category") QuizCategory category, Pageable pageable);
+
+    @Query("SELECT q FROM Quiz q WHERE q.category = :category AND q.id NOT IN ("
+            + "SELECT e.quiz.id FROM QuizExposure e WHERE e.memberEmail IN :emails AND e.createdAt >= :since"
+            + ") ORDER BY q.servedCount ASC, q.id DESC")
+    List<Quiz> findLeastServedUnseen(@Param("category") QuizCategory category,
+                                     @Param("emails") Collection<String> emails,
+                                     @Param("since") LocalDateTime since,
+                                     Pageable pageable);
+}
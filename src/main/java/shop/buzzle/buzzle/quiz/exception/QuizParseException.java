@@ -0,0 +1,15 @@
+package shop.buzzle.buzzle.quiz.exception;
+
+import lombok.Getter;
+import shop.buzzle.buzzle.quiz.application.QuizParseResult;
+
+@Getter
+public class QuizParseException extends RuntimeException {
+
+    private final QuizParseResult.Failure failure;
+
+    public QuizParseException(QuizParseResult.Failure failure) {
+        super("퀴즈 응답을 해석할 수 없습니다: " + failure);
+        this.failure = failure;
+    }
+}
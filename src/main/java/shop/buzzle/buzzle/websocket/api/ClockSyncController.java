@@ -0,0 +1,19 @@
+package shop.buzzle.buzzle.websocket.api;
+
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+import shop.buzzle.buzzle.websocket.api.dto.ClockSyncRequest;
+import shop.buzzle.buzzle.websocket.api.dto.ClockSyncResponse;
+
+@Controller
+public class ClockSyncController {
+
+    // 보내는 경로) /app/clock/ping, 받는 경로) /user/queue/clock
+    @MessageMapping("/clock/ping")
+    @SendToUser(destinations = "/queue/clock", broadcast = false)
+    public ClockSyncResponse ping(@Payload ClockSyncRequest request) {
+        return ClockSyncResponse.of(request.clientTime());
+    }
+}
@@ -0,0 +1,6 @@
+package shop.buzzle.buzzle.websocket.api.dto;
+
+public record ClockSyncRequest(
+        long clientTime
+) {
+}
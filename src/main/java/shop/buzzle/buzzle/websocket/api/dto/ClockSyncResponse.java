@@ -0,0 +1,14 @@
+package shop.buzzle.buzzle.websocket.api.dto;
+
+/**
+ * 시계 동기화 응답. 클라이언트는 받은 시각 t1 으로 offset = serverTime - (clientTime + t1) / 2 를 구한다.
+ */
+public record ClockSyncResponse(
+        String type,
+        long clientTime,
+        long serverTime
+) {
+    public static ClockSyncResponse of(long clientTime) {
+        return new ClockSyncResponse("CLOCK_SYNC", clientTime, System.currentTimeMillis());
+    }
+}
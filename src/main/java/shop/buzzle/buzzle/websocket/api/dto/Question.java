@@ -1,11 +1,20 @@
 package shop.buzzle.buzzle.websocket.api.dto;
 
 import java.util.List;
+import shop.buzzle.buzzle.quiz.api.dto.response.QuizResDto;
 
 public record Question(
         String text, List<String> options, String answerIndex
 ) {
 
+    public static Question from(QuizResDto quiz) {
+        return new Question(
+                quiz.question(),
+                List.of(quiz.option1(), quiz.option2(), quiz.option3(), quiz.option4()),
+                quiz.answer()
+        );
+    }
+
     public boolean isCorrectIndex(int index) {
         try {
             return index == Integer.parseInt(answerIndex) - 1;
@@ -1,17 +1,33 @@
 package shop.buzzle.buzzle.websocket.application;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.Disposable;
+import shop.buzzle.buzzle.game.api.dto.GameResyncResponse;
 import shop.buzzle.buzzle.game.api.dto.WebSocketAnswerResponse;
 import shop.buzzle.buzzle.game.api.dto.WebSocketQuestionResponse;
 import shop.buzzle.buzzle.game.api.dto.WebSocketGameEndResponse;
+import shop.buzzle.buzzle.game.application.DrainState;
+import shop.buzzle.buzzle.game.application.DrainableGames;
+import shop.buzzle.buzzle.game.application.EncodedFrame;
+import shop.buzzle.buzzle.game.application.GameClock;
+import shop.buzzle.buzzle.game.application.GameFrameBatcher;
+import shop.buzzle.buzzle.game.application.GameHandoff;
+import shop.buzzle.buzzle.game.application.GameHandoffStore;
+import shop.buzzle.buzzle.game.application.GameResultWriter;
 import shop.buzzle.buzzle.game.application.GameSession;
+import shop.buzzle.buzzle.game.application.GameTelemetry;
+import shop.buzzle.buzzle.game.application.PlayerDirectory;
+import shop.buzzle.buzzle.game.application.RoomExecutor;
+import shop.buzzle.buzzle.game.application.ScoreBoard;
+import shop.buzzle.buzzle.game.application.TimerMode;
+import shop.buzzle.buzzle.game.journal.GameJournal;
+import shop.buzzle.buzzle.game.journal.JournalEvent;
 import shop.buzzle.buzzle.member.domain.Member;
 import shop.buzzle.buzzle.member.domain.repository.MemberRepository;
-import shop.buzzle.buzzle.member.exception.MemberNotFoundException;
-import shop.buzzle.buzzle.quiz.api.dto.response.QuizResDto;
 import shop.buzzle.buzzle.quiz.api.dto.request.QuizSizeReqDto;
 import shop.buzzle.buzzle.quiz.application.QuizService;
 import shop.buzzle.buzzle.quiz.domain.QuizCategory;
@@ -22,60 +38,157 @@ import shop.buzzle.buzzle.websocket.api.dto.LeaderboardResponse;
 import shop.buzzle.buzzle.websocket.api.dto.PlayerJoinedResponse;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class WSRoomService {
+public class WSRoomService implements DrainableGames {
+
+    private static final int QUIZ_COUNT = 3;
+    // 인계 저장소와 저널에서 1:1 게임을 구분하는 이름
+    public static final String GAME_KIND = "game";
 
     private final QuizService quizService;
     private final MemberRepository memberRepository;
+    private final GameClock gameClock;
+    private final RoomExecutor roomExecutor;
+    private final GameFrameBatcher frameBatcher;
     private final SimpMessageSendingOperations messagingTemplate;
+    private final GameResultWriter gameResultWriter;
+    private final GameTelemetry telemetry;
+    private final GameHandoffStore handoffStore;
+    private final DrainState drainState;
+    private final GameJournal journal;
     private final Map<String, GameSession> sessionMap = new ConcurrentHashMap<>();
-    private final Map<String, Object> roomLocks = new ConcurrentHashMap<>();
-    private final Map<String, List<ScheduledFuture<?>>> roomTimers = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(10);
-
-    public void startGame(String roomId) {
-        List<QuizResDto> quizzes = quizService
-                .askForAdvice(new QuizSizeReqDto(QuizCategory.ALL, 3))
-                .quizResDtos();
-
-        List<Question> questions = quizzes.stream()
-                .map(q -> new Question(
-                        q.question(),
-                        List.of(q.option1(), q.option2(), q.option3(), q.option4()),
-                        q.answer()
-                ))
-                .toList();
-
-        GameSession session = new GameSession(questions);
+    private final Map<String, Disposable> questionFeeds = new ConcurrentHashMap<>();
+
+    @Value("${game.question-seconds:10}")
+    private int questionSeconds;
+
+    @Value("${game.timer.mode:tick}")
+    private TimerMode timerMode;
+
+    // 정답 또는 시간 종료 후 다음 문제를 보내기까지의 대기 시간
+    @Value("${game.next-question-delay-ms:3000}")
+    private long nextQuestionDelayMs;
+
+    // 방 상태는 roomExecutor 의 방별 메일박스 안에서만 바꾼다
+    public void startGame(String roomId, Collection<String> playerEmails) {
+        inRoom(roomId, () -> doStartGame(roomId, playerEmails));
+    }
+
+    // 방 메일박스에서 실행하고, 그 안에서 보낸 프레임은 하나의 상태 변화로 묶는다
+    private void inRoom(String roomId, Runnable change) {
+        roomExecutor.execute(roomId, () -> frameBatcher.transition(change));
+    }
+
+    private void doStartGame(String roomId, Collection<String> playerEmails) {
+        if (sessionMap.containsKey(roomId)) return;
+
+        // 다른 서버가 정리하면서 넘긴 게임이면 새로 시작하지 않고 이어서 진행한다
+        if (resumeHandedOffGame(roomId)) return;
+
+        if (drainState.isDraining()) {
+            broadcastToRoom(roomId, "SERVER_DRAINING", "서버 점검을 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+
+        GameSession session = new GameSession(QUIZ_COUNT);
+        // 답안 처리 중 DB 를 조회하지 않도록 플레이어 정보를 미리 담아 둔다
+        session.getPlayers().putAll(memberRepository.findAllByEmailIn(playerEmails));
         sessionMap.put(roomId, session);
+        journal.append(GAME_KIND, roomId, JournalEvent.GAME_STARTED, Map.of(
+                "players", List.copyOf(playerEmails),
+                "totalQuestions", session.getTotalQuestions()
+        ));
+
+        // 전체 문제가 준비될 때까지 기다리지 않고, 첫 문제가 준비되는 즉시 게임을 진행한다
+        startQuestionFeed(roomId, session, QUIZ_COUNT, playerEmails);
 
         sendCurrentQuestion(roomId);
     }
 
-    public void sendCurrentQuestion(String roomId) {
+    private void startQuestionFeed(String roomId, GameSession session, int count, Collection<String> playerEmails) {
+        Disposable feed = quizService
+                .streamForGame(new QuizSizeReqDto(QuizCategory.ALL, count), playerEmails)
+                .map(Question::from)
+                .subscribe(
+                        question -> inRoom(roomId, () -> {
+                            if (session.appendQuestion(question)) {
+                                sendCurrentQuestion(roomId);
+                            }
+                        }),
+                        e -> {
+                            log.warn("⚠️ [QUESTION_FEED_FAILED] Room: {}, Error: {}", roomId, e.getMessage());
+                            inRoom(roomId, () -> completeQuestionFeed(roomId, session));
+                        },
+                        () -> inRoom(roomId, () -> completeQuestionFeed(roomId, session))
+                );
+        questionFeeds.put(roomId, feed);
+    }
+
+    private void completeQuestionFeed(String roomId, GameSession session) {
+        questionFeeds.remove(roomId);
+        if (session.completeGeneration()) {
+            sendCurrentQuestion(roomId);
+        }
+    }
+
+    private void sendCurrentQuestion(String roomId) {
         GameSession session = sessionMap.get(roomId);
         if (session == null || session.isFinished()) return;
 
         Question q = session.getCurrentQuestion();
-
-        messagingTemplate.convertAndSend(
-                "/topic/game/" + roomId,
-                WebSocketQuestionResponse.of(
-                        q.text(),
-                        q.options(),
-                        session.getCurrentQuestionIndex()
-                )
-        );
+        if (q == null) {
+            // 아직 생성 중이면 대기 상태로 두고, 문제가 도착하면 피드 쪽에서 다시 전송한다
+            if (!session.awaitCurrentQuestion()) {
+                broadcastToRoom(roomId, "LOADING", "문제를 준비하고 있습니다.");
+                return;
+            }
+            q = session.getCurrentQuestion();
+        }
+        if (q == null) {
+            // 생성이 끝났는데 남은 문제가 없으면 게임 종료
+            session.finish();
+            handleGameEnd(roomId, session);
+            return;
+        }
 
         // 타이머가 이미 실행 중이 아닌 경우에만 시작
-        if (session.tryStartTimer()) {
-            startQuestionTimer(roomId, 10);
+        boolean timerStarted = session.tryStartTimer();
+        if (timerStarted) {
+            session.startDeadline(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(questionSeconds));
+            session.markQuestionSent(System.nanoTime());
+            journal.append(GAME_KIND, roomId, JournalEvent.QUESTION_SENT, Map.of(
+                    "questionIndex", session.getCurrentQuestionIndex(),
+                    "question", q,
+                    "deadline", session.getQuestionDeadline()
+            ));
+        }
+
+        frameBatcher.send("/topic/game/" + roomId, questionResponse(session, q));
+
+        if (timerStarted) {
+            startQuestionTimer(roomId, questionSeconds);
+        }
+    }
+
+    // 문제마다 한 번만 직렬화해 두고 같은 바이트를 보낸다
+    private EncodedFrame questionResponse(GameSession session, Question q) {
+        EncodedFrame frame = session.getQuestionFrames().computeIfAbsent(session.getCurrentQuestionIndex(),
+                index -> frameBatcher.encode(WebSocketQuestionResponse.of(q.text(), q.options(), index)));
+        if (timerMode == TimerMode.DEADLINE) {
+            return frame.withFields(Map.of(
+                    "deadline", session.getQuestionDeadline(),
+                    "serverTime", System.currentTimeMillis()
+            ));
         }
+        return frame;
     }
 
     private void startQuestionTimer(String roomId, int seconds) {
@@ -85,85 +198,79 @@ public class WSRoomService {
         // 기존 타이머들 취소
         cancelRoomTimers(roomId);
 
-        List<ScheduledFuture<?>> timerTasks = new ArrayList<>();
+        // 메일박스에서 늦게 처리되는 타이머가 다음 문제에 적용되지 않도록 시작한 문제 번호를 기억한다
+        int questionIndex = session.getCurrentQuestionIndex();
 
-        // 타이머 카운트다운 스케줄
-        for (int i = seconds; i > 0; i--) {
-            final int currentSecond = i;
-            ScheduledFuture<?> timerTask = scheduler.schedule(() -> {
-                // 세션이 끝났거나 타이머가 중단되었으면 타이머 중단
-                if (session.isFinished() || !session.isTimerRunning()) return;
+        Runnable timeUp = () -> inRoom(roomId, () -> handleTimeUp(roomId, session, questionIndex));
 
-                Map<String, Object> timerPayload = Map.of(
-                    "type", "TIMER",
-                    "remainingTime", currentSecond
-                );
-                messagingTemplate.convertAndSend("/topic/game/" + roomId, timerPayload);
-            }, seconds - i, TimeUnit.SECONDS);
-
-            timerTasks.add(timerTask);
+        // deadline 모드는 클라이언트가 직접 카운트다운하므로 시간 종료만 예약한다
+        if (timerMode == TimerMode.DEADLINE) {
+            gameClock.schedule(roomId, TimeUnit.SECONDS.toMillis(seconds), timeUp);
+            return;
         }
 
-        // 시간 종료 스케줄
-        ScheduledFuture<?> timeUpTask = scheduler.schedule(() -> {
-            // 세션이 끝났거나 타이머가 중단되었으면 시간 종료 처리하지 않음
-            if (session.isFinished() || !session.isTimerRunning()) return;
+        // 1초마다 남은 시간을 보내고, 시간이 다 되면 시간 종료 처리
+        gameClock.countdown(roomId, seconds, remainingTime -> inRoom(roomId, () -> {
+            // 세션이 끝났거나 타이머가 중단되었으면 타이머 중단
+            if (isStaleTimer(session, questionIndex)) return;
 
-            Map<String, Object> timeUpPayload = Map.of(
-                "type", "TIME_UP",
-                "message", "시간이 종료되었습니다!"
+            Map<String, Object> timerPayload = Map.of(
+                "type", "TIMER",
+                "remainingTime", remainingTime
             );
-            messagingTemplate.convertAndSend("/topic/game/" + roomId, timeUpPayload);
-
-            // 시간 초과 처리
-            if (!session.isFinished()) {
-                roomLocks.putIfAbsent(roomId, new Object());
-                synchronized (roomLocks.get(roomId)) {
-                    // 마지막 문제인 경우 바로 게임 종료
-                    if (session.getCurrentQuestionIndex() >= session.getTotalQuestions() - 1) {
-                        session.tryNextQuestion(); // 게임을 finished 상태로 만들기
-                        handleGameEnd(roomId, session);
-                        roomLocks.remove(roomId);
-                    } else {
-                        // 마지막 문제가 아닌 경우 다음 문제로
-                        if (session.tryNextQuestion()) {
-                            if (session.isFinished()) {
-                                handleGameEnd(roomId, session);
-                                roomLocks.remove(roomId);
-                            } else {
-                                broadcastToRoom(roomId, "LOADING", "3초 후 다음 문제가 전송됩니다.");
-                                scheduler.schedule(() -> {
-                                    synchronized (roomLocks.get(roomId)) {
-                                        GameSession currentSession = sessionMap.get(roomId);
-                                        if (currentSession != null && !currentSession.isFinished()) {
-                                            sendCurrentQuestion(roomId);
-                                        }
-                                    }
-                                }, 3, TimeUnit.SECONDS);
-                            }
-                        }
-                    }
-                }
+            frameBatcher.send("/topic/game/" + roomId, timerPayload);
+        }), timeUp);
+    }
+
+    private void handleTimeUp(String roomId, GameSession session, int questionIndex) {
+        // 세션이 끝났거나 타이머가 중단되었으면 시간 종료 처리하지 않음
+        if (isStaleTimer(session, questionIndex)) return;
+        journal.append(GAME_KIND, roomId, JournalEvent.TIME_UP, Map.of("questionIndex", questionIndex));
+
+        Map<String, Object> timeUpPayload = Map.of(
+            "type", "TIME_UP",
+            "message", "시간이 종료되었습니다!"
+        );
+        frameBatcher.send("/topic/game/" + roomId, timeUpPayload);
+
+        // 마지막 문제인 경우 바로 게임 종료
+        if (session.getCurrentQuestionIndex() >= session.getTotalQuestions() - 1) {
+            session.tryNextQuestion(); // 게임을 finished 상태로 만들기
+            handleGameEnd(roomId, session);
+        } else if (session.tryNextQuestion()) {
+            // 마지막 문제가 아닌 경우 다음 문제로
+            if (session.isFinished()) {
+                handleGameEnd(roomId, session);
+            } else {
+                broadcastToRoom(roomId, "LOADING", "3초 후 다음 문제가 전송됩니다.");
+                scheduleNextQuestion(roomId);
             }
-        }, seconds, TimeUnit.SECONDS);
+        }
+    }
 
-        timerTasks.add(timeUpTask);
+    private boolean isStaleTimer(GameSession session, int questionIndex) {
+        return session.isFinished() || !session.isTimerRunning() || session.getCurrentQuestionIndex() != questionIndex;
+    }
 
-        // 방별 타이머 저장
-        roomTimers.put(roomId, timerTasks);
+    private void scheduleNextQuestion(String roomId) {
+        long dueAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(nextQuestionDelayMs);
+        gameClock.schedule(roomId, nextQuestionDelayMs, () -> inRoom(roomId, () -> {
+            // 시계 틱과 메일박스 대기로 예약보다 늦어진 시간
+            telemetry.recordDispatchJitter(roomId, System.nanoTime() - dueAt);
+            sendCurrentQuestion(roomId);
+        }));
     }
 
     private void cancelRoomTimers(String roomId) {
-        List<ScheduledFuture<?>> timers = roomTimers.remove(roomId);
-        if (timers != null) {
-            for (ScheduledFuture<?> timer : timers) {
-                timer.cancel(false);
-            }
-        }
+        gameClock.cancelRoom(roomId);
     }
 
-    @Transactional
     public void receiveAnswer(String roomId, String email, AnswerRequest answerRequest) {
+        long receivedAt = System.nanoTime();
+        inRoom(roomId, () -> handleAnswer(roomId, email, answerRequest, receivedAt));
+    }
+
+    private void handleAnswer(String roomId, String email, AnswerRequest answerRequest, long receivedAt) {
         GameSession session = sessionMap.get(roomId);
         if (session == null || session.isFinished()) return;
 
@@ -172,92 +279,118 @@ public class WSRoomService {
 
         if (clientQuestionIndex != session.getCurrentQuestionIndex()) return;
 
-        roomLocks.putIfAbsent(roomId, new Object());
+        Question current = session.getCurrentQuestion();
+        if (current == null) return;
 
-        synchronized (roomLocks.get(roomId)) {
-            Question current = session.getCurrentQuestion();
-            boolean isCorrect = current.isCorrectIndex(submittedIndex);
+        PlayerDirectory players = session.getPlayers();
+        if (!players.contains(email)) {
+            log.warn("⚠️ [UNKNOWN_PLAYER] Room: {}, Player: {}", roomId, email);
+            return;
+        }
 
-            Member member = memberRepository.findByEmail(email)
-                    .orElseThrow(MemberNotFoundException::new);
-            String displayName = member.getName();
+        long answerNanos = receivedAt - session.getQuestionSentAt();
+        telemetry.recordAnswerTime(roomId, email, answerNanos);
 
-            int correctIndex = Integer.parseInt(current.answerIndex()) - 1;
-            messagingTemplate.convertAndSend(
-                    "/topic/game/" + roomId,
-                    WebSocketAnswerResponse.of(email, displayName, isCorrect, String.valueOf(correctIndex), String.valueOf(submittedIndex))
-            );
+        boolean isCorrect = current.isCorrectIndex(submittedIndex);
+        String displayName = players.nameOf(email);
+
+        int correctIndex = Integer.parseInt(current.answerIndex()) - 1;
+        frameBatcher.send(
+                "/topic/game/" + roomId,
+                WebSocketAnswerResponse.of(email, displayName, isCorrect, String.valueOf(correctIndex), String.valueOf(submittedIndex))
+        );
+        telemetry.recordAnswerBroadcast(roomId, System.nanoTime() - receivedAt);
 
-            if (!isCorrect) return;
+        if (!isCorrect) {
+            journalAnswer(roomId, email, answerRequest, false, false, answerNanos);
+            return;
+        }
 
-            boolean accepted = session.tryAnswerCorrect(email, submittedIndex);
-            if (!accepted) return;
+        boolean accepted = session.tryAnswerCorrect(email, submittedIndex);
+        journalAnswer(roomId, email, answerRequest, true, accepted, answerNanos);
+        if (!accepted) return;
 
-            // 정답 처리 후 현재 리더보드 정보 전송
-            String currentLeaderEmail = session.getCurrentLeader();
-            Member currentLeaderMember = memberRepository.findByEmail(currentLeaderEmail)
-                    .orElseThrow(MemberNotFoundException::new);
-            Map<String, Integer> currentScores = session.getCurrentScores();
+        // 정답 처리 후 현재 리더보드 정보 전송. 선두와 점수는 같은 순위표에서 읽는다
+        ScoreBoard.Standings standings = session.getStandings();
+        String currentLeaderEmail = standings.leader();
+        Map<String, Integer> currentScores = standings.scores();
 
-            // 이메일 -> 이름 매핑 생성
-            Map<String, String> emailToName = new java.util.HashMap<>();
-            for (String userEmail : currentScores.keySet()) {
-                Member user = memberRepository.findByEmail(userEmail)
-                        .orElseThrow(MemberNotFoundException::new);
-                emailToName.put(userEmail, user.getName());
-            }
+        // 이메일 -> 이름 매핑 생성
+        Map<String, String> emailToName = players.namesOf(currentScores.keySet());
 
-            messagingTemplate.convertAndSend(
-                    "/topic/game/" + roomId,
-                    LeaderboardResponse.of(currentLeaderEmail, currentLeaderMember.getName(), currentScores, emailToName)
-            );
+        frameBatcher.send(
+                "/topic/game/" + roomId,
+                LeaderboardResponse.of(currentLeaderEmail, players.nameOf(currentLeaderEmail), currentScores, emailToName)
+        );
 
-            if (session.tryNextQuestion()) {
-                // 다음 문제로 넘어갈 때 현재 타이머 즉시 중단
-                session.stopTimer();
-                cancelRoomTimers(roomId);
-
-                if (session.isFinished()) {
-                    handleGameEnd(roomId, session);
-                    roomLocks.remove(roomId);
-                } else {
-                    // 타이머 중단 알림
-                    Map<String, Object> timerStopPayload = Map.of(
-                        "type", "TIMER_STOP",
-                        "message", "정답! 다음 문제로 이동합니다."
-                    );
-                    messagingTemplate.convertAndSend("/topic/game/" + roomId, timerStopPayload);
-
-                    broadcastToRoom(roomId, "LOADING", "3초 후 다음 문제가 전송됩니다.");
-                    scheduler.schedule(() -> {
-                        synchronized (roomLocks.get(roomId)) {
-                            GameSession currentSession = sessionMap.get(roomId);
-                            if (currentSession != null && !currentSession.isFinished()) {
-                                sendCurrentQuestion(roomId);
-                            }
-                        }
-                    }, 3, TimeUnit.SECONDS);
-                }
+        if (session.tryNextQuestion()) {
+            // 다음 문제로 넘어갈 때 현재 타이머 즉시 중단
+            session.stopTimer();
+            cancelRoomTimers(roomId);
+
+            if (session.isFinished()) {
+                handleGameEnd(roomId, session);
+            } else {
+                // 타이머 중단 알림
+                Map<String, Object> timerStopPayload = Map.of(
+                    "type", "TIMER_STOP",
+                    "message", "정답! 다음 문제로 이동합니다."
+                );
+                frameBatcher.send("/topic/game/" + roomId, timerStopPayload);
+
+                broadcastToRoom(roomId, "LOADING", "3초 후 다음 문제가 전송됩니다.");
+                scheduleNextQuestion(roomId);
             }
         }
     }
 
 
+    // 틀린 답과 다른 플레이어가 먼저 맞힌 뒤의 정답도 기록한다
+    private void journalAnswer(String roomId, String email, AnswerRequest answerRequest, boolean correct,
+                               boolean accepted, long answerNanos) {
+        journal.append(GAME_KIND, roomId, JournalEvent.ANSWER, Map.of(
+                "email", email,
+                "questionIndex", answerRequest.questionIndex(),
+                "index", answerRequest.index(),
+                "correct", correct,
+                "accepted", accepted,
+                "answerMs", TimeUnit.NANOSECONDS.toMillis(answerNanos)
+        ));
+    }
+
     private void handleGameEnd(String roomId, GameSession session) {
         String winner = session.getWinner();
+        String winnerName = null;
 
-        Member member = memberRepository.findByEmail(winner)
-                .orElseThrow(MemberNotFoundException::new);
-
-        member.incrementStreak(QuizScore.MULTI_SCORE.getScore());
+        // 아무도 정답을 맞히지 못한 경우 우승자 없이 종료
+        if (winner != null) {
+            // DB 반영은 결과 기록기가 모아서 처리하므로 게임 종료가 DB 를 기다리지 않는다
+            gameResultWriter.record(GAME_KIND, roomId, winner, QuizScore.MULTI_SCORE.getScore());
+            winnerName = session.getPlayers().nameOf(winner);
+        }
+        // 아무도 맞히지 못했으면 winner 는 null
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("scores", session.getCurrentScores());
+        result.put("winner", winner);
+        journal.append(GAME_KIND, roomId, JournalEvent.GAME_ENDED, result);
 
-        messagingTemplate.convertAndSend(
+        frameBatcher.send(
                 "/topic/game/" + roomId,
-                WebSocketGameEndResponse.of(winner, member.getName())
+                WebSocketGameEndResponse.of(winner, winnerName)
         );
 
         sessionMap.remove(roomId);
         cancelRoomTimers(roomId);
+        disposeQuestionFeed(roomId);
+        frameBatcher.forget("/topic/game/" + roomId);
+        telemetry.finishRoom(roomId);
+    }
+
+    private void disposeQuestionFeed(String roomId) {
+        Disposable feed = questionFeeds.remove(roomId);
+        if (feed != null) {
+            feed.dispose();
+        }
     }
 
     public void broadcastToRoom(String roomId, String type, String message) {
@@ -265,33 +398,144 @@ public class WSRoomService {
         response.put("type", type);
         response.put("message", message);
 
-        messagingTemplate.convertAndSend(
+        frameBatcher.send(
                 "/topic/game/" + roomId,
                 response
         );
     }
 
+    // 진행 중인 게임이 있으면 입장한 플레이어 정보를 갱신한다
+    public void registerPlayer(String roomId, Member member) {
+        inRoom(roomId, () -> {
+            GameSession session = sessionMap.get(roomId);
+            if (session != null) {
+                session.getPlayers().put(member);
+            }
+        });
+    }
+
     public void broadcastPlayerJoined(String roomId, PlayerJoinedResponse playerInfo) {
-        messagingTemplate.convertAndSend(
+        frameBatcher.send(
                 "/topic/game/" + roomId,
                 playerInfo
         );
     }
 
-    public void resendCurrentQuestionToUser(String roomId) {
+    // 재접속한 플레이어 한 명에게만 현재 상태를 보낸다. 방 전체에 문제를 다시 보내지 않는다
+    public void resendCurrentQuestionToUser(String roomId, String email) {
+        inRoom(roomId, () -> resyncPlayer(roomId, email));
+    }
+
+    private void resyncPlayer(String roomId, String email) {
         GameSession session = sessionMap.get(roomId);
         if (session == null || session.isFinished()) return;
 
+        if (!session.getPlayers().contains(email)) {
+            log.warn("⚠️ [UNKNOWN_PLAYER] Room: {}, Player: {}", roomId, email);
+            return;
+        }
+
+        long seq = frameBatcher.lastSequence("/topic/game/" + roomId);
         Question q = session.getCurrentQuestion();
+        // 정답 처리 후 다음 문제를 보내기 전에는 아직 공개되지 않은 문제를 내보내지 않는다
+        GameResyncResponse resync = q != null && session.isTimerRunning()
+                ? GameResyncResponse.question(seq, session.getCurrentQuestionIndex(), session.getTotalQuestions(),
+                        q.text(), q.options(), session.getQuestionDeadline(), session.getCurrentScores())
+                : GameResyncResponse.loading(seq, session.getCurrentQuestionIndex(), session.getTotalQuestions(),
+                        session.getCurrentScores());
+
+        messagingTemplate.convertAndSendToUser(email, "/queue/game", resync);
+    }
 
-        messagingTemplate.convertAndSend(
-                "/topic/game/" + roomId,
-                WebSocketQuestionResponse.of(
-                        q.text(),
-                        q.options(),
-                        session.getCurrentQuestionIndex()
-                )
-        );
+    @Override
+    public String kind() {
+        return GAME_KIND;
     }
 
+    @Override
+    public int activeGames() {
+        return sessionMap.size();
+    }
+
+    @Override
+    public int handOff() {
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (String roomId : sessionMap.keySet()) {
+            CompletableFuture<Boolean> result = new CompletableFuture<>();
+            inRoom(roomId, () -> {
+                try {
+                    result.complete(handOffRoom(roomId));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            results.add(result);
+        }
+
+        int handedOff = 0;
+        for (CompletableFuture<Boolean> result : results) {
+            try {
+                if (result.get(5, TimeUnit.SECONDS)) {
+                    handedOff++;
+                }
+            } catch (Exception e) {
+                log.error("❌ [HANDOFF_FAILED] Error: {}", e.getMessage());
+            }
+        }
+        return handedOff;
+    }
+
+    // 진행 중인 게임을 인계 저장소에 넘기고 이 서버의 타이머와 문제 생성을 멈춘다
+    private boolean handOffRoom(String roomId) {
+        GameSession session = sessionMap.get(roomId);
+        if (session == null || session.isFinished()) {
+            return false;
+        }
+
+        GameHandoff handoff = session.toHandoff(roomId, System.currentTimeMillis());
+        handoffStore.save(GAME_KIND, handoff);
+        journal.append(GAME_KIND, roomId, JournalEvent.HANDED_OFF, Map.of());
+
+        sessionMap.remove(roomId);
+        cancelRoomTimers(roomId);
+        disposeQuestionFeed(roomId);
+        broadcastToRoom(roomId, "HANDOFF", "서버 점검으로 게임을 옮기는 중입니다. 다시 연결하면 이어서 진행됩니다.");
+
+        log.info("📦 [ROOM_HANDED_OFF] Room: {}, Question: {}/{}, Phase: {}",
+                roomId, handoff.currentQuestionIndex() + 1, handoff.totalQuestions(), handoff.phase());
+        return true;
+    }
+
+    private boolean resumeHandedOffGame(String roomId) {
+        GameHandoff handoff = handoffStore.take(GAME_KIND, roomId);
+        if (handoff == null) {
+            return false;
+        }
+
+        GameSession session = new GameSession(handoff.totalQuestions());
+        session.restore(handoff);
+        session.getPlayers().putAll(memberRepository.findAllByEmailIn(handoff.playerEmails()));
+        sessionMap.put(roomId, session);
+        journal.append(GAME_KIND, roomId, JournalEvent.RESUMED, handoff);
+
+        if (handoff.missingQuestions() > 0) {
+            startQuestionFeed(roomId, session, handoff.missingQuestions(), handoff.playerEmails());
+        }
+
+        log.info("📥 [ROOM_RESUMED] Room: {}, Question: {}/{}, Phase: {}",
+                roomId, handoff.currentQuestionIndex() + 1, handoff.totalQuestions(), handoff.phase());
+
+        if (handoff.phase() == GameHandoff.Phase.QUESTION && handoff.remainingMs() > 0) {
+            // 남은 시간만큼만 다시 잰다
+            session.tryStartTimer();
+            session.startDeadline(System.currentTimeMillis() + handoff.remainingMs());
+            session.markQuestionSent(System.nanoTime());
+            sendCurrentQuestion(roomId);
+            startQuestionTimer(roomId, (int) TimeUnit.MILLISECONDS.toSeconds(handoff.remainingMs() + 999));
+        } else {
+            broadcastToRoom(roomId, "LOADING", "게임을 이어서 진행합니다.");
+            scheduleNextQuestion(roomId);
+        }
+        return true;
+    }
 }
@@ -0,0 +1,11 @@
+package shop.buzzle.buzzle.websocket.config;
+
+/**
+ * STOMP 브로커 방식 (websocket.broker.mode).
+ * SIMPLE: 서버 안의 simple broker. 한 방의 구독자가 모두 같은 서버에 붙어 있어야 한다.
+ * RELAY: 외부 STOMP 브로커(ActiveMQ Artemis 등)로 구독과 발행을 중계한다. 여러 서버를 로드밸런서 뒤에 둘 때 사용한다.
+ */
+public enum BrokerMode {
+    SIMPLE,
+    RELAY
+}
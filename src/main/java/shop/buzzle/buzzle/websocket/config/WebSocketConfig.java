@@ -1,10 +1,18 @@
 package shop.buzzle.buzzle.websocket.config;
 
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.messaging.simp.stomp.StompTcpMessageCodec;
+import org.springframework.messaging.tcp.reactor.ReactorNettyTcpClient;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.config.annotation.*;
 import org.springframework.web.socket.messaging.StompSubProtocolErrorHandler;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.tcp.TcpClient;
 import shop.buzzle.buzzle.websocket.interceptor.CustomHandshakeHandler;
 import shop.buzzle.buzzle.websocket.interceptor.WebsocketHandshakeInterceptor;
 
@@ -14,6 +22,41 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final String secretKey;
 
+    @Value("${websocket.broker.mode:simple}")
+    private BrokerMode brokerMode;
+
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${websocket.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${websocket.broker.relay.client-login:guest}")
+    private String relayClientLogin;
+
+    @Value("${websocket.broker.relay.client-passcode:guest}")
+    private String relayClientPasscode;
+
+    @Value("${websocket.broker.relay.system-login:guest}")
+    private String relaySystemLogin;
+
+    @Value("${websocket.broker.relay.system-passcode:guest}")
+    private String relaySystemPasscode;
+
+    // 서버와 브로커 사이 시스템 연결의 heartbeat 주기
+    @Value("${websocket.broker.relay.heartbeat-ms:10000}")
+    private long relayHeartbeatMs;
+
+    // 클라이언트 세션마다 브로커 연결을 하나씩 쓰므로 서버 한 대가 받을 최대 동시 접속 수에 맞춘다
+    @Value("${websocket.broker.relay.max-connections:10000}")
+    private int relayMaxConnections;
+
+    @Value("${websocket.broker.relay.connect-timeout-ms:3000}")
+    private int relayConnectTimeoutMs;
+
     public WebSocketConfig(@Value("${jwt.secret}") String secretKey) {
         this.secretKey = secretKey;
     }
@@ -21,12 +64,47 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트가 구독할 경로 (브로커 메시지 전달)
-        config.enableSimpleBroker("/topic", "/queue");
+        if (brokerMode == BrokerMode.RELAY) {
+            enableBrokerRelay(config);
+        } else {
+            config.enableSimpleBroker("/topic", "/queue");
+        }
 
         // 클라이언트가 메시지를 보낼 때 붙이는 prefix (Controller 매핑 대상)
         config.setApplicationDestinationPrefixes("/app");
     }
 
+    // 외부 브로커가 /topic/game/{roomId}, /topic/room/{inviteCode} 를 모든 서버의 구독자에게 나눠 준다
+    private void enableBrokerRelay(MessageBrokerRegistry config) {
+        StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic", "/queue")
+                .setTcpClient(relayTcpClient())
+                .setClientLogin(relayClientLogin)
+                .setClientPasscode(relayClientPasscode)
+                .setSystemLogin(relaySystemLogin)
+                .setSystemPasscode(relaySystemPasscode)
+                .setSystemHeartbeatSendInterval(relayHeartbeatMs)
+                .setSystemHeartbeatReceiveInterval(relayHeartbeatMs)
+                // 다른 서버에 붙어 있는 사용자에게도 /user/queue/... 를 보낼 수 있도록 사용자 목록을 공유한다
+                .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                .setUserRegistryBroadcast("/topic/simp-user-registry");
+        if (StringUtils.hasText(relayVirtualHost)) {
+            relay.setVirtualHost(relayVirtualHost);
+        }
+    }
+
+    // 브로커 연결 풀. 시스템 연결이 끊기면 StompBrokerRelayMessageHandler 가 5초마다 다시 연결한다
+    private ReactorNettyTcpClient<byte[]> relayTcpClient() {
+        ConnectionProvider pool = ConnectionProvider.builder("stomp-relay")
+                .maxConnections(relayMaxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(relayConnectTimeoutMs))
+                .build();
+        TcpClient tcpClient = TcpClient.create(pool)
+                .host(relayHost)
+                .port(relayPort)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, relayConnectTimeoutMs);
+        return new ReactorNettyTcpClient<>(tcpClient, new StompTcpMessageCodec());
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // 클라이언트가 WebSocket 연결을 시작하는 엔드포인트
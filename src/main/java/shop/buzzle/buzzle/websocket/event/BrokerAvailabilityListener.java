@@ -0,0 +1,45 @@
+package shop.buzzle.buzzle.websocket.event;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.broker.BrokerAvailabilityEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브로커 연결 상태 (buzzle.websocket.broker.available gauge, 1 이면 사용 가능).
+ * relay 모드에서 외부 브로커 연결이 끊기면 이 서버의 클라이언트 세션도 끊기고, 다시 연결되면 클라이언트가 재접속해 RESYNC 를 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BrokerAvailabilityListener {
+
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean available;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("buzzle.websocket.broker.available", this, listener -> listener.available ? 1 : 0)
+                .description("STOMP 브로커 사용 가능 여부")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void handleBrokerAvailability(BrokerAvailabilityEvent event) {
+        available = event.isBrokerAvailable();
+        if (available) {
+            log.info("✅ [BROKER_AVAILABLE] {}", event.getSource().getClass().getSimpleName());
+        } else {
+            log.warn("⚠️ [BROKER_UNAVAILABLE] {} - 다시 연결을 시도합니다.", event.getSource().getClass().getSimpleName());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+}
@@ -74,6 +74,7 @@ public class WSEventListener {
                 .orElseThrow(MemberNotFoundException::new);
 
         log.info("🟢 {} 님이 일반방 {} 에 참가 (현재 인원: {})", member.getName(), roomId, players.size());
+        wsRoomService.registerPlayer(roomId, member);
 
         PlayerJoinedResponse playerInfo = PlayerJoinedResponse.of(
                 userEmail,
@@ -87,12 +88,12 @@ public class WSEventListener {
                 if (!startedRooms.contains(roomId)) {
                     startedRooms.add(roomId);
                     log.info("🚀 일반방 {} 게임 시작 조건 충족!", roomId);
-                    wsRoomService.startGame(roomId);
+                    wsRoomService.startGame(roomId, Set.copyOf(players));
                 }
             }
         } else if (startedRooms.contains(roomId)) {
-            log.info("🔁 {} 님이 재접속 - 방 {} 현재 문제 재전송", userEmail, roomId);
-            wsRoomService.resendCurrentQuestionToUser(roomId);
+            log.info("🔁 {} 님이 재접속 - 방 {} 현재 상태 전송", userEmail, roomId);
+            wsRoomService.resendCurrentQuestionToUser(roomId, userEmail);
         }
     }
 
@@ -0,0 +1,83 @@
+package shop.buzzle.buzzle.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ChatCircuitBreakerTest {
+
+    private final ChatCircuitBreaker breaker = new ChatCircuitBreaker();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(breaker, "windowSize", 10);
+        ReflectionTestUtils.setField(breaker, "minimumCalls", 4);
+        ReflectionTestUtils.setField(breaker, "failureRateThreshold", 0.5);
+        // 열린 뒤 바로 HALF_OPEN 으로 넘어갈 수 있게 한다
+        ReflectionTestUtils.setField(breaker, "openDurationMs", 0L);
+    }
+
+    @Test
+    void staysClosedUntilMinimumCalls() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onFailure();
+        }
+
+        assertThat(breaker.state()).isEqualTo(ChatCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(ChatCircuitBreaker.State.OPEN);
+        assertThat(breaker.transitionCount(ChatCircuitBreaker.State.OPEN)).isEqualTo(1);
+    }
+
+    @Test
+    void halfOpenPermitsSingleTrial() {
+        open();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.state()).isEqualTo(ChatCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void trialSuccessClosesAndTrialFailureReopens() {
+        open();
+        breaker.tryAcquire();
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(ChatCircuitBreaker.State.CLOSED);
+
+        open();
+        breaker.tryAcquire();
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(ChatCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void cancelReleasesTrialWithoutDecidingState() {
+        open();
+        breaker.tryAcquire();
+
+        breaker.onCancel();
+
+        assertThat(breaker.state()).isEqualTo(ChatCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+        assertThat(breaker.state()).isEqualTo(ChatCircuitBreaker.State.OPEN);
+    }
+}
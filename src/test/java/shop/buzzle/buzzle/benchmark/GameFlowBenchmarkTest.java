@@ -0,0 +1,297 @@
+package shop.buzzle.buzzle.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.test.context.ActiveProfiles;
+import shop.buzzle.buzzle.global.entity.Status;
+import shop.buzzle.buzzle.member.domain.Member;
+import shop.buzzle.buzzle.member.domain.SocialType;
+import shop.buzzle.buzzle.member.domain.repository.MemberRepository;
+import shop.buzzle.buzzle.multiroom.api.dto.request.MultiRoomCreateReqDto;
+import shop.buzzle.buzzle.multiroom.api.dto.request.MultiRoomJoinReqDto;
+import shop.buzzle.buzzle.multiroom.api.dto.response.MultiRoomInfoResDto;
+import shop.buzzle.buzzle.multiroom.application.MultiRoomService;
+import shop.buzzle.buzzle.multiroom.application.MultiRoomWebSocketService;
+import shop.buzzle.buzzle.quiz.domain.QuizCategory;
+import shop.buzzle.buzzle.websocket.api.dto.AnswerRequest;
+import shop.buzzle.buzzle.websocket.application.WSRoomService;
+
+/**
+ * 오프라인 ChatClient 로 게임 시작부터 종료까지의 흐름을 동시에 여러 판 돌리고,
+ * 시작 지연(시작 요청 → 첫 QUESTION 프레임) p50/p99 와 초당 처리 게임 수를 출력한다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ * 판 수와 동시성은 -Dbenchmark.games, -Dbenchmark.concurrency 로 조정할 수 있다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles({"offline", "benchmark"})
+class GameFlowBenchmarkTest {
+
+    private static final int GAMES = Integer.getInteger("benchmark.games", 100);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 20);
+    private static final int PLAYERS_PER_GAME = 2;
+    private static final long GAME_TIMEOUT_SECONDS = 120;
+
+    @Autowired
+    private WSRoomService wsRoomService;
+
+    @Autowired
+    private MultiRoomService multiRoomService;
+
+    @Autowired
+    private MultiRoomWebSocketService multiRoomWebSocketService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    @Qualifier("brokerChannel")
+    private AbstractSubscribableChannel brokerChannel;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, GameProbe> probes = new ConcurrentHashMap<>();
+    private final ExecutorService answerExecutor = Executors.newFixedThreadPool(8);
+    private ChannelInterceptor frameRecorder;
+
+    @BeforeEach
+    void setUp() {
+        if (memberRepository.count() == 0) {
+            List<Member> members = new ArrayList<>();
+            for (int i = 0; i < CONCURRENCY * PLAYERS_PER_GAME; i++) {
+                members.add(Member.builder()
+                        .status(Status.ACTIVE)
+                        .email(playerEmail(i))
+                        .name("player" + i)
+                        .picture("")
+                        .socialType(SocialType.KAKAO)
+                        .introduction("")
+                        .build());
+            }
+            memberRepository.saveAll(members);
+        }
+
+        frameRecorder = new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                record(message);
+                return message;
+            }
+        };
+        brokerChannel.addInterceptor(frameRecorder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        brokerChannel.removeInterceptor(frameRecorder);
+        answerExecutor.shutdownNow();
+        probes.clear();
+    }
+
+    @Test
+    void singleRoomGameFlow() throws Exception {
+        Result result = run("single-room", (slot, probe) -> {
+            String roomId = "bench-" + probe.id;
+            List<String> players = players(slot);
+            probe.players = players;
+            probe.destination = "/topic/game/" + roomId;
+            probe.answer = (email, answer) -> wsRoomService.receiveAnswer(roomId, email, answer);
+            probes.put(probe.destination, probe);
+
+            probe.startedAt = System.nanoTime();
+            wsRoomService.startGame(roomId, players);
+        });
+
+        assertThat(result.completed()).isEqualTo(GAMES);
+    }
+
+    @Test
+    void multiRoomGameFlow() throws Exception {
+        Result result = run("multi-room", (slot, probe) -> {
+            List<String> players = players(slot);
+            String host = players.get(0);
+
+            String inviteCode = multiRoomService
+                    .createRoom(host, new MultiRoomCreateReqDto(PLAYERS_PER_GAME, QuizCategory.ALL, 3))
+                    .inviteCode();
+            MultiRoomInfoResDto room = null;
+            for (String player : players) {
+                room = multiRoomService.joinRoom(player, new MultiRoomJoinReqDto(inviteCode));
+            }
+            String roomId = room.roomId();
+
+            probe.players = players;
+            probe.destination = "/topic/room/" + inviteCode;
+            probe.answer = (email, answer) -> multiRoomWebSocketService.receiveMultiRoomAnswer(roomId, email, answer);
+            probes.put(probe.destination, probe);
+
+            probe.startedAt = System.nanoTime();
+            multiRoomService.startGame(roomId, host);
+        });
+
+        assertThat(result.completed()).isEqualTo(GAMES);
+    }
+
+    private Result run(String name, BiConsumer<Integer, GameProbe> start) throws Exception {
+        Semaphore slots = new Semaphore(CONCURRENCY);
+        ExecutorService starter = Executors.newFixedThreadPool(CONCURRENCY);
+        List<GameProbe> games = new ArrayList<>(GAMES);
+        Map<Integer, Boolean> busy = new ConcurrentHashMap<>();
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < GAMES; i++) {
+            slots.acquire();
+            int slot = freeSlot(busy);
+            GameProbe probe = new GameProbe(name + "-" + i);
+            games.add(probe);
+            probe.ended.whenComplete((ended, error) -> {
+                busy.remove(slot);
+                slots.release();
+            });
+            starter.execute(() -> {
+                try {
+                    start.accept(slot, probe);
+                } catch (Exception e) {
+                    probe.ended.completeExceptionally(e);
+                }
+            });
+        }
+
+        CompletableFuture.allOf(games.stream().map(g -> g.ended).toArray(CompletableFuture[]::new))
+                .get(GAME_TIMEOUT_SECONDS * GAMES / CONCURRENCY + GAME_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1e9;
+        starter.shutdownNow();
+
+        long[] startLatencies = games.stream()
+                .filter(g -> g.firstQuestionAt.isDone())
+                .mapToLong(g -> TimeUnit.NANOSECONDS.toMillis(g.firstQuestionAt.join() - g.startedAt))
+                .sorted()
+                .toArray();
+        long[] durations = games.stream()
+                .filter(g -> g.ended.isDone() && !g.ended.isCompletedExceptionally())
+                .mapToLong(g -> TimeUnit.NANOSECONDS.toMillis(g.ended.join() - g.startedAt))
+                .sorted()
+                .toArray();
+
+        Result result = new Result(durations.length, elapsedSeconds);
+        System.out.printf("[benchmark] %s games=%d concurrency=%d completed=%d%n",
+                name, GAMES, CONCURRENCY, result.completed());
+        System.out.printf("[benchmark] %s start latency p50=%dms p99=%dms max=%dms%n",
+                name, percentile(startLatencies, 0.50), percentile(startLatencies, 0.99),
+                startLatencies.length == 0 ? 0 : startLatencies[startLatencies.length - 1]);
+        System.out.printf("[benchmark] %s game duration p50=%dms p99=%dms%n",
+                name, percentile(durations, 0.50), percentile(durations, 0.99));
+        System.out.printf("[benchmark] %s throughput=%.2f games/s (%.1fs)%n",
+                name, result.completed() / elapsedSeconds, elapsedSeconds);
+        return result;
+    }
+
+    // 프레임을 보고 첫 문제 시각과 종료 시각을 기록하고, 문제마다 모든 플레이어가 모든 보기를 제출한다
+    private void record(Message<?> message) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        GameProbe probe = destination != null ? probes.get(destination) : null;
+        if (probe == null || !(message.getPayload() instanceof byte[] payload)) {
+            return;
+        }
+
+        try {
+            JsonNode frame = objectMapper.readTree(payload);
+            // game.frames.coalesce=true 이면 여러 이벤트가 BATCH 프레임 하나로 온다
+            if ("BATCH".equals(frame.path("type").asText())) {
+                frame.path("events").forEach(event -> onEvent(destination, probe, event));
+            } else {
+                onEvent(destination, probe, frame);
+            }
+        } catch (Exception e) {
+            probe.ended.completeExceptionally(e);
+        }
+    }
+
+    private void onEvent(String destination, GameProbe probe, JsonNode event) {
+        String type = event.path("type").asText();
+        if ("QUESTION".equals(type)) {
+            probe.firstQuestionAt.complete(System.nanoTime());
+            int questionIndex = event.path("questionIndex").asInt();
+            answerExecutor.execute(() -> answerAll(probe, questionIndex));
+        } else if ("GAME_END".equals(type) || "GAME_END_RANKING".equals(type)) {
+            probes.remove(destination);
+            probe.ended.complete(System.nanoTime());
+        }
+    }
+
+    private void answerAll(GameProbe probe, int questionIndex) {
+        for (String player : probe.players) {
+            for (int option = 0; option < 4; option++) {
+                probe.answer.accept(player, new AnswerRequest(option, questionIndex));
+            }
+        }
+    }
+
+    private List<String> players(int slot) {
+        List<String> players = new ArrayList<>(PLAYERS_PER_GAME);
+        for (int i = 0; i < PLAYERS_PER_GAME; i++) {
+            players.add(playerEmail(slot * PLAYERS_PER_GAME + i));
+        }
+        return players;
+    }
+
+    private static int freeSlot(Map<Integer, Boolean> busy) {
+        for (int slot = 0; ; slot++) {
+            if (busy.putIfAbsent(slot, Boolean.TRUE) == null) {
+                return slot;
+            }
+        }
+    }
+
+    private static String playerEmail(int i) {
+        return "bench" + i + "@buzzle.shop";
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private record Result(int completed, double elapsedSeconds) {
+    }
+
+    private static class GameProbe {
+        private final String id;
+        private final CompletableFuture<Long> firstQuestionAt = new CompletableFuture<>();
+        private final CompletableFuture<Long> ended = new CompletableFuture<>();
+        private volatile long startedAt;
+        private volatile String destination;
+        private volatile List<String> players = List.of();
+        private volatile BiConsumer<String, AnswerRequest> answer;
+
+        private GameProbe(String id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package shop.buzzle.buzzle.game.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class GameClockTest {
+
+    private static final long TICK_MS = 10;
+
+    private final GameClock clock = new GameClock();
+
+    @BeforeEach
+    void setUp() {
+        // 바퀴 한 바퀴가 40ms 라 그보다 긴 예약은 여러 바퀴를 돈다
+        ReflectionTestUtils.setField(clock, "tickMs", TICK_MS);
+        ReflectionTestUtils.setField(clock, "wheelSize", 4);
+        ReflectionTestUtils.setField(clock, "workers", 2);
+        clock.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clock.shutdown();
+    }
+
+    @Test
+    void firesAfterDelayLongerThanOneWheelRound() throws Exception {
+        long start = System.nanoTime();
+        AtomicLong firedAt = new AtomicLong();
+        CountDownLatch fired = new CountDownLatch(1);
+
+        clock.schedule("room-1", 200, () -> {
+            firedAt.set(System.nanoTime());
+            fired.countDown();
+        });
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(firedAt.get() - start)).isGreaterThanOrEqualTo(200L);
+        assertThat(clock.pendingCount()).isEqualTo(0);
+    }
+
+    @Test
+    void sameSlotInLaterRoundWaitsForItsRound() throws Exception {
+        long start = System.nanoTime();
+        List<Long> firedAtMs = new CopyOnWriteArrayList<>();
+        CountDownLatch fired = new CountDownLatch(2);
+
+        // 40ms 차이라 바퀴의 같은 칸에 들어간다
+        clock.schedule("room-1", 30, () -> {
+            firedAtMs.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            fired.countDown();
+        });
+        clock.schedule("room-1", 70, () -> {
+            firedAtMs.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            fired.countDown();
+        });
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedAtMs.get(0)).isGreaterThanOrEqualTo(30L);
+        assertThat(firedAtMs.get(1)).isGreaterThanOrEqualTo(70L);
+    }
+
+    @Test
+    void cancelledTaskNeverRuns() throws Exception {
+        AtomicBoolean ran = new AtomicBoolean();
+        GameClock.Handle handle = clock.schedule("room-1", 50, () -> ran.set(true));
+
+        handle.cancel();
+        Thread.sleep(200);
+
+        assertThat(handle.isCancelled()).isTrue();
+        assertThat(ran.get()).isFalse();
+        assertThat(clock.pendingCount()).isEqualTo(0);
+    }
+
+    @Test
+    void cancelRoomCancelsOnlyThatRoom() throws Exception {
+        AtomicBoolean cancelledRoomRan = new AtomicBoolean();
+        CountDownLatch otherRoomRan = new CountDownLatch(1);
+        clock.schedule("room-1", 50, () -> cancelledRoomRan.set(true));
+        clock.schedule("room-1", 100, () -> cancelledRoomRan.set(true));
+        clock.schedule("room-2", 50, otherRoomRan::countDown);
+
+        assertThat(clock.cancelRoom("room-1")).isEqualTo(2);
+
+        assertThat(otherRoomRan.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(150);
+        assertThat(cancelledRoomRan.get()).isFalse();
+    }
+
+    @Test
+    void countdownTicksEachSecondThenExpires() throws Exception {
+        List<Integer> ticks = new CopyOnWriteArrayList<>();
+        CountDownLatch expired = new CountDownLatch(1);
+
+        clock.countdown("room-1", 2, ticks::add, expired::countDown);
+
+        assertThat(expired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ticks).containsExactly(2, 1);
+    }
+
+    @Test
+    void cancelledCountdownStopsTickingAndNeverExpires() throws Exception {
+        List<Integer> ticks = new CopyOnWriteArrayList<>();
+        CountDownLatch firstTick = new CountDownLatch(1);
+        AtomicBoolean expired = new AtomicBoolean();
+
+        GameClock.Handle countdown = clock.countdown("room-1", 2, remaining -> {
+            ticks.add(remaining);
+            firstTick.countDown();
+        }, () -> expired.set(true));
+
+        assertThat(firstTick.await(2, TimeUnit.SECONDS)).isTrue();
+        countdown.cancel();
+        Thread.sleep(2_500);
+
+        assertThat(countdown.isCancelled()).isTrue();
+        assertThat(ticks).containsExactly(2);
+        assertThat(expired.get()).isFalse();
+    }
+}
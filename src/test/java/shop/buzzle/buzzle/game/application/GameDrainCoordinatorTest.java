@@ -0,0 +1,149 @@
+package shop.buzzle.buzzle.game.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import shop.buzzle.buzzle.BuzzleApplication;
+import shop.buzzle.buzzle.global.jwt.TokenProvider;
+
+/**
+ * 서버를 내리는 동안 게임이 끝나기를 기다리는 사이에도 WebSocket 세션이 열려 있어 방 이벤트가 클라이언트에 도착하는지 확인한다.
+ * 끝나지 않는 게임 하나를 DrainableGames 로 등록해 정리를 붙잡아 둔다.
+ */
+class GameDrainCoordinatorTest {
+
+    private static final long TIMEOUT_SECONDS = 15;
+    private static final String DESTINATION = "/topic/room/DRAIN1";
+
+    private final HeldGames heldGames = new HeldGames();
+    private ConfigurableApplicationContext node;
+    private WebSocketStompClient stompClient;
+
+    @BeforeEach
+    void setUp() {
+        node = new SpringApplicationBuilder(BuzzleApplication.class)
+                .profiles("offline", "benchmark")
+                .initializers(context -> context.getBeanFactory().registerSingleton("heldGames", heldGames))
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:drain;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--game.journal.dir=build/journal/drain",
+                        "--game.drain.timeout-ms=60000",
+                        // HS512 서명에 64바이트 키가 필요하다
+                        "--jwt.secret=" + "0123456789abcdef".repeat(8)
+                );
+
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        stompClient.setDefaultHeartbeat(new long[]{0, 0});
+    }
+
+    @AfterEach
+    void tearDown() {
+        heldGames.active.set(0);
+        stompClient.stop();
+        node.close();
+    }
+
+    @Test
+    void frameSentWhileDrainingReachesConnectedClient() throws Exception {
+        DrainState drainState = node.getBean(DrainState.class);
+        SimpMessageSendingOperations messaging = node.getBean(SimpMessageSendingOperations.class);
+        BlockingQueue<Map<String, Object>> received = subscribe(connect("drain@buzzle.shop"));
+
+        heldGames.active.set(1);
+        CompletableFuture<Void> closed = CompletableFuture.runAsync(node::close);
+        await(drainState::isDraining);
+
+        messaging.convertAndSend(DESTINATION, Map.of("type", "LEADERBOARD", "sentDuring", "drain"));
+
+        assertThat(received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)).containsEntry("sentDuring", "drain");
+        assertThat(closed.isDone()).isFalse();
+
+        // 게임이 끝나면 정리가 끝나고 서버가 내려간다
+        heldGames.active.set(0);
+        closed.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(heldGames.handedOff.get()).isZero();
+    }
+
+    private StompSession connect(String email) throws Exception {
+        String token = node.getBean(TokenProvider.class).generateAccessToken(email);
+        int port = node.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        return stompClient.connectAsync("ws://localhost:{port}/chat/websocket?authorization={token}",
+                        new StompSessionHandlerAdapter() {
+                        }, port, token)
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private BlockingQueue<Map<String, Object>> subscribe(StompSession session) throws InterruptedException {
+        BlockingQueue<Map<String, Object>> received = new LinkedBlockingQueue<>();
+        session.subscribe(DESTINATION, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((Map<String, Object>) payload);
+            }
+        });
+
+        // simple 브로커는 RECEIPT 를 보내지 않으므로 서버에 구독이 등록될 때까지 기다린다
+        SimpUserRegistry userRegistry = node.getBean(SimpUserRegistry.class);
+        await(() -> !userRegistry.findSubscriptions(subscription ->
+                DESTINATION.equals(subscription.getDestination())).isEmpty());
+        return received;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static final class HeldGames implements DrainableGames {
+
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger handedOff = new AtomicInteger();
+
+        @Override
+        public String kind() {
+            return "held";
+        }
+
+        @Override
+        public int activeGames() {
+            return active.get();
+        }
+
+        @Override
+        public int handOff() {
+            return handedOff.addAndGet(active.get());
+        }
+    }
+}
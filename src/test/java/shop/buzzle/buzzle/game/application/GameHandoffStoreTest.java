@@ -0,0 +1,111 @@
+package shop.buzzle.buzzle.game.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import shop.buzzle.buzzle.multiroom.domain.registry.LocalRoomStore;
+import shop.buzzle.buzzle.multiroom.domain.registry.RoomStore;
+import shop.buzzle.buzzle.websocket.api.dto.Question;
+
+// 같은 RoomStore 를 보는 GameHandoffStore 두 개를 서버 두 대로 본다
+class GameHandoffStoreTest {
+
+    private static final String KIND = "game";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final RoomStore store = new LocalRoomStore();
+    private final GameHandoffStore nodeA = new GameHandoffStore(store, objectMapper);
+    private final GameHandoffStore nodeB = new GameHandoffStore(store, objectMapper);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(nodeA, "handoffTtlMs", 60_000L);
+        ReflectionTestUtils.setField(nodeB, "handoffTtlMs", 60_000L);
+    }
+
+    @Test
+    void takeReturnsSavedHandoffOnce() {
+        nodeA.save(KIND, handoff("room-1", 2, System.currentTimeMillis()));
+
+        GameHandoff taken = nodeB.take(KIND, "room-1");
+
+        assertThat(taken.currentQuestionIndex()).isEqualTo(2);
+        assertThat(taken.scores()).containsEntry("a@buzzle.shop", 2);
+        assertThat(nodeA.take(KIND, "room-1")).isNull();
+    }
+
+    @Test
+    void saveReplacesEarlierHandoffOfSameRoom() {
+        nodeA.save(KIND, handoff("room-1", 1, System.currentTimeMillis()));
+        nodeA.save(KIND, handoff("room-1", 3, System.currentTimeMillis()));
+
+        assertThat(nodeB.take(KIND, "room-1").currentQuestionIndex()).isEqualTo(3);
+    }
+
+    @Test
+    void expiredHandoffIsDropped() {
+        nodeA.save(KIND, handoff("room-1", 1, System.currentTimeMillis() - 120_000));
+
+        assertThat(nodeB.take(KIND, "room-1")).isNull();
+        assertThat(store.get("handoff:game:room-1")).isNull();
+    }
+
+    @Test
+    void unclaimedHandoffExpiresFromStore() throws InterruptedException {
+        ReflectionTestUtils.setField(nodeA, "handoffTtlMs", 100L);
+        nodeA.save(KIND, handoff("room-1", 1, System.currentTimeMillis()));
+
+        Thread.sleep(200);
+
+        assertThat(store.get("handoff:game:room-1")).isNull();
+    }
+
+    @Test
+    void concurrentTakersClaimHandoffOnlyOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 200; round++) {
+                String roomId = "room-" + round;
+                nodeA.save(KIND, handoff(roomId, 1, System.currentTimeMillis()));
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<GameHandoff>> takers = new ArrayList<>();
+                for (GameHandoffStore node : List.of(nodeA, nodeB)) {
+                    takers.add(executor.submit(() -> {
+                        start.await();
+                        return node.take(KIND, roomId);
+                    }));
+                }
+                start.countDown();
+
+                int claimed = 0;
+                for (Future<GameHandoff> taker : takers) {
+                    if (taker.get(5, TimeUnit.SECONDS) != null) {
+                        claimed++;
+                    }
+                }
+                assertThat(claimed).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static GameHandoff handoff(String roomId, int currentQuestionIndex, long savedAt) {
+        Question question = new Question("대한민국의 수도는?", List.of("부산", "서울", "대구", "인천"), "2");
+        return new GameHandoff(roomId, List.of(question), 5, false, currentQuestionIndex,
+                Map.of("a@buzzle.shop", 2, "b@buzzle.shop", 1), List.of("a@buzzle.shop", "b@buzzle.shop"),
+                GameHandoff.Phase.QUESTION, 3_000, savedAt, null, null);
+    }
+}
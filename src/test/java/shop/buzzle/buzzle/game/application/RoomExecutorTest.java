@@ -0,0 +1,130 @@
+package shop.buzzle.buzzle.game.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RoomExecutorTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int TASKS_PER_PRODUCER = 500;
+
+    private final GameTelemetry telemetry = new GameTelemetry(new SimpleMeterRegistry());
+    private final RoomExecutor roomExecutor = new RoomExecutor(telemetry);
+
+    @BeforeEach
+    void setUp() {
+        telemetry.init();
+        ReflectionTestUtils.setField(roomExecutor, "workers", 4);
+        // 한 번에 조금씩만 처리하게 해서 메일박스가 자주 다시 줄을 서게 한다
+        ReflectionTestUtils.setField(roomExecutor, "throughput", 2);
+        roomExecutor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        roomExecutor.shutdown();
+    }
+
+    @Test
+    void tasksOfOneRoomRunInSubmissionOrderOneAtATime() throws Exception {
+        List<List<Integer>> executed = new ArrayList<>();
+        for (int producer = 0; producer < PRODUCERS; producer++) {
+            executed.add(new CopyOnWriteArrayList<>());
+        }
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(PRODUCERS * TASKS_PER_PRODUCER);
+
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int producer = 0; producer < PRODUCERS; producer++) {
+                List<Integer> sequence = executed.get(producer);
+                producers.execute(() -> {
+                    awaitQuietly(start);
+                    for (int i = 0; i < TASKS_PER_PRODUCER; i++) {
+                        int order = i;
+                        roomExecutor.execute("room-1", () -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            sequence.add(order);
+                            running.decrementAndGet();
+                            done.countDown();
+                        });
+                    }
+                });
+            }
+            start.countDown();
+
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            producers.shutdownNow();
+        }
+
+        // 보낸 쪽마다 넣은 순서대로 실행되고, 같은 방의 작업이 겹쳐 실행된 적이 없다
+        for (List<Integer> sequence : executed) {
+            assertThat(sequence).hasSize(TASKS_PER_PRODUCER);
+            assertThat(sequence).isSorted();
+        }
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void slowRoomDoesNotBlockOtherRooms() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherRoomRan = new CountDownLatch(1);
+
+        roomExecutor.execute("room-1", () -> awaitQuietly(release));
+        roomExecutor.execute("room-2", otherRoomRan::countDown);
+
+        assertThat(otherRoomRan.await(2, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    void failingTaskDoesNotStopLaterTasksOfRoom() throws Exception {
+        CountDownLatch laterRan = new CountDownLatch(1);
+
+        roomExecutor.execute("room-1", () -> {
+            throw new IllegalStateException("실패");
+        });
+        roomExecutor.execute("room-1", laterRan::countDown);
+
+        assertThat(laterRan.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void emptyMailboxIsRemoved() throws Exception {
+        CountDownLatch ran = new CountDownLatch(3);
+        roomExecutor.execute("room-1", ran::countDown);
+        roomExecutor.execute("room-2", ran::countDown);
+        roomExecutor.execute("room-1", ran::countDown);
+
+        assertThat(ran.await(2, TimeUnit.SECONDS)).isTrue();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (roomExecutor.activeRooms() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(roomExecutor.activeRooms()).isEqualTo(0);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
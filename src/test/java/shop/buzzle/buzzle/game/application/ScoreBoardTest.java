@@ -0,0 +1,88 @@
+package shop.buzzle.buzzle.game.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ScoreBoardTest {
+
+    @Test
+    void playerWhoReachedScoreFirstStaysAheadOnTie() {
+        ScoreBoard scoreBoard = new ScoreBoard();
+        scoreBoard.add("a@buzzle.shop", 1);
+        scoreBoard.add("b@buzzle.shop", 1);
+        scoreBoard.add("b@buzzle.shop", 1);
+        scoreBoard.add("a@buzzle.shop", 1);
+
+        ScoreBoard.Standings standings = scoreBoard.standings();
+        // 둘 다 2점이지만 b 가 먼저 2점이 되었다
+        assertThat(List.copyOf(standings.scores().keySet())).containsExactly("b@buzzle.shop", "a@buzzle.shop");
+        assertThat(standings.leader()).isEqualTo("b@buzzle.shop");
+        assertThat(standings.isTied()).isTrue();
+        assertThat(standings.leaders()).containsExactly("b@buzzle.shop", "a@buzzle.shop");
+    }
+
+    @Test
+    void playersStartingAtZeroKeepJoinOrderUntilTheyScore() {
+        ScoreBoard scoreBoard = new ScoreBoard(List.of("a@buzzle.shop", "b@buzzle.shop", "c@buzzle.shop"));
+
+        assertThat(scoreBoard.standings().leader()).isNull();
+        assertThat(scoreBoard.standings().isTied()).isFalse();
+
+        scoreBoard.add("c@buzzle.shop", 1);
+
+        assertThat(List.copyOf(scoreBoard.standings().scores().keySet()))
+                .containsExactly("c@buzzle.shop", "a@buzzle.shop", "b@buzzle.shop");
+    }
+
+    @Test
+    void publishedStandingsDoNotChangeAfterLaterScores() {
+        ScoreBoard scoreBoard = new ScoreBoard();
+        scoreBoard.add("a@buzzle.shop", 1);
+        ScoreBoard.Standings before = scoreBoard.standings();
+
+        scoreBoard.add("b@buzzle.shop", 2);
+
+        assertThat(before.leader()).isEqualTo("a@buzzle.shop");
+        assertThat(before.scores()).doesNotContainKey("b@buzzle.shop");
+        assertThat(scoreBoard.standings().leader()).isEqualTo("b@buzzle.shop");
+    }
+
+    @Test
+    void matchesSortingByScoreThenTimeReached() {
+        Random random = new Random(7);
+        ScoreBoard scoreBoard = new ScoreBoard();
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        Map<String, Integer> reachedAt = new LinkedHashMap<>();
+
+        for (int step = 0; step < 2_000; step++) {
+            String email = "p" + random.nextInt(12) + "@buzzle.shop";
+            int points = 1 + random.nextInt(3);
+            scoreBoard.add(email, points);
+            scores.merge(email, points, Integer::sum);
+            reachedAt.put(email, step);
+        }
+
+        // 점수 내림차순, 같으면 그 점수에 먼저 도달한 순서
+        List<String> expected = new ArrayList<>(scores.keySet());
+        expected.sort((x, y) -> scores.get(x).equals(scores.get(y))
+                ? Integer.compare(reachedAt.get(x), reachedAt.get(y))
+                : Integer.compare(scores.get(y), scores.get(x)));
+        assertThat(List.copyOf(scoreBoard.standings().scores().keySet())).isEqualTo(expected);
+        assertThat(scoreBoard.standings().top(3)).extracting(ScoreBoard.Entry::email)
+                .containsExactly(expected.get(0), expected.get(1), expected.get(2));
+    }
+
+    @Test
+    void rejectsNonPositivePoints() {
+        ScoreBoard scoreBoard = new ScoreBoard();
+
+        assertThatThrownBy(() -> scoreBoard.add("a@buzzle.shop", 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
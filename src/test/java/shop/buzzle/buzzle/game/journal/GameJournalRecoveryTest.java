@@ -0,0 +1,291 @@
+package shop.buzzle.buzzle.game.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import shop.buzzle.buzzle.game.application.GameHandoff;
+import shop.buzzle.buzzle.game.application.GameHandoffStore;
+import shop.buzzle.buzzle.game.application.GameResultWriter;
+import shop.buzzle.buzzle.multiroom.domain.MultiRoom;
+import shop.buzzle.buzzle.multiroom.domain.registry.InMemoryRoomRegistry;
+import shop.buzzle.buzzle.multiroom.domain.registry.LocalRoomStore;
+import shop.buzzle.buzzle.multiroom.domain.registry.RoomRegistry;
+import shop.buzzle.buzzle.multiroom.domain.registry.RoomRegistryMode;
+import shop.buzzle.buzzle.websocket.api.dto.Question;
+
+// 이전 실행의 저널을 쓰고 닫은 뒤, 같은 디렉터리로 새 저널을 열어 복구한다
+class GameJournalRecoveryTest {
+
+    private static final String GAME = "game";
+    private static final String MULTI_ROOM = "multi-room";
+    private static final String HOST = "host@buzzle.shop";
+    private static final String GUEST = "guest@buzzle.shop";
+
+    @TempDir
+    Path dir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final GameHandoffStore handoffStore = new GameHandoffStore(new LocalRoomStore(), objectMapper);
+    private final RoomRegistry roomRegistry = new InMemoryRoomRegistry();
+    // 큐에 다시 넣는 것까지만 보므로 DB 와 반영 스레드 없이 쓴다
+    private final GameResultWriter gameResultWriter = new GameResultWriter(null, null, null, new SimpleMeterRegistry());
+    private final List<GameJournal> journals = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(handoffStore, "handoffTtlMs", 60_000L);
+        ReflectionTestUtils.setField(gameResultWriter, "recovered", new SimpleMeterRegistry().counter("recovered"));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (GameJournal journal : journals) {
+            journal.shutdown();
+        }
+    }
+
+    @Test
+    void answersAndTimeUpMoveGameToNextQuestion() throws IOException {
+        long now = System.currentTimeMillis();
+        GameJournal previous = open();
+        previous.append(GAME, "room-1", JournalEvent.GAME_STARTED,
+                Map.of("players", List.of(HOST, GUEST), "totalQuestions", 5));
+        previous.append(GAME, "room-1", JournalEvent.QUESTION_SENT, question(0, now - 10_000));
+        previous.append(GAME, "room-1", JournalEvent.ANSWER, answer(HOST, 0, false));
+        previous.append(GAME, "room-1", JournalEvent.ANSWER, answer(GUEST, 0, true));
+        previous.append(GAME, "room-1", JournalEvent.QUESTION_SENT, question(1, now - 5_000));
+        previous.append(GAME, "room-1", JournalEvent.TIME_UP, Map.of("questionIndex", 1));
+        previous.append(GAME, "room-1", JournalEvent.QUESTION_SENT, question(2, now + 60_000));
+        previous.shutdown();
+
+        recover();
+
+        GameHandoff handoff = handoffStore.take(GAME, "room-1");
+        assertThat(handoff.currentQuestionIndex()).isEqualTo(2);
+        assertThat(handoff.phase()).isEqualTo(GameHandoff.Phase.QUESTION);
+        assertThat(handoff.remainingMs()).isGreaterThan(0L);
+        assertThat(handoff.questions()).hasSize(3);
+        assertThat(handoff.scores()).containsEntry(GUEST, 1);
+        assertThat(handoff.scores()).doesNotContainKey(HOST);
+        assertThat(handoff.playerEmails()).containsExactly(HOST, GUEST);
+        assertThat(handoff.room()).isNull();
+    }
+
+    @Test
+    void tiedPlayersKeepOrderOfReachingScore() throws IOException {
+        long now = System.currentTimeMillis();
+        GameJournal previous = open();
+        previous.append(GAME, "room-1", JournalEvent.GAME_STARTED,
+                Map.of("players", List.of(HOST, GUEST), "totalQuestions", 5));
+        previous.append(GAME, "room-1", JournalEvent.QUESTION_SENT, question(0, now + 60_000));
+        previous.append(GAME, "room-1", JournalEvent.ANSWER, answer(GUEST, 0, true));
+        previous.append(GAME, "room-1", JournalEvent.QUESTION_SENT, question(1, now + 60_000));
+        previous.append(GAME, "room-1", JournalEvent.ANSWER, answer(HOST, 1, true));
+        previous.shutdown();
+
+        recover();
+
+        GameHandoff handoff = handoffStore.take(GAME, "room-1");
+        // 먼저 1점이 된 GUEST 가 앞선다. 다음 문제는 아직 보내지 않았다
+        assertThat(List.copyOf(handoff.scores().keySet())).containsExactly(GUEST, HOST);
+        assertThat(handoff.currentQuestionIndex()).isEqualTo(2);
+        assertThat(handoff.phase()).isEqualTo(GameHandoff.Phase.LOADING);
+    }
+
+    @Test
+    void recoveredGameIsNotRecoveredAgain() throws IOException {
+        GameJournal previous = open();
+        previous.append(GAME, "room-1", JournalEvent.GAME_STARTED,
+                Map.of("players", List.of(HOST, GUEST), "totalQuestions", 5));
+        previous.append(GAME, "room-1", JournalEvent.QUESTION_SENT, question(0, System.currentTimeMillis()));
+        previous.shutdown();
+
+        recover().shutdown();
+        assertThat(handoffStore.take(GAME, "room-1")).isNotNull();
+
+        // 되살린 게임에는 RECOVERED 가 남아 있으므로 다음 시작 때는 건너뛴다
+        recover();
+        assertThat(handoffStore.take(GAME, "room-1")).isNull();
+    }
+
+    @Test
+    void resumedGameReopensAfterRecovered() throws IOException {
+        long now = System.currentTimeMillis();
+        GameHandoff resumed = new GameHandoff("room-1", List.of(questionOf(0)), 5, false, 1,
+                Map.of(HOST, 1, GUEST, 0), List.of(HOST, GUEST), GameHandoff.Phase.LOADING, 0, now, null, null);
+
+        GameJournal previous = open();
+        previous.append(GAME, "room-1", JournalEvent.GAME_STARTED,
+                Map.of("players", List.of(HOST, GUEST), "totalQuestions", 5));
+        previous.append(GAME, "room-1", JournalEvent.QUESTION_SENT, question(0, now - 10_000));
+        previous.append(GAME, "room-1", JournalEvent.RECOVERED, Map.of());
+        previous.append(GAME, "room-1", JournalEvent.RESUMED, resumed);
+        previous.append(GAME, "room-1", JournalEvent.QUESTION_SENT, question(1, now + 60_000));
+        previous.shutdown();
+
+        recover();
+
+        GameHandoff handoff = handoffStore.take(GAME, "room-1");
+        assertThat(handoff.currentQuestionIndex()).isEqualTo(1);
+        assertThat(handoff.phase()).isEqualTo(GameHandoff.Phase.QUESTION);
+        assertThat(handoff.questions()).hasSize(2);
+        assertThat(handoff.scores()).containsEntry(HOST, 1);
+        assertThat(handoff.scores()).containsEntry(GUEST, 0);
+    }
+
+    @Test
+    void gamePastLastQuestionIsNotRecovered() throws IOException {
+        GameJournal previous = open();
+        previous.append(GAME, "room-1", JournalEvent.GAME_STARTED,
+                Map.of("players", List.of(HOST, GUEST), "totalQuestions", 1));
+        previous.append(GAME, "room-1", JournalEvent.QUESTION_SENT, question(0, System.currentTimeMillis()));
+        previous.append(GAME, "room-1", JournalEvent.ANSWER, answer(HOST, 0, true));
+        previous.shutdown();
+
+        recover();
+
+        assertThat(handoffStore.take(GAME, "room-1")).isNull();
+    }
+
+    @Test
+    void lobbyIsRegisteredAgainWithRemainingPlayers() throws IOException {
+        GameJournal previous = open();
+        previous.append(MULTI_ROOM, "A-room", JournalEvent.ROOM_CREATED,
+                Map.of("inviteCode", "ABC123", "maxPlayers", 4, "category", "HISTORY", "quizCount", 5));
+        previous.append(MULTI_ROOM, "A-room", JournalEvent.PLAYER_JOINED, Map.of("email", HOST));
+        previous.append(MULTI_ROOM, "A-room", JournalEvent.PLAYER_JOINED, Map.of("email", GUEST));
+        previous.append(MULTI_ROOM, "A-room", JournalEvent.PLAYER_LEFT, Map.of("email", GUEST));
+        previous.shutdown();
+
+        recover();
+
+        MultiRoom room = roomRegistry.findById(roomRegistry.findRoomId("ABC123"));
+        assertThat(room.getRoomId()).isEqualTo("A-room");
+        assertThat(room.getHostEmail()).isEqualTo(HOST);
+        assertThat(room.getPlayerEmails()).containsExactly(HOST);
+        assertThat(room.isGameStarted()).isFalse();
+    }
+
+    @Test
+    void friendRoomGameKeepsRoomAndEveryPlayerInScores() throws IOException {
+        long now = System.currentTimeMillis();
+        GameJournal previous = open();
+        previous.append(MULTI_ROOM, "A-room", JournalEvent.ROOM_CREATED,
+                Map.of("inviteCode", "ABC123", "maxPlayers", 4, "category", "HISTORY", "quizCount", 5));
+        previous.append(MULTI_ROOM, "A-room", JournalEvent.PLAYER_JOINED, Map.of("email", HOST));
+        previous.append(MULTI_ROOM, "A-room", JournalEvent.PLAYER_JOINED, Map.of("email", GUEST));
+        previous.append(MULTI_ROOM, "A-room", JournalEvent.GAME_STARTED,
+                Map.of("players", List.of(HOST, GUEST), "totalQuestions", 5, "category", "HISTORY"));
+        previous.append(MULTI_ROOM, "A-room", JournalEvent.QUESTION_SENT, question(0, now + 60_000));
+        previous.shutdown();
+
+        recover();
+
+        GameHandoff handoff = handoffStore.take(MULTI_ROOM, "A-room");
+        assertThat(handoff.room().inviteCode()).isEqualTo("ABC123");
+        assertThat(handoff.room().hostEmail()).isEqualTo(HOST);
+        assertThat(handoff.scores()).containsEntry(HOST, 0);
+        assertThat(handoff.scores()).containsEntry(GUEST, 0);
+        // 진행 중인 게임은 인계로 되살리므로 대기 방 목록에는 다시 올리지 않는다
+        assertThat(roomRegistry.findRoomId("ABC123")).isNull();
+    }
+
+    @Test
+    void handedOffGameIsRecoveredWhenHandoffsStayInProcess() throws IOException {
+        GameJournal previous = open();
+        previous.append(GAME, "room-1", JournalEvent.GAME_STARTED,
+                Map.of("players", List.of(HOST, GUEST), "totalQuestions", 5));
+        previous.append(GAME, "room-1", JournalEvent.QUESTION_SENT, question(0, System.currentTimeMillis()));
+        previous.append(GAME, "room-1", JournalEvent.HANDED_OFF, Map.of());
+        previous.shutdown();
+
+        recover(RoomRegistryMode.LOCAL);
+
+        assertThat(handoffStore.take(GAME, "room-1")).isNotNull();
+    }
+
+    @Test
+    void handedOffGameIsLeftToSharedStore() throws IOException {
+        GameJournal previous = open();
+        previous.append(GAME, "room-1", JournalEvent.GAME_STARTED,
+                Map.of("players", List.of(HOST, GUEST), "totalQuestions", 5));
+        previous.append(GAME, "room-1", JournalEvent.QUESTION_SENT, question(0, System.currentTimeMillis()));
+        previous.append(GAME, "room-1", JournalEvent.HANDED_OFF, Map.of());
+        previous.shutdown();
+
+        recover(RoomRegistryMode.SHARED);
+
+        // 인계는 공유 저장소에 이미 있으므로 저널에서 다시 만들지 않는다
+        assertThat(handoffStore.take(GAME, "room-1")).isNull();
+    }
+
+    @Test
+    void unappliedResultsAreQueuedAgain() throws IOException {
+        GameJournal previous = open();
+        previous.append(GAME, "room-1", JournalEvent.RESULT_RECORDED,
+                Map.of("resultId", "result-1", "email", HOST, "score", 1));
+        previous.append(GAME, "room-1", JournalEvent.GAME_ENDED, Map.of("winner", HOST));
+        previous.append(GAME, "room-1", JournalEvent.RESULT_APPLIED, Map.of("resultId", "result-1"));
+        previous.append(MULTI_ROOM, "A-room", JournalEvent.RESULT_RECORDED,
+                Map.of("resultId", "result-2", "email", GUEST, "score", 1));
+        previous.append(MULTI_ROOM, "A-room", JournalEvent.GAME_ENDED, Map.of("winner", GUEST));
+        previous.shutdown();
+
+        recover();
+
+        // 반영하지 못한 result-2 만 다시 큐에 들어가고, 끝난 게임은 되살리지 않는다
+        assertThat(gameResultWriter.pendingCount()).isEqualTo(1);
+        assertThat(handoffStore.take(GAME, "room-1")).isNull();
+        assertThat(handoffStore.take(MULTI_ROOM, "A-room")).isNull();
+    }
+
+    private GameJournal open() throws IOException {
+        GameJournal journal = new GameJournal(objectMapper, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "dir", dir.toString());
+        ReflectionTestUtils.setField(journal, "segmentBytes", 1 << 16);
+        ReflectionTestUtils.setField(journal, "fsyncIntervalMs", 1_000L);
+        ReflectionTestUtils.setField(journal, "retentionMs", 60_000L);
+        journal.init();
+        return journal;
+    }
+
+    private GameJournal recover() throws IOException {
+        return recover(RoomRegistryMode.LOCAL);
+    }
+
+    // 복구에 쓴 저널은 테스트가 끝날 때 닫는다
+    private GameJournal recover(RoomRegistryMode registryMode) throws IOException {
+        GameJournal journal = open();
+        journals.add(journal);
+        GameJournalRecovery recovery = new GameJournalRecovery(journal, handoffStore, roomRegistry, gameResultWriter,
+                objectMapper);
+        ReflectionTestUtils.setField(recovery, "registryMode", registryMode);
+        recovery.recover();
+        return journal;
+    }
+
+    private static Map<String, Object> question(int questionIndex, long deadline) {
+        return Map.of("questionIndex", questionIndex, "question", questionOf(questionIndex), "deadline", deadline);
+    }
+
+    private static Question questionOf(int questionIndex) {
+        return new Question("문제 " + questionIndex, List.of("1", "2", "3", "4"), "1");
+    }
+
+    private static Map<String, Object> answer(String email, int questionIndex, boolean accepted) {
+        return Map.of("email", email, "questionIndex", questionIndex, "index", "1",
+                "correct", accepted, "accepted", accepted, "answerMs", 500L);
+    }
+}
@@ -0,0 +1,68 @@
+package shop.buzzle.buzzle.game.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalSegmentTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsRecordsInAppendOrder() throws Exception {
+        Path path = dir.resolve("journal-0.log");
+        JournalSegment segment = JournalSegment.create(path, 1024);
+        segment.append(bytes("created"));
+        segment.append(bytes("joined"));
+        segment.close();
+
+        assertThat(JournalSegment.read(path)).extracting(JournalSegmentTest::text)
+                .containsExactly("created", "joined");
+    }
+
+    @Test
+    void rejectsRecordThatDoesNotFit() throws Exception {
+        Path path = dir.resolve("journal-0.log");
+        JournalSegment segment = JournalSegment.create(path, 32);
+
+        assertThat(segment.append(bytes("0123456789"))).isTrue();
+        assertThat(segment.append(bytes("0123456789"))).isFalse();
+        segment.close();
+
+        assertThat(JournalSegment.read(path)).hasSize(1);
+    }
+
+    @Test
+    void stopsAtTornRecord() throws Exception {
+        Path path = dir.resolve("journal-0.log");
+        JournalSegment segment = JournalSegment.create(path, 1024);
+        segment.append(bytes("started"));
+        segment.append(bytes("answer"));
+        int tornAt = segment.written() - 1;
+        segment.append(bytes("ended"));
+        segment.close();
+
+        // 두 번째 레코드 본문이 디스크에 절반만 내려간 경우
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(tornAt);
+            file.write(0);
+        }
+
+        List<byte[]> bodies = JournalSegment.read(path);
+        assertThat(bodies).extracting(JournalSegmentTest::text).containsExactly("started");
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] body) {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,84 @@
+package shop.buzzle.buzzle.global.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 10_000;
+    private static final int VIRTUAL_NODES = 160;
+
+    @Test
+    void addingNodeMovesKeysOnlyToNewNode() {
+        ConsistentHashRing<String> before = ring("node-a", "node-b", "node-c");
+        ConsistentHashRing<String> after = ring("node-a", "node-b", "node-c", "node-d");
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String key = "key-" + i;
+            String owner = after.nodeFor(key);
+            if (!owner.equals(before.nodeFor(key))) {
+                assertThat(owner).isEqualTo("node-d");
+                moved++;
+            }
+        }
+        // 네 번째 노드 몫(약 1/4)만 옮겨 간다
+        assertThat(moved).isBetween(KEYS / 8, KEYS * 3 / 8);
+    }
+
+    @Test
+    void removingNodeMovesOnlyItsKeys() {
+        ConsistentHashRing<String> before = ring("node-a", "node-b", "node-c");
+        ConsistentHashRing<String> after = ring("node-a", "node-b");
+
+        for (int i = 0; i < KEYS; i++) {
+            String key = "key-" + i;
+            String owner = before.nodeFor(key);
+            if (!owner.equals("node-c")) {
+                assertThat(after.nodeFor(key)).isEqualTo(owner);
+            }
+        }
+    }
+
+    @Test
+    void spreadsKeysEvenlyAcrossNodes() {
+        ConsistentHashRing<String> ring = ring("node-a", "node-b", "node-c");
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            counts.merge(ring.nodeFor("key-" + i), 1, Integer::sum);
+        }
+
+        assertThat(counts).containsKeys("node-a", "node-b", "node-c");
+        counts.values().forEach(count -> assertThat(count).isBetween(KEYS / 5, KEYS / 2));
+    }
+
+    @Test
+    void sameNodesInAnyOrderGiveSameOwners() {
+        ConsistentHashRing<String> ring = ring("node-a", "node-b", "node-c");
+        ConsistentHashRing<String> reordered = ring("node-c", "node-a", "node-b");
+
+        for (int i = 0; i < KEYS; i++) {
+            assertThat(reordered.nodeFor("key-" + i)).isEqualTo(ring.nodeFor("key-" + i));
+        }
+    }
+
+    @Test
+    void emptyRingRejectsLookup() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(Map.of(), VIRTUAL_NODES);
+
+        assertThatThrownBy(() -> ring.nodeFor("key")).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static ConsistentHashRing<String> ring(String... ids) {
+        Map<String, String> nodes = new LinkedHashMap<>();
+        for (String id : ids) {
+            nodes.put(id, id);
+        }
+        return new ConsistentHashRing<>(nodes, VIRTUAL_NODES);
+    }
+}
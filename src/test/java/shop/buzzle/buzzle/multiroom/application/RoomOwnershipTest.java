@@ -0,0 +1,87 @@
+package shop.buzzle.buzzle.multiroom.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import shop.buzzle.buzzle.global.cluster.ClusterMembership;
+import shop.buzzle.buzzle.global.cluster.ClusterMembership.Node;
+import shop.buzzle.buzzle.multiroom.domain.MultiRoom;
+import shop.buzzle.buzzle.multiroom.domain.registry.InMemoryRoomRegistry;
+import shop.buzzle.buzzle.multiroom.domain.registry.RoomRegistry;
+import shop.buzzle.buzzle.quiz.domain.QuizCategory;
+
+class RoomOwnershipTest {
+
+    private static final String THREE_NODES =
+            "node-a=http://10.0.0.11:8080,node-b=http://10.0.0.12:8080,node-c=http://10.0.0.13:8080";
+    private static final String FOUR_NODES = THREE_NODES + ",node-d=http://10.0.0.14:8080";
+
+    private final RoomRegistry roomRegistry = new InMemoryRoomRegistry();
+
+    @Test
+    void everyNodeAgreesOnShardOwners() {
+        RoomOwnership onA = ownership("node-a", THREE_NODES);
+        RoomOwnership onC = ownership("node-c", THREE_NODES);
+
+        for (char shard : RoomOwnership.SHARD_CHARS.toCharArray()) {
+            String inviteCode = shard + "BCDEF";
+            assertThat(onC.ownerOfInviteCode(inviteCode)).isEqualTo(onA.ownerOfInviteCode(inviteCode));
+        }
+    }
+
+    @Test
+    void addingNodeMovesShardsOnlyToNewNode() {
+        RoomOwnership before = ownership("node-a", THREE_NODES);
+        RoomOwnership after = ownership("node-a", FOUR_NODES);
+
+        for (char shard : RoomOwnership.SHARD_CHARS.toCharArray()) {
+            String roomId = after.newRoomId(shard);
+            Node owner = after.ownerOfRoom(roomId);
+            if (!owner.equals(before.ownerOfRoom(roomId))) {
+                assertThat(owner.id()).isEqualTo("node-d");
+            }
+        }
+    }
+
+    @Test
+    void roomsAreCreatedOnShardsOfLocalNode() {
+        RoomOwnership ownership = ownership("node-b", THREE_NODES);
+        Random random = new Random(3);
+
+        for (int i = 0; i < 100; i++) {
+            String roomId = ownership.newRoomId(ownership.pickLocalShard(random));
+            assertThat(ownership.isLocal(ownership.ownerOfRoom(roomId))).isTrue();
+        }
+    }
+
+    @Test
+    void legacyRoomIdResolvesThroughInviteCode() {
+        RoomOwnership ownership = ownership("node-a", THREE_NODES);
+        roomRegistry.register(new MultiRoom("legacy-room", "K12345", 4, QuizCategory.ALL, 5));
+
+        assertThat(ownership.ownerOfRoom("legacy-room")).isEqualTo(ownership.ownerOfInviteCode("K12345"));
+    }
+
+    @Test
+    void singleNodeOwnsEveryShard() {
+        RoomOwnership ownership = ownership("local", "");
+
+        for (char shard : RoomOwnership.SHARD_CHARS.toCharArray()) {
+            assertThat(ownership.isLocal(ownership.ownerOfInviteCode(shard + "BCDEF"))).isTrue();
+        }
+    }
+
+    private RoomOwnership ownership(String nodeId, String nodes) {
+        ClusterMembership membership = new ClusterMembership();
+        ReflectionTestUtils.setField(membership, "nodeId", nodeId);
+        ReflectionTestUtils.setField(membership, "nodes", nodes);
+        ReflectionTestUtils.setField(membership, "virtualNodes", 160);
+        membership.init();
+
+        RoomOwnership ownership = new RoomOwnership(membership, roomRegistry);
+        ownership.init();
+        return ownership;
+    }
+}
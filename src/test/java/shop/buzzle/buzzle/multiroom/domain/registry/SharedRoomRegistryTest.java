@@ -0,0 +1,166 @@
+package shop.buzzle.buzzle.multiroom.domain.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import shop.buzzle.buzzle.multiroom.domain.MultiRoom;
+import shop.buzzle.buzzle.quiz.domain.QuizCategory;
+
+// 같은 RoomStore 를 보는 SharedRoomRegistry 두 개를 서버 두 대로 본다
+class SharedRoomRegistryTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final RoomStore store = new LocalRoomStore();
+    private final RoomRegistry nodeA = new SharedRoomRegistry(store, objectMapper, 60_000, 3_600_000);
+    private final RoomRegistry nodeB = new SharedRoomRegistry(store, objectMapper, 60_000, 3_600_000);
+
+    @Test
+    void joinRoomCreatedOnAnotherNode() {
+        nodeA.register(new MultiRoom("room-1", "ABC123", 4, QuizCategory.ALL, 5));
+        nodeA.update("room-1", room -> {
+            room.setHost("host@buzzle.shop");
+            room.addPlayer("host@buzzle.shop");
+        });
+
+        String roomId = nodeB.findRoomId("ABC123");
+        MultiRoom joined = nodeB.update(roomId, room -> room.addPlayer("guest@buzzle.shop"));
+
+        assertThat(joined.getPlayerEmails()).containsExactly("host@buzzle.shop", "guest@buzzle.shop");
+        assertThat(nodeA.findById("room-1").getPlayerEmails()).containsExactly("host@buzzle.shop", "guest@buzzle.shop");
+    }
+
+    @Test
+    void rejectsInviteCodeAlreadyInUse() {
+        assertThat(nodeA.register(new MultiRoom("room-1", "ABC123", 4, QuizCategory.ALL, 5))).isTrue();
+        assertThat(nodeB.register(new MultiRoom("room-2", "ABC123", 4, QuizCategory.ALL, 5))).isFalse();
+        assertThat(nodeB.findById("room-2")).isNull();
+    }
+
+    @Test
+    void concurrentJoinsNeverExceedMaxPlayers() throws Exception {
+        nodeA.register(new MultiRoom("room-1", "ABC123", 4, QuizCategory.ALL, 5));
+        List<RoomRegistry> nodes = List.of(nodeA, nodeB);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            String email = "player" + i + "@buzzle.shop";
+            RoomRegistry node = nodes.get(i % 2);
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    node.update("room-1", room -> {
+                        if (!room.addPlayer(email)) {
+                            throw new IllegalStateException("full");
+                        }
+                    });
+                    return true;
+                } catch (IllegalStateException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int joined = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(10, TimeUnit.SECONDS)) {
+                joined++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(joined).isEqualTo(4);
+        assertThat(nodeB.findById("room-1").getPlayerEmails()).hasSize(4);
+    }
+
+    @Test
+    void startedRoomRejectsJoinFromAnotherNode() {
+        nodeA.register(new MultiRoom("room-1", "ABC123", 4, QuizCategory.ALL, 5));
+        nodeA.update("room-1", room -> {
+            room.setHost("host@buzzle.shop");
+            room.addPlayer("host@buzzle.shop");
+            room.addPlayer("guest@buzzle.shop");
+        });
+        nodeA.update("room-1", MultiRoom::startGame);
+
+        MultiRoom room = nodeB.update("room-1", r -> r.addPlayer("late@buzzle.shop"));
+
+        assertThat(room.isGameStarted()).isTrue();
+        assertThat(room.getPlayerEmails()).doesNotContain("late@buzzle.shop");
+    }
+
+    @Test
+    void changeThatThrowsIsNotApplied() {
+        nodeA.register(new MultiRoom("room-1", "ABC123", 1, QuizCategory.ALL, 5));
+        nodeA.update("room-1", room -> room.addPlayer("host@buzzle.shop"));
+
+        assertThatThrownBy(() -> nodeB.update("room-1", room -> {
+            room.addPlayer("guest@buzzle.shop");
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(nodeA.findById("room-1").getPlayerEmails()).containsExactly("host@buzzle.shop");
+    }
+
+    @Test
+    void nearCacheSeesLocalWritesAndRefreshesOnRead() {
+        nodeA.register(new MultiRoom("room-1", "ABC123", 4, QuizCategory.ALL, 5));
+        assertThat(nodeB.peek("room-1").getPlayerEmails()).isEmpty();
+
+        nodeA.update("room-1", room -> room.addPlayer("host@buzzle.shop"));
+
+        assertThat(nodeA.peek("room-1").getPlayerEmails()).containsExactly("host@buzzle.shop");
+        assertThat(nodeB.peek("room-1").getPlayerEmails()).isEmpty();
+        assertThat(nodeB.findById("room-1").getPlayerEmails()).containsExactly("host@buzzle.shop");
+        assertThat(nodeB.peek("room-1").getPlayerEmails()).containsExactly("host@buzzle.shop");
+    }
+
+    @Test
+    void removeReleasesInviteCode() {
+        nodeA.register(new MultiRoom("room-1", "ABC123", 4, QuizCategory.ALL, 5));
+        assertThat(nodeB.peekByInviteCode("ABC123")).isNotNull();
+
+        nodeA.remove("room-1");
+
+        assertThat(nodeB.findRoomId("ABC123")).isNull();
+        assertThat(nodeB.update("room-1", room -> room.addPlayer("guest@buzzle.shop"))).isNull();
+        assertThat(nodeA.register(new MultiRoom("room-2", "ABC123", 4, QuizCategory.ALL, 5))).isTrue();
+    }
+
+    @Test
+    void roomLeftByDeadNodeExpiresAndReleasesInviteCode() throws InterruptedException {
+        RoomRegistry deadNode = new SharedRoomRegistry(store, objectMapper, 0, 100);
+        deadNode.register(new MultiRoom("room-1", "ABC123", 4, QuizCategory.ALL, 5));
+
+        Thread.sleep(200);
+
+        assertThat(nodeB.findById("room-1")).isNull();
+        assertThat(nodeB.findRoomId("ABC123")).isNull();
+        assertThat(nodeB.register(new MultiRoom("room-2", "ABC123", 4, QuizCategory.ALL, 5))).isTrue();
+    }
+
+    @Test
+    void updateKeepsRoomAndInviteCodeAlive() throws InterruptedException {
+        RoomRegistry shortLived = new SharedRoomRegistry(store, objectMapper, 0, 500);
+        shortLived.register(new MultiRoom("room-1", "ABC123", 4, QuizCategory.ALL, 5));
+
+        Thread.sleep(300);
+        shortLived.update("room-1", room -> room.addPlayer("host@buzzle.shop"));
+        Thread.sleep(300);
+
+        // 처음 등록한 지 500ms 가 지났지만 중간에 바꿨으므로 두 키 모두 남아 있다
+        assertThat(shortLived.findRoomId("ABC123")).isEqualTo("room-1");
+        assertThat(shortLived.findById("room-1").getPlayerEmails()).containsExactly("host@buzzle.shop");
+    }
+}
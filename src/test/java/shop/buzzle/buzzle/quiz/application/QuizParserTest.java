@@ -0,0 +1,54 @@
+package shop.buzzle.buzzle.quiz.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import shop.buzzle.buzzle.quiz.api.dto.response.QuizResDto;
+
+class QuizParserTest {
+
+    @ParameterizedTest(name = "[{index}] {1}")
+    @MethodSource("corpus")
+    void parse(String raw, String expected) {
+        QuizParseResult result = QuizParser.parse(raw);
+
+        if (expected.startsWith("FAIL:")) {
+            assertThat(result.isSuccess()).isFalse();
+            assertThat(result.failure().name()).isEqualTo(expected.substring("FAIL:".length()));
+            return;
+        }
+
+        String[] fields = expected.split("\\|", -1);
+        QuizResDto quiz = result.quiz();
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(quiz.question()).isEqualTo(fields[0]);
+        assertThat(quiz.option1()).isEqualTo(fields[1]);
+        assertThat(quiz.option2()).isEqualTo(fields[2]);
+        assertThat(quiz.option3()).isEqualTo(fields[3]);
+        assertThat(quiz.option4()).isEqualTo(fields[4]);
+        assertThat(quiz.answer()).isEqualTo(fields[5]);
+    }
+
+    static Stream<Arguments> corpus() throws IOException {
+        String content;
+        try (InputStream in = QuizParserTest.class.getResourceAsStream("/quiz-parser-corpus.txt")) {
+            content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        String body = Arrays.stream(content.split("\n"))
+                .filter(line -> !line.startsWith("#"))
+                .reduce((a, b) -> a + "\n" + b)
+                .orElse("");
+
+        return Arrays.stream(body.split("=====\n?"))
+                .map(testCase -> testCase.split("-----\n"))
+                .map(parts -> Arguments.of(parts[0], parts[1].strip()));
+    }
+}
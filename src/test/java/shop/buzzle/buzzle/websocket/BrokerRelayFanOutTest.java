@@ -0,0 +1,200 @@
+package shop.buzzle.buzzle.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import shop.buzzle.buzzle.BuzzleApplication;
+import shop.buzzle.buzzle.global.entity.Status;
+import shop.buzzle.buzzle.global.jwt.TokenProvider;
+import shop.buzzle.buzzle.member.domain.Member;
+import shop.buzzle.buzzle.member.domain.SocialType;
+import shop.buzzle.buzzle.member.domain.repository.MemberRepository;
+import shop.buzzle.buzzle.websocket.event.BrokerAvailabilityListener;
+
+/**
+ * 서버 두 대를 relay 모드로 내장 브로커에 붙이고, 각 서버의 /chat 엔드포인트에 STOMP over WebSocket 클라이언트를 붙여
+ * 한 서버가 보낸 방 이벤트와 개인 큐 메시지가 다른 서버에 붙은 클라이언트까지 전달되는지 확인한다.
+ * 서버마다 H2 데이터베이스와 저널 디렉터리를 따로 쓴다.
+ * 서버 두 대를 띄우므로 기본 test 태스크에서는 제외되며 ./gradlew relayTest 로 실행한다.
+ */
+@Tag("relay")
+class BrokerRelayFanOutTest {
+
+    private static final long TIMEOUT_SECONDS = 15;
+
+    private static EmbeddedStompBroker broker;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    private static WebSocketStompClient stompClient;
+    private static final List<StompSession> sessions = new ArrayList<>();
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        broker = EmbeddedStompBroker.start();
+        nodeA = startNode("relay-a");
+        nodeB = startNode("relay-b");
+
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        stompClient.setDefaultHeartbeat(new long[]{0, 0});
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        sessions.forEach(session -> {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        });
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (broker != null) {
+            broker.close();
+        }
+    }
+
+    @Test
+    void gameTopicFromOneNodeReachesClientsOnEveryNode() throws Exception {
+        BlockingQueue<Map<String, Object>> onA = subscribe(connect(nodeA, "game-a@buzzle.shop"), "/topic/game/relay-room");
+        BlockingQueue<Map<String, Object>> onB = subscribe(connect(nodeB, "game-b@buzzle.shop"), "/topic/game/relay-room");
+
+        send(nodeA, "/topic/game/relay-room", Map.of("type", "RELAY_CHECK", "node", "A"));
+
+        assertThat(next(onA, "RELAY_CHECK")).containsEntry("node", "A");
+        assertThat(next(onB, "RELAY_CHECK")).containsEntry("node", "A");
+    }
+
+    @Test
+    void inviteRoomTopicFromOneNodeReachesClientOnAnotherNode() throws Exception {
+        BlockingQueue<Map<String, Object>> onA = subscribe(connect(nodeA, "room-a@buzzle.shop"), "/topic/room/RELAY1");
+
+        send(nodeB, "/topic/room/RELAY1", Map.of("type", "RELAY_CHECK", "node", "B"));
+
+        assertThat(next(onA, "RELAY_CHECK")).containsEntry("node", "B");
+    }
+
+    @Test
+    void userQueueResolvesToClientOnAnotherNode() throws Exception {
+        String email = "queue-b@buzzle.shop";
+        BlockingQueue<Map<String, Object>> onB = subscribe(connect(nodeB, email), "/user/queue/game");
+
+        // 서버 A 에는 이 사용자의 세션이 없으므로 브로커를 거쳐 서버 B 가 세션을 찾아 보낸다
+        nodeA.getBean(SimpMessageSendingOperations.class)
+                .convertAndSendToUser(email, "/queue/game", Map.of("type", "RELAY_CHECK", "node", "A"));
+
+        assertThat(next(onB, "RELAY_CHECK")).containsEntry("node", "A");
+    }
+
+    private static ConfigurableApplicationContext startNode(String name) throws InterruptedException {
+        // 프로필 설정보다 우선하도록 명령행 인자로 넘긴다
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BuzzleApplication.class)
+                .profiles("offline", "benchmark", "relay")
+                .run(
+                        "--server.port=0",
+                        "--cluster.node-id=" + name,
+                        "--spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--game.journal.dir=build/journal/" + name,
+                        "--websocket.broker.relay.port=" + broker.port()
+                );
+
+        // 시스템 연결이 붙어야 서버가 브로커로 메시지를 보낼 수 있다
+        BrokerAvailabilityListener availability = context.getBean(BrokerAvailabilityListener.class);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!availability.isAvailable() && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertThat(availability.isAvailable()).isTrue();
+        return context;
+    }
+
+    // 서버마다 데이터베이스가 따로이므로 접속할 서버에 회원을 만들고 그 서버가 발급한 토큰으로 붙는다
+    private static StompSession connect(ConfigurableApplicationContext node, String email) throws Exception {
+        node.getBean(MemberRepository.class).save(Member.builder()
+                .status(Status.ACTIVE)
+                .email(email)
+                .name(email)
+                .picture("")
+                .socialType(SocialType.KAKAO)
+                .introduction("")
+                .build());
+        String token = node.getBean(TokenProvider.class).generateAccessToken(email);
+        int port = node.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+        StompSession session = stompClient.connectAsync("ws://localhost:{port}/chat/websocket?authorization={token}",
+                        new StompSessionHandlerAdapter() {
+                        }, port, token)
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        session.setAutoReceipt(true);
+        sessions.add(session);
+        return session;
+    }
+
+    private static BlockingQueue<Map<String, Object>> subscribe(StompSession session, String destination)
+            throws InterruptedException {
+        BlockingQueue<Map<String, Object>> received = new LinkedBlockingQueue<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+
+        StompSession.Subscription subscription = session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((Map<String, Object>) payload);
+            }
+        });
+        subscription.addReceiptTask(subscribed::countDown);
+
+        assertThat(subscribed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        return received;
+    }
+
+    // 구독하면 서버가 방에 알리는 PLAYER_JOINED 같은 프레임은 건너뛰고 type 이 같은 프레임을 기다린다
+    private static Map<String, Object> next(BlockingQueue<Map<String, Object>> received, String type)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        Map<String, Object> frame;
+        while ((frame = received.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) != null) {
+            if (type.equals(frame.get("type"))) {
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    private static void send(ConfigurableApplicationContext node, String destination, Map<String, Object> payload) {
+        node.getBean(SimpMessageSendingOperations.class).convertAndSend(destination, payload);
+    }
+}
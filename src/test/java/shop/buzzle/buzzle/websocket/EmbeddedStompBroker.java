@@ -0,0 +1,56 @@
+package shop.buzzle.buzzle.websocket;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+
+/**
+ * relay 모드 테스트용 내장 STOMP 브로커 (ActiveMQ Artemis).
+ * /topic/ 은 모든 구독자에게 나눠 주는 multicast, /queue/ 는 한 구독자에게만 주는 anycast 로 매핑한다.
+ */
+public final class EmbeddedStompBroker implements AutoCloseable {
+
+    private final EmbeddedActiveMQ server;
+    private final int port;
+
+    private EmbeddedStompBroker(EmbeddedActiveMQ server, int port) {
+        this.server = server;
+        this.port = port;
+    }
+
+    public static EmbeddedStompBroker start() throws Exception {
+        int port = freePort();
+        Path dataDir = Files.createTempDirectory("stomp-broker");
+
+        Configuration configuration = new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .setBrokerInstance(dataDir.toFile())
+                .addAcceptorConfiguration("stomp",
+                        "tcp://localhost:" + port + "?protocols=STOMP;multicastPrefix=/topic/;anycastPrefix=/queue/");
+
+        EmbeddedActiveMQ server = new EmbeddedActiveMQ();
+        server.setConfiguration(configuration);
+        server.start();
+        return new EmbeddedStompBroker(server, port);
+    }
+
+    public int port() {
+        return port;
+    }
+
+    @Override
+    public void close() throws Exception {
+        server.stop();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}